@@ -5,6 +5,8 @@ import static edu.kit.kastel.mcse.ardoco.core.pipeline.Pipeline.runAndSave;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.apache.commons.cli.*;
 import org.slf4j.Logger;
@@ -23,6 +25,7 @@ public final class ArDoCoCLI {
     private static final String CMD_TEXT = "t";
     private static final String CMD_CONF = "c";
     private static final String CMD_OUT_DIR = "o";
+    private static final String CMD_TEXT_CACHE = "tc";
 
     private static Options options;
 
@@ -44,6 +47,7 @@ public final class ArDoCoCLI {
         // -t : Path to Text File
         // -c : Configuration Path (only property overrides)
         // -o : Output folder
+        // -tc : Cache folder for annotated texts
 
         CommandLine cmd;
         try {
@@ -59,11 +63,12 @@ public final class ArDoCoCLI {
             return;
         }
 
-        File inputText;
+        List<File> inputTexts = new ArrayList<>();
         File inputModelArchitecture;
         File inputModelCode;
         File additionalConfigs = null;
         File outputDir;
+        File textCacheDir = null;
 
         if (!cmd.hasOption(CMD_TEXT)) {
             printUsage();
@@ -71,7 +76,9 @@ public final class ArDoCoCLI {
         }
 
         try {
-            inputText = ensureFile(cmd.getOptionValue(CMD_TEXT));
+            for (var inputText : cmd.getOptionValues(CMD_TEXT)) {
+                inputTexts.add(ensureFile(inputText));
+            }
             inputModelArchitecture = ensureFile(cmd.getOptionValue(CMD_MODEL_ARCHITECTURE));
             inputModelCode = cmd.hasOption(CMD_MODEL_CODE) ? ensureFile(cmd.getOptionValue(CMD_MODEL_ARCHITECTURE)) : null;
             if (cmd.hasOption(CMD_CONF)) {
@@ -79,6 +86,9 @@ public final class ArDoCoCLI {
             }
 
             outputDir = ensureDir(cmd.getOptionValue(CMD_OUT_DIR));
+            if (cmd.hasOption(CMD_TEXT_CACHE)) {
+                textCacheDir = ensureDir(cmd.getOptionValue(CMD_TEXT_CACHE));
+            }
         } catch (IOException e) {
             logger.error(e.getMessage());
             return;
@@ -91,7 +101,7 @@ public final class ArDoCoCLI {
             return;
         }
         try {
-            runAndSave(name, inputText, inputModelArchitecture, inputModelCode, additionalConfigs, outputDir);
+            runAndSave(name, inputTexts, inputModelArchitecture, inputModelCode, additionalConfigs, outputDir, textCacheDir);
         } catch (Exception e) {
             logger.error(e.getMessage(), e);
         }
@@ -160,8 +170,10 @@ public final class ArDoCoCLI {
         opt.setType(String.class);
         options.addOption(opt);
 
-        opt = new Option(CMD_TEXT, "text", true, "path to the text file");
+        opt = new Option(CMD_TEXT, "text", true,
+                "paths to the text files or directories of text files (plain text or preprocessed *.txt.json); several documents are merged into one text");
         opt.setRequired(false);
+        opt.setArgs(Option.UNLIMITED_VALUES);
         opt.setType(String.class);
         options.addOption(opt);
 
@@ -175,6 +187,11 @@ public final class ArDoCoCLI {
         opt.setType(String.class);
         options.addOption(opt);
 
+        opt = new Option(CMD_TEXT_CACHE, "text-cache", true, "path to the cache directory for annotated texts");
+        opt.setRequired(false);
+        opt.setType(String.class);
+        options.addOption(opt);
+
         CommandLineParser parser = new DefaultParser();
         return parser.parse(options, args);
 
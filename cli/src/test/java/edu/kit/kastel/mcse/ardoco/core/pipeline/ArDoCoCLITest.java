@@ -1,16 +1,28 @@
 /* Licensed under MIT 2022. */
 package edu.kit.kastel.mcse.ardoco.core.pipeline;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import edu.kit.kastel.mcse.ardoco.core.text.providers.json.JsonTextConnector;
 
 class ArDoCoCLITest {
     private static final String OUTPUT = "src/test/resources/testout";
     private static final String TEXT = "../tests/src/test/resources/benchmark/teastore/teastore.txt";
     private static final String MODEL = "../tests/src/test/resources/benchmark/teastore/original_model/teastore.repository";
     private static final String NAME = "test_teastore";
+    private static final String TEXT_CACHE = "src/test/resources/testcache";
+    private static final String PREPROCESSED_TEXT = "../tests/src/test/resources/benchmark/teastore/teastore.txt.json";
+    private static final String OTHER_PREPROCESSED_TEXT = "../tests/src/test/resources/benchmark/mediastore/mediastore.txt.json";
 
     @BeforeAll
     public static void beforeAll() {
@@ -25,6 +37,70 @@ class ArDoCoCLITest {
         ArDoCoCLI.main(args);
     }
 
+    @Test
+    @DisplayName("Integration Test with provided text file and text cache")
+    void pipelineWithTextCacheIT(@TempDir Path textCache) throws IOException {
+        String[] args = { "-n", NAME, "-ma", MODEL, "-t", TEXT, "-o", OUTPUT, "-tc", TEXT_CACHE };
+        Assertions.assertNotNull(args);
+        ArDoCoCLI.main(args);
+
+        var annotatedData = Pipeline.runAndSave(NAME, new File(TEXT), new File(MODEL), null, null, null, textCache.toFile());
+        try (var files = Files.list(textCache)) {
+            Assertions.assertEquals(1, files.filter(file -> file.getFileName().toString().endsWith(".text.bin")).count());
+        }
+        var cachedData = Pipeline.runAndSave(NAME, new File(TEXT), new File(MODEL), null, null, null, textCache.toFile());
+        Assertions.assertEquals(annotatedData.getText().getLength(), cachedData.getText().getLength());
+        Assertions.assertEquals(annotatedData.getText().getSentences().size(), cachedData.getText().getSentences().size());
+    }
+
+    @Test
+    @DisplayName("Integration Test with several text files")
+    void pipelineWithSeveralTextsIT() throws IOException {
+        String[] args = { "-n", NAME, "-ma", MODEL, "-t", PREPROCESSED_TEXT, OTHER_PREPROCESSED_TEXT, "-o", OUTPUT };
+        Assertions.assertNotNull(args);
+        ArDoCoCLI.main(args);
+
+        var firstText = new JsonTextConnector(new File(PREPROCESSED_TEXT)).getAnnotatedText();
+        var secondText = new JsonTextConnector(new File(OTHER_PREPROCESSED_TEXT)).getAnnotatedText();
+        var data = Pipeline.runAndSave(NAME, List.of(new File(PREPROCESSED_TEXT), new File(OTHER_PREPROCESSED_TEXT)), new File(MODEL), null, null, null,
+                null);
+        Assertions.assertNotNull(data);
+        var mergedText = data.getText();
+        var sentences = mergedText.getSentences();
+        int firstSentences = firstText.getSentences().size();
+        Assertions.assertAll(//
+                () -> Assertions.assertEquals(firstText.getLength() + secondText.getLength(), mergedText.getLength()), //
+                () -> Assertions.assertEquals(firstSentences + secondText.getSentences().size(), sentences.size()), //
+                () -> Assertions.assertEquals(PREPROCESSED_TEXT, sentences.get(0).getDocumentName()), //
+                () -> Assertions.assertEquals(PREPROCESSED_TEXT, sentences.get(firstSentences - 1).getDocumentName()), //
+                () -> Assertions.assertEquals(OTHER_PREPROCESSED_TEXT, sentences.get(firstSentences).getDocumentName()), //
+                () -> Assertions.assertEquals(OTHER_PREPROCESSED_TEXT, sentences.getLast().getDocumentName()), //
+                () -> Assertions.assertEquals(secondText.getWords().get(0).getText(), mergedText.getWords().get(firstText.getLength()).getText()));
+
+        var duplicateTexts = List.of(new File(TEXT), new File(TEXT));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Pipeline.runAndSave(NAME, duplicateTexts, new File(MODEL), null, null, null, null));
+    }
+
+    @Test
+    @DisplayName("Integration Test with streaming annotation")
+    void pipelineWithStreamingIT(@TempDir Path configDirectory) throws IOException {
+        var config = Files.writeString(configDirectory.resolve("streaming.txt"), "CoreNLPProvider::streaming=true\n").toFile();
+        var data = Pipeline.runAndSave(NAME, new File(TEXT), new File(MODEL), null, config, null, null);
+        Assertions.assertNotNull(data);
+        Assertions.assertFalse(data.getText().getSentences().isEmpty());
+
+        var textCache = new File(TEXT_CACHE);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Pipeline.runAndSave(NAME, new File(TEXT), new File(MODEL), null, config, null, textCache));
+    }
+
+    @Test
+    @DisplayName("Integration Test with selective parsing and lazy phrases")
+    void pipelineWithSelectiveParsingAndLazyPhrasesIT(@TempDir Path configDirectory) throws IOException {
+        var config = Files.writeString(configDirectory.resolve("selective.txt"), "CoreNLPProvider::selectiveParsing=true\nCoreNLPProvider::lazyPhrases=true\n")
+                .toFile();
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Pipeline.runAndSave(NAME, new File(TEXT), new File(MODEL), null, config, null, null));
+    }
+
     @Test
     @DisplayName("Integration Test without provided text file")
     void pipelineWithProvidedWrongTextOntologyIT() {
@@ -1,9 +1,30 @@
 /* Licensed under MIT 2022. */
 package edu.kit.kastel.mcse.ardoco.core.api.agent;
 
+import java.util.List;
+
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.set.ImmutableSet;
+import org.eclipse.collections.api.set.MutableSet;
+
 import edu.kit.kastel.informalin.framework.configuration.AbstractConfigurable;
 import edu.kit.kastel.mcse.ardoco.core.api.data.IData;
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.AnnotationLayer;
 
 public abstract class AbstractAgent<D extends IData> extends AbstractConfigurable implements IAgent<D> {
 
+    /**
+     * Collects the annotation layers used by the given extractors. Agents that delegate to extractors can use this to
+     * implement {@link #getRequiredAnnotationLayers()}.
+     *
+     * @param extractors the enabled extractors
+     * @return the union of the used annotation layers
+     */
+    protected static ImmutableSet<AnnotationLayer> collectRequiredAnnotationLayers(List<? extends IAnnotationConsumer> extractors) {
+        MutableSet<AnnotationLayer> layers = Sets.mutable.empty();
+        for (var extractor : extractors) {
+            layers.addAllIterable(extractor.getRequiredAnnotationLayers());
+        }
+        return layers.toImmutable();
+    }
 }
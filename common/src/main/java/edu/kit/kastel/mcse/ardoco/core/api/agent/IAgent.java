@@ -3,7 +3,7 @@ package edu.kit.kastel.mcse.ardoco.core.api.agent;
 
 import edu.kit.kastel.mcse.ardoco.core.api.data.IData;
 
-public interface IAgent<D extends IData> extends IClaimant {
+public interface IAgent<D extends IData> extends IClaimant, IAnnotationConsumer {
     void execute(D data);
 
     default String getId() {
@@ -0,0 +1,29 @@
+/* Licensed under MIT 2022. */
+package edu.kit.kastel.mcse.ardoco.core.api.agent;
+
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.set.ImmutableSet;
+
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.AnnotationLayer;
+
+/**
+ * Declares which {@link AnnotationLayer annotation layers} of the text are used. The text provider only needs to create
+ * the layers that are used by any enabled consumer.
+ */
+public interface IAnnotationConsumer {
+    /**
+     * The layers used by consumers that work on words: POS tags, lemmas, and dependencies.
+     */
+    ImmutableSet<AnnotationLayer> WORD_ANNOTATION_LAYERS = Sets.immutable.with(AnnotationLayer.POS_TAGS, AnnotationLayer.LEMMAS,
+            AnnotationLayer.DEPENDENCIES);
+
+    /**
+     * Returns the annotation layers that are used. Consumers that use further layers (e.g., phrases) have to override
+     * this method.
+     *
+     * @return the used annotation layers
+     */
+    default ImmutableSet<AnnotationLayer> getRequiredAnnotationLayers() {
+        return WORD_ANNOTATION_LAYERS;
+    }
+}
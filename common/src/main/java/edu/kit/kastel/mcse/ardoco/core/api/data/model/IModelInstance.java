@@ -4,6 +4,7 @@ package edu.kit.kastel.mcse.ardoco.core.api.data.model;
 import org.eclipse.collections.api.list.ImmutableList;
 
 import edu.kit.kastel.informalin.framework.common.ICopyable;
+import edu.kit.kastel.mcse.ardoco.core.common.util.NormalizedTerm;
 
 /**
  * The Interface IModelInstance defines instances from models.
@@ -38,6 +39,33 @@ public interface IModelInstance extends ICopyable<IModelInstance> {
      */
     ImmutableList<String> getTypeParts();
 
+    /**
+     * Returns the normalized forms of the full name of the instance.
+     *
+     * @return the normalized full name
+     */
+    default NormalizedTerm getNormalizedFullName() {
+        return NormalizedTerm.of(getFullName());
+    }
+
+    /**
+     * Returns the normalized forms of the name parts of the instance.
+     *
+     * @return the normalized name parts, in the order of {@link #getNameParts()}
+     */
+    default ImmutableList<NormalizedTerm> getNormalizedNameParts() {
+        return NormalizedTerm.ofAll(getNameParts());
+    }
+
+    /**
+     * Returns the normalized forms of the type parts of the instance.
+     *
+     * @return the normalized type parts, in the order of {@link #getTypeParts()}
+     */
+    default ImmutableList<NormalizedTerm> getNormalizedTypeParts() {
+        return NormalizedTerm.ofAll(getTypeParts());
+    }
+
     /**
      * Returns the unique identifier of the instance.
      *
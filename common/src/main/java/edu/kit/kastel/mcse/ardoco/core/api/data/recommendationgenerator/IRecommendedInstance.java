@@ -4,6 +4,7 @@ package edu.kit.kastel.mcse.ardoco.core.api.data.recommendationgenerator;
 import edu.kit.kastel.informalin.framework.common.ICopyable;
 import edu.kit.kastel.mcse.ardoco.core.api.agent.IClaimant;
 import edu.kit.kastel.mcse.ardoco.core.api.data.textextraction.INounMapping;
+import edu.kit.kastel.mcse.ardoco.core.common.util.NormalizedTerm;
 import org.eclipse.collections.api.list.ImmutableList;
 
 /**
@@ -84,6 +85,15 @@ public interface IRecommendedInstance extends ICopyable<IRecommendedInstance> {
      */
     String getName();
 
+    /**
+     * Returns the normalized forms of the name of this recommended instance.
+     *
+     * @return the normalized name
+     */
+    default NormalizedTerm getNormalizedName() {
+        return NormalizedTerm.of(getName());
+    }
+
     /**
      * Sets the type of this recommended instance to the given type.
      *
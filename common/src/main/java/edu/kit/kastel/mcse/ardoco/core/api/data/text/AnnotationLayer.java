@@ -0,0 +1,26 @@
+/* Licensed under MIT 2022. */
+package edu.kit.kastel.mcse.ardoco.core.api.data.text;
+
+/**
+ * The layers of annotations a text provider can add to a text. Words and sentences are always available; the layers
+ * define which further information of words and sentences is available.
+ */
+public enum AnnotationLayer {
+    /**
+     * {@link IWord#getPosTag()}
+     */
+    POS_TAGS,
+    /**
+     * {@link IWord#getLemma()}
+     */
+    LEMMAS,
+    /**
+     * {@link IWord#getIncomingDependencyWordsWithType(DependencyTag)} and
+     * {@link IWord#getOutgoingDependencyWordsWithType(DependencyTag)}
+     */
+    DEPENDENCIES,
+    /**
+     * {@link ISentence#getPhrases()}, i.e., the constituency parse
+     */
+    PHRASES
+}
@@ -32,6 +32,16 @@ public interface ISentence {
      */
     String getText();
 
+    /**
+     * Returns the name of the document this sentence originates from. Texts that are merged from several documents
+     * keep the document of each sentence.
+     *
+     * @return the name of the originating document, or an empty string if the text has a single unnamed document
+     */
+    default String getDocumentName() {
+        return "";
+    }
+
     default boolean isEqualTo(ISentence other) {
         return other != null && this.getSentenceNumber() == other.getSentenceNumber() && other.getText().equals(this.getText());
     }
@@ -37,4 +37,16 @@ public interface IText {
      * @return the sentences of the text, ordered by appearance.
      */
     ImmutableList<ISentence> getSentences();
+
+    /**
+     * Materializes all lazily computed state of the text, i.e., its words, sentences, and phrases. Afterwards, the text
+     * and all of its words, sentences, and phrases are effectively immutable and can be read concurrently by any number
+     * of pipeline runs without locking. Texts without lazily computed state are returned as they are. Texts that parse
+     * phrases on demand may keep these phrases lazy, as long as computing them is thread-safe.
+     *
+     * @return this text, safe for concurrent use
+     */
+    default IText freeze() {
+        return this;
+    }
 }
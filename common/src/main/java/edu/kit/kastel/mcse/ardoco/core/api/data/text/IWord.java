@@ -3,6 +3,8 @@ package edu.kit.kastel.mcse.ardoco.core.api.data.text;
 
 import org.eclipse.collections.api.list.ImmutableList;
 
+import edu.kit.kastel.mcse.ardoco.core.common.util.NormalizedTerm;
+
 /**
  * The Interface IWord defines a word in a text.
  */
@@ -29,6 +31,15 @@ public interface IWord {
      */
     String getText();
 
+    /**
+     * Gets the normalized forms of the text of the word.
+     *
+     * @return the normalized text
+     */
+    default NormalizedTerm getNormalizedText() {
+        return NormalizedTerm.of(getText());
+    }
+
     /**
      * Gets the pos tag.
      *
@@ -79,4 +90,24 @@ public interface IWord {
      * @return the words that are dependent on this
      */
     ImmutableList<IWord> getIncomingDependencyWordsWithType(DependencyTag dependencyTag);
+
+    /**
+     * Checks whether this word has outgoing dependencies of the given type.
+     *
+     * @param dependencyTag the dependency tag
+     * @return <code>true</code> if there is at least one outgoing dependency of the given type
+     */
+    default boolean hasOutgoingDependencyWithType(DependencyTag dependencyTag) {
+        return !getOutgoingDependencyWordsWithType(dependencyTag).isEmpty();
+    }
+
+    /**
+     * Checks whether this word has incoming dependencies of the given type.
+     *
+     * @param dependencyTag the dependency tag
+     * @return <code>true</code> if there is at least one incoming dependency of the given type
+     */
+    default boolean hasIncomingDependencyWithType(DependencyTag dependencyTag) {
+        return !getIncomingDependencyWordsWithType(dependencyTag).isEmpty();
+    }
 }
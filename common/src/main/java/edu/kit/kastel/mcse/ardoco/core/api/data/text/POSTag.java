@@ -1,6 +1,9 @@
 /* Licensed under MIT 2021-2022. */
 package edu.kit.kastel.mcse.ardoco.core.api.data.text;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -25,6 +28,13 @@ public enum POSTag {
 	//@formatter:on
 
     private static final Logger logger = LoggerFactory.getLogger(POSTag.class);
+    private static final Map<String, POSTag> tagsByValue = new HashMap<>();
+
+    static {
+        for (POSTag posTag : values()) {
+            tagsByValue.put(posTag.getTag(), posTag);
+        }
+    }
 
     private final String tag;
 
@@ -59,10 +69,9 @@ public enum POSTag {
      * @throws IllegalArgumentException iff value was not found
      */
     public static POSTag get(String value) {
-        for (POSTag v : values()) {
-            if (value.equals(v.getTag())) {
-                return v;
-            }
+        var posTag = tagsByValue.get(value);
+        if (posTag != null) {
+            return posTag;
         }
         logger.error("Unknown part of speech: {}", value);
         throw new IllegalArgumentException("Unknown part of speech: " + value + ".");
@@ -1,6 +1,10 @@
 /* Licensed under MIT 2022. */
 package edu.kit.kastel.mcse.ardoco.core.api.data.text;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 public enum PhraseType {
     /** Adjective Phrase */
     ADJP,
@@ -64,12 +68,18 @@ public enum PhraseType {
     /** Root. Overarching the whole sentence. */
     ROOT;
 
-    public static PhraseType get(String type) {
+    private static final Map<String, PhraseType> typesByName = new HashMap<>();
+
+    static {
         for (var phraseType : PhraseType.values()) {
-            if (phraseType.toString().equalsIgnoreCase(type)) {
-                return phraseType;
-            }
+            typesByName.put(phraseType.toString().toUpperCase(Locale.ROOT), phraseType);
+        }
+    }
+
+    public static PhraseType get(String type) {
+        if (type == null) {
+            return X;
         }
-        return X;
+        return typesByName.getOrDefault(type.toUpperCase(Locale.ROOT), X);
     }
 }
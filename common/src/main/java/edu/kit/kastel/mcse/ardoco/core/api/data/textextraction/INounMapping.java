@@ -10,6 +10,7 @@ import edu.kit.kastel.informalin.framework.common.ICopyable;
 import edu.kit.kastel.mcse.ardoco.core.api.agent.IClaimant;
 import edu.kit.kastel.mcse.ardoco.core.api.data.Confidence;
 import edu.kit.kastel.mcse.ardoco.core.api.data.text.IWord;
+import edu.kit.kastel.mcse.ardoco.core.common.util.NormalizedTerm;
 
 /**
  * The Interface INounMapping defines the mapping .
@@ -73,6 +74,15 @@ public interface INounMapping extends ICopyable<INounMapping> {
      */
     String getReference();
 
+    /**
+     * Returns the normalized forms of the reference of this mapping.
+     *
+     * @return the normalized reference
+     */
+    default NormalizedTerm getNormalizedReference() {
+        return NormalizedTerm.of(getReference());
+    }
+
     /**
      * Returns the reference words
      *
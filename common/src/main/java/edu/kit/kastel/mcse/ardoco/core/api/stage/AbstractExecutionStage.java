@@ -1,13 +1,37 @@
 /* Licensed under MIT 2022. */
 package edu.kit.kastel.mcse.ardoco.core.api.stage;
 
+import java.util.List;
 import java.util.Map;
 
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.set.ImmutableSet;
+import org.eclipse.collections.api.set.MutableSet;
+
 import edu.kit.kastel.informalin.framework.configuration.AbstractConfigurable;
+import edu.kit.kastel.mcse.ardoco.core.api.agent.AbstractAgent;
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.AnnotationLayer;
 
 public abstract class AbstractExecutionStage extends AbstractConfigurable implements IExecutionStage {
     @Override
     protected final void delegateApplyConfigurationToInternalObjects(Map<String, String> additionalConfiguration) {
         // You should use #execute(DataStructure data, Map<String, String> additionalSettings)
     }
+
+    /**
+     * Collects the annotation layers used by the given agents after applying the settings to them.
+     *
+     * @param agents             the enabled agents
+     * @param additionalSettings the settings the agents will be executed with
+     * @return the union of the used annotation layers
+     */
+    protected static ImmutableSet<AnnotationLayer> collectRequiredAnnotationLayers(List<? extends AbstractAgent<?>> agents,
+            Map<String, String> additionalSettings) {
+        MutableSet<AnnotationLayer> layers = Sets.mutable.empty();
+        for (var agent : agents) {
+            agent.applyConfiguration(additionalSettings);
+            layers.addAllIterable(agent.getRequiredAnnotationLayers());
+        }
+        return layers.toImmutable();
+    }
 }
@@ -3,7 +3,11 @@ package edu.kit.kastel.mcse.ardoco.core.api.stage;
 
 import java.util.Map;
 
+import org.eclipse.collections.api.set.ImmutableSet;
+
+import edu.kit.kastel.mcse.ardoco.core.api.agent.IAnnotationConsumer;
 import edu.kit.kastel.mcse.ardoco.core.api.data.DataStructure;
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.AnnotationLayer;
 
 /**
  * The Interface IExecutionStage defines one execution stage of the approach.
@@ -13,4 +17,15 @@ public interface IExecutionStage {
      * Runs the agent with its analyzers and extractors.
      */
     void execute(DataStructure data, Map<String, String> additionalSettings);
+
+    /**
+     * Returns the annotation layers of the text that are used by this stage with the given settings, i.e., by its
+     * enabled agents and extractors.
+     *
+     * @param additionalSettings the settings the stage will be executed with
+     * @return the used annotation layers
+     */
+    default ImmutableSet<AnnotationLayer> getRequiredAnnotationLayers(Map<String, String> additionalSettings) {
+        return IAnnotationConsumer.WORD_ANNOTATION_LAYERS;
+    }
 }
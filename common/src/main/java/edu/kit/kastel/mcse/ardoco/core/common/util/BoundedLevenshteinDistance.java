@@ -0,0 +1,109 @@
+/* Licensed under MIT 2022. */
+package edu.kit.kastel.mcse.ardoco.core.common.util;
+
+/**
+ * Checks whether the Levenshtein distance of two strings is within a bound. Only the diagonal band of the distance
+ * matrix that can stay within the bound is computed, and the computation stops as soon as a whole row exceeds the
+ * bound. Strings whose lengths differ by more than the bound are rejected without computing any row. The rows and the
+ * characters of the strings are kept in buffers per thread, so a check does not allocate.
+ */
+final class BoundedLevenshteinDistance {
+    private static final int OUT_OF_BAND = Integer.MAX_VALUE / 2;
+    private static final ThreadLocal<Buffers> buffers = ThreadLocal.withInitial(Buffers::new);
+
+    private BoundedLevenshteinDistance() {
+        throw new IllegalAccessError();
+    }
+
+    /**
+     * Checks whether the Levenshtein distance of the given strings is at most the given bound. The result is the same
+     * as comparing the full distance with the bound.
+     *
+     * @param first       the first string
+     * @param second      the second string
+     * @param maxDistance the bound
+     * @return true, iff the distance of the strings is at most the bound
+     */
+    static boolean isWithin(String first, String second, int maxDistance) {
+        if (maxDistance < 0) {
+            return false;
+        }
+        // the row holds the shorter string, so it is as short as possible
+        var shorter = first.length() <= second.length() ? first : second;
+        var longer = shorter == first ? second : first;
+        int n = shorter.length();
+        int m = longer.length();
+        if (m - n > maxDistance) {
+            return false;
+        }
+        if (n == 0) {
+            return true;
+        }
+
+        var buffer = buffers.get().ensureCapacity(n, m);
+        char[] s = buffer.shorter;
+        char[] t = buffer.longer;
+        shorter.getChars(0, n, s, 0);
+        longer.getChars(0, m, t, 0);
+
+        int[] previous = buffer.previous;
+        int[] current = buffer.current;
+        int initialized = Math.min(n, maxDistance);
+        for (int i = 0; i <= initialized; i++) {
+            previous[i] = i;
+        }
+        for (int i = initialized + 1; i <= n; i++) {
+            previous[i] = OUT_OF_BAND;
+        }
+
+        for (int j = 1; j <= m; j++) {
+            char tj = t[j - 1];
+            current[0] = j;
+            int min = Math.max(1, j - maxDistance);
+            int max = (int) Math.min(n, (long) j + maxDistance);
+            if (min > 1) {
+                current[min - 1] = OUT_OF_BAND;
+            }
+            int rowMin = min == 1 ? j : OUT_OF_BAND;
+            for (int i = min; i <= max; i++) {
+                int cost;
+                if (s[i - 1] == tj) {
+                    cost = previous[i - 1];
+                } else {
+                    cost = 1 + Math.min(Math.min(current[i - 1], previous[i]), previous[i - 1]);
+                }
+                current[i] = cost;
+                rowMin = Math.min(rowMin, cost);
+            }
+            if (max < n) {
+                current[max + 1] = OUT_OF_BAND;
+            }
+            if (rowMin > maxDistance) {
+                return false;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[n] <= maxDistance;
+    }
+
+    private static final class Buffers {
+        private char[] shorter = new char[32];
+        private char[] longer = new char[32];
+        private int[] previous = new int[33];
+        private int[] current = new int[33];
+
+        private Buffers ensureCapacity(int shorterLength, int longerLength) {
+            if (shorter.length < shorterLength) {
+                shorter = new char[shorterLength];
+                previous = new int[shorterLength + 1];
+                current = new int[shorterLength + 1];
+            }
+            if (longer.length < longerLength) {
+                longer = new char[longerLength];
+            }
+            return this;
+        }
+    }
+}
@@ -161,11 +161,7 @@ public final class CommonUtilities {
      * @return reference with whitespaces instead of separators
      */
     public static ImmutableList<String> splitAtSeparators(String reference) {
-        var ref = reference;
-        for (String sep : CommonTextToolsConfig.SEPARATORS_TO_SPLIT) {
-            ref = ref.replaceAll(sep, " ");
-        }
-        return Lists.immutable.withAll(Lists.immutable.with(ref.split(" ")));
+        return IdentifierTokenizer.splitAtSeparators(reference);
     }
 
     /**
@@ -212,8 +208,8 @@ public final class CommonUtilities {
      * @return List of type names in the model state that are similar to the given word
      */
     public static ImmutableList<String> getSimilarTypes(IWord word, IModelState modelState) {
-        var identifiers = getTypeIdentifiers(modelState);
-        return Lists.immutable.fromStream(identifiers.stream().filter(typeId -> SimilarityUtils.areWordsSimilar(typeId, word.getText())));
+        var candidates = ModelStateIndex.of(modelState).getTypeIdentifierCandidates(word.getText());
+        return candidates.select(typeId -> SimilarityUtils.areWordsSimilar(typeId, word.getText()));
     }
 
     /**
@@ -242,11 +238,7 @@ public final class CommonUtilities {
      * @return the name split at snake and kebab case
      */
     public static String splitSnakeAndKebabCase(String name) {
-        var joiner = new StringJoiner(" ");
-        for (String namePart : name.split("[-_]")) {
-            joiner.add(namePart);
-        }
-        return joiner.toString().replaceAll("\\s+", " ");
+        return IdentifierTokenizer.splitSnakeAndKebabCase(name);
     }
 
     /**
@@ -256,11 +248,7 @@ public final class CommonUtilities {
      * @return the name split at camel case
      */
     public static String splitCamelCase(String name) {
-        var joiner = new StringJoiner(" ");
-        for (String namePart : name.split("(?<!(^|[A-Z]))(?=[A-Z])|(?<!^)(?=[A-Z][a-z])")) {
-            joiner.add(namePart);
-        }
-        return joiner.toString().replaceAll("\\s+", " ");
+        return IdentifierTokenizer.splitCamelCase(name);
     }
 
     /**
@@ -270,7 +258,7 @@ public final class CommonUtilities {
      * @return the split name
      */
     public static String splitCases(String name) {
-        return splitCamelCase(splitSnakeAndKebabCase(name));
+        return IdentifierTokenizer.splitCases(name);
     }
 
     /**
@@ -349,10 +337,11 @@ public final class CommonUtilities {
      * @return <code>true</code> if the word is CamelCased and has a length greater than 4
      */
     public static boolean isCamelCasedWord(String word) {
-        if (word.toUpperCase().equals(word)) {
+        // the cheap checks come first, the upper-cased word is only created for camel-cased words
+        if (word.length() <= 4 || !nameIsCamelCased(word)) {
             return false;
         }
-        return word.length() > 4 && nameIsCamelCased(word);
+        return !word.toUpperCase().equals(word);
     }
 
     /**
@@ -0,0 +1,203 @@
+/* Licensed under MIT 2022. */
+package edu.kit.kastel.mcse.ardoco.core.common.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
+
+/**
+ * Splits identifiers at camel, snake, and kebab cases and at the configured separators without regular expressions.
+ * The results are the same as the ones of the former regular expressions of {@link CommonUtilities}: a part of a camel
+ * case starts at an upper-case letter that follows a character that is not an upper-case letter or that is followed by
+ * a lower-case letter; snake and kebab cases are split at underscores and hyphens, where trailing ones are dropped; runs
+ * of whitespace are collapsed into single spaces. Each name is scanned once, and names that do not change are returned
+ * as they are. The results of recent names are kept in bounded caches, as the same names are split for many words.
+ */
+final class IdentifierTokenizer {
+    private static final int MAX_CACHED_NAMES = 1 << 15;
+    private static final String REGEX_META_CHARACTERS = "\\^$.|?*+()[]{}";
+    private static final ImmutableList<UnaryOperator<String>> SEPARATOR_REPLACEMENTS = CommonTextToolsConfig.SEPARATORS_TO_SPLIT
+            .collect(IdentifierTokenizer::createSeparatorReplacement);
+
+    private static final Map<String, String> camelCaseSplits = new ConcurrentHashMap<>();
+    private static final Map<String, String> snakeAndKebabCaseSplits = new ConcurrentHashMap<>();
+    private static final Map<String, String> caseSplits = new ConcurrentHashMap<>();
+    private static final Map<String, ImmutableList<String>> separatorSplits = new ConcurrentHashMap<>();
+
+    private IdentifierTokenizer() {
+        throw new IllegalAccessError();
+    }
+
+    /**
+     * Splits the given name at camel cases, see {@link CommonUtilities#splitCamelCase(String)}.
+     *
+     * @param name the name
+     * @return the split name
+     */
+    static String splitCamelCase(String name) {
+        return getOrCompute(camelCaseSplits, name, n -> split(n, true, false));
+    }
+
+    /**
+     * Splits the given name at snake and kebab cases, see {@link CommonUtilities#splitSnakeAndKebabCase(String)}.
+     *
+     * @param name the name
+     * @return the split name
+     */
+    static String splitSnakeAndKebabCase(String name) {
+        return getOrCompute(snakeAndKebabCaseSplits, name, n -> split(n, false, true));
+    }
+
+    /**
+     * Splits the given name at snake and kebab cases and then at camel cases in one scan, see
+     * {@link CommonUtilities#splitCases(String)}.
+     *
+     * @param name the name
+     * @return the split name
+     */
+    static String splitCases(String name) {
+        return getOrCompute(caseSplits, name, n -> split(n, true, true));
+    }
+
+    /**
+     * Splits the given name at the configured separators, see {@link CommonUtilities#splitAtSeparators(String)}.
+     *
+     * @param name the name
+     * @return the parts of the name
+     */
+    static ImmutableList<String> splitAtSeparators(String name) {
+        return getOrCompute(separatorSplits, name, IdentifierTokenizer::computeSeparatorSplit);
+    }
+
+    private static <V> V getOrCompute(Map<String, V> cache, String name, Function<String, V> computation) {
+        var cached = cache.get(name);
+        if (cached != null) {
+            return cached;
+        }
+        var computed = computation.apply(name);
+        if (cache.size() >= MAX_CACHED_NAMES) {
+            cache.clear();
+        }
+        cache.put(name, computed);
+        return computed;
+    }
+
+    private static String split(String name, boolean atCamelCase, boolean atSnakeAndKebabCase) {
+        int end = name.length();
+        if (atSnakeAndKebabCase) {
+            while (end > 0 && isSnakeOrKebabSeparator(name.charAt(end - 1))) {
+                end--;
+            }
+        }
+
+        // the split name is only copied when it starts to differ from the name
+        StringBuilder split = end == name.length() ? null : new StringBuilder(end);
+        boolean afterSpace = false;
+        for (int i = 0; i < end; i++) {
+            char character = name.charAt(i);
+            if (atCamelCase && isCamelCaseBoundary(name, i) && !afterSpace) {
+                split = startCopy(split, name, i).append(' ');
+                afterSpace = true;
+            }
+
+            boolean separator = atSnakeAndKebabCase && isSnakeOrKebabSeparator(character);
+            if (separator || isWhitespace(character)) {
+                if (afterSpace || character != ' ') {
+                    split = startCopy(split, name, i);
+                    if (!afterSpace) {
+                        split.append(' ');
+                    }
+                } else if (split != null) {
+                    split.append(' ');
+                }
+                afterSpace = true;
+            } else {
+                if (split != null) {
+                    split.append(character);
+                }
+                afterSpace = false;
+            }
+        }
+        return split == null ? name : split.toString();
+    }
+
+    private static StringBuilder startCopy(StringBuilder split, String name, int position) {
+        if (split != null) {
+            return split;
+        }
+        return new StringBuilder(name.length() + 8).append(name, 0, position);
+    }
+
+    private static boolean isCamelCaseBoundary(String name, int position) {
+        if (position == 0 || !isUpperCase(name.charAt(position))) {
+            return false;
+        }
+        return !isUpperCase(name.charAt(position - 1)) || position + 1 < name.length() && isLowerCase(name.charAt(position + 1));
+    }
+
+    private static boolean isUpperCase(char character) {
+        return character >= 'A' && character <= 'Z';
+    }
+
+    private static boolean isLowerCase(char character) {
+        return character >= 'a' && character <= 'z';
+    }
+
+    private static boolean isSnakeOrKebabSeparator(char character) {
+        return character == '_' || character == '-';
+    }
+
+    /**
+     * Checks for the whitespace characters of the regular expression class <code>\s</code>.
+     */
+    private static boolean isWhitespace(char character) {
+        return character == ' ' || character == '\t' || character == '\n' || character == '\u000B' || character == '\f' || character == '\r';
+    }
+
+    private static ImmutableList<String> computeSeparatorSplit(String name) {
+        var replaced = name;
+        for (var replacement : SEPARATOR_REPLACEMENTS) {
+            replaced = replacement.apply(replaced);
+        }
+        return Lists.immutable.with(replaced.split(" "));
+    }
+
+    /**
+     * Creates the replacement of a configured separator with a space. Separators are regular expressions; those that
+     * only match a literal string are replaced without regular expressions.
+     */
+    private static UnaryOperator<String> createSeparatorReplacement(String separator) {
+        var literal = getLiteral(separator);
+        if (literal != null) {
+            return name -> name.replace(literal, " ");
+        }
+        var pattern = Pattern.compile(separator);
+        return name -> pattern.matcher(name).replaceAll(" ");
+    }
+
+    /**
+     * Returns the string that the given regular expression matches, or <code>null</code> if it is no literal.
+     */
+    private static String getLiteral(String regex) {
+        var literal = new StringBuilder(regex.length());
+        for (int i = 0; i < regex.length(); i++) {
+            char character = regex.charAt(i);
+            if (character == '\\') {
+                if (i + 1 == regex.length() || Character.isLetterOrDigit(regex.charAt(i + 1))) {
+                    return null;
+                }
+                literal.append(regex.charAt(++i));
+            } else if (REGEX_META_CHARACTERS.indexOf(character) >= 0) {
+                return null;
+            } else {
+                literal.append(character);
+            }
+        }
+        return literal.toString();
+    }
+}
@@ -0,0 +1,140 @@
+/* Licensed under MIT 2022. */
+package edu.kit.kastel.mcse.ardoco.core.common.util;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.map.primitive.MutableObjectIntMap;
+import org.eclipse.collections.api.multimap.list.ImmutableListMultimap;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.impl.factory.primitive.ObjectIntMaps;
+
+import edu.kit.kastel.mcse.ardoco.core.api.data.model.IModelInstance;
+import edu.kit.kastel.mcse.ardoco.core.api.data.model.IModelState;
+
+/**
+ * Indexes the names and types of the instances of a {@link IModelState} with {@link SimilarTermIndex}es, so that the
+ * instances that might be similar to a word are found without comparing the word with every instance. The methods
+ * return candidates in the order of the model state; callers still have to check them with {@link SimilarityUtils}.
+ * The index of a model state is kept until the instances of the state change or
+ * {@link SimilarityUtils#clearCaches()} is called.
+ */
+public final class ModelStateIndex {
+    private static final Map<IModelState, ModelStateIndex> indices = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final ImmutableList<IModelInstance> instances;
+    private final int numberOfInstanceTypes;
+    private final SimilarTermIndex<IModelInstance> nameIndex;
+    private final SimilarTermIndex<IModelInstance> typeIndex;
+    private final SimilarTermIndex<String> typeIdentifierIndex;
+    private final ImmutableListMultimap<String, IModelInstance> instancesByCaseFoldedName;
+    private final MutableObjectIntMap<IModelInstance> positions;
+
+    private ModelStateIndex(IModelState modelState) {
+        instances = modelState.getInstances();
+        numberOfInstanceTypes = modelState.getInstanceTypes().size();
+        // the terms that SimilarityUtils compares with words and noun mappings
+        nameIndex = SimilarTermIndex.of(instances,
+                instance -> Lists.mutable.withAll(instance.getNameParts()).with(String.join(" ", instance.getNameParts())).with(instance.getFullName()));
+        typeIndex = SimilarTermIndex.of(instances, instance -> Lists.mutable.withAll(instance.getTypeParts()).with(String.join(" ", instance.getTypeParts())));
+        typeIdentifierIndex = SimilarTermIndex.of(Lists.immutable.withAll(CommonUtilities.getTypeIdentifiers(modelState)), Lists.immutable::with);
+        instancesByCaseFoldedName = instances.groupBy(instance -> foldCase(instance.getFullName()));
+        positions = ObjectIntMaps.mutable.empty();
+        instances.forEachWithIndex((instance, position) -> positions.getIfAbsentPut(instance, position));
+    }
+
+    /**
+     * Returns the index of the given model state. The index is created if the state was not indexed yet or if its
+     * instances changed since.
+     *
+     * @param modelState the model state
+     * @return the index of the model state
+     */
+    public static ModelStateIndex of(IModelState modelState) {
+        var index = indices.get(modelState);
+        if (index == null || !index.isIndexOf(modelState)) {
+            // concurrently created indices of the same state are equal
+            index = new ModelStateIndex(modelState);
+            indices.put(modelState, index);
+        }
+        return index;
+    }
+
+    /**
+     * Drops the indices of all model states.
+     */
+    static void clearCache() {
+        indices.clear();
+    }
+
+    private boolean isIndexOf(IModelState modelState) {
+        return instances == modelState.getInstances() && numberOfInstanceTypes == modelState.getInstanceTypes().size();
+    }
+
+    /**
+     * Returns the instances whose name parts, joined name parts, or full name might be similar to the given word.
+     *
+     * @param word the word
+     * @return the candidate instances
+     */
+    public ImmutableList<IModelInstance> getNameCandidates(String word) {
+        return nameIndex.getCandidates(word);
+    }
+
+    /**
+     * Returns the instances whose type parts or joined type parts might be similar to the given word.
+     *
+     * @param word the word
+     * @return the candidate instances
+     */
+    public ImmutableList<IModelInstance> getTypeCandidates(String word) {
+        return typeIndex.getCandidates(word);
+    }
+
+    /**
+     * Returns the type identifiers of {@link CommonUtilities#getTypeIdentifiers(IModelState)} that might be similar to
+     * the given word, in the iteration order of the identifiers.
+     *
+     * @param word the word
+     * @return the candidate type identifiers
+     */
+    public ImmutableList<String> getTypeIdentifierCandidates(String word) {
+        return typeIdentifierIndex.getCandidates(word);
+    }
+
+    /**
+     * Returns the instances whose full name equals the given name, ignoring case as {@link String#equalsIgnoreCase}.
+     *
+     * @param name the name
+     * @return the instances with the name
+     */
+    public ImmutableList<IModelInstance> getInstancesWithNameIgnoringCase(String name) {
+        return instancesByCaseFoldedName.get(foldCase(name));
+    }
+
+    /**
+     * Returns the given instances of the model state without duplicates and in the order of the model state, e.g., to
+     * merge the candidates of several words. Instances that are not in the model state are dropped.
+     *
+     * @param candidates the instances of the model state
+     * @return the instances in the order of the model state
+     */
+    public ImmutableList<IModelInstance> inModelOrder(Iterable<IModelInstance> candidates) {
+        MutableSet<IModelInstance> distinctCandidates = Sets.mutable.withAll(candidates).select(positions::containsKey);
+        return distinctCandidates.toList().sortThisByInt(positions::get).toImmutable();
+    }
+
+    /**
+     * Maps each character to the lower case of its upper case, so that strings that are equal ignoring case are mapped
+     * to the same string.
+     */
+    private static String foldCase(String name) {
+        var folded = new StringBuilder(name.length());
+        name.codePoints().map(codePoint -> Character.toLowerCase(Character.toUpperCase(codePoint))).forEach(folded::appendCodePoint);
+        return folded.toString();
+    }
+}
@@ -0,0 +1,132 @@
+/* Licensed under MIT 2022. */
+package edu.kit.kastel.mcse.ardoco.core.common.util;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
+
+/**
+ * The normalized forms of a term that are used to compare terms, e.g., by {@link SimilarityUtils}. The lower-cased term
+ * and its tokens are computed on creation; the splits at separators and at cases are computed when they are first
+ * requested. Objects whose names never change, like words, noun mappings, and model instances, keep their normalized
+ * terms, so the forms are computed once per object instead of once per comparison. Normalized terms are immutable and
+ * can be shared by threads.
+ */
+public final class NormalizedTerm {
+    private final String original;
+    private final String lowerCase;
+    private final ImmutableList<String> tokens;
+    private volatile ImmutableList<String> separatorSplit;
+    private volatile String caseSplit;
+
+    private NormalizedTerm(String original) {
+        this.original = original;
+        lowerCase = original.toLowerCase();
+        tokens = Lists.immutable.with(lowerCase.split(" "));
+    }
+
+    /**
+     * Creates the normalized forms of the given term.
+     *
+     * @param original the term
+     * @return the normalized term, or <code>null</code> if the given term is <code>null</code>
+     */
+    public static NormalizedTerm of(String original) {
+        if (original == null) {
+            return null;
+        }
+        return new NormalizedTerm(original);
+    }
+
+    /**
+     * Creates the normalized forms of the given terms.
+     *
+     * @param originals the terms
+     * @return the normalized terms in the same order
+     */
+    public static ImmutableList<NormalizedTerm> ofAll(ImmutableList<String> originals) {
+        return originals.collect(NormalizedTerm::of);
+    }
+
+    /**
+     * Returns the term as it was given.
+     *
+     * @return the original term
+     */
+    public String getOriginal() {
+        return original;
+    }
+
+    /**
+     * Returns the lower-cased term.
+     *
+     * @return the lower-cased term
+     */
+    public String getLowerCase() {
+        return lowerCase;
+    }
+
+    /**
+     * Returns the tokens of the lower-cased term, i.e., the term split at spaces.
+     *
+     * @return the tokens
+     */
+    public ImmutableList<String> getTokens() {
+        return tokens;
+    }
+
+    /**
+     * Returns the term split at separators, see {@link CommonUtilities#splitAtSeparators(String)}.
+     *
+     * @return the parts of the term
+     */
+    public ImmutableList<String> getSeparatorSplit() {
+        var currentSplit = separatorSplit;
+        if (currentSplit == null) {
+            // the split only depends on the term, so concurrently computed splits are equal
+            currentSplit = CommonUtilities.splitAtSeparators(original);
+            separatorSplit = currentSplit;
+        }
+        return currentSplit;
+    }
+
+    /**
+     * Returns the term split at camel, snake, and kebab cases, see {@link CommonUtilities#splitCases(String)}.
+     *
+     * @return the split term
+     */
+    public String getCaseSplit() {
+        var currentSplit = caseSplit;
+        if (currentSplit == null) {
+            currentSplit = CommonUtilities.splitCases(original);
+            caseSplit = currentSplit;
+        }
+        return currentSplit;
+    }
+
+    /**
+     * Returns the length of the original term.
+     *
+     * @return the length
+     */
+    public int length() {
+        return original.length();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof NormalizedTerm term && original.equals(term.original);
+    }
+
+    @Override
+    public int hashCode() {
+        return original.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return original;
+    }
+}
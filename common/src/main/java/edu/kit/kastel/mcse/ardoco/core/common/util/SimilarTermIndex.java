@@ -0,0 +1,366 @@
+/* Licensed under MIT 2022. */
+package edu.kit.kastel.mcse.ardoco.core.common.util;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.list.primitive.MutableIntList;
+import org.eclipse.collections.api.map.primitive.MutableCharObjectMap;
+import org.eclipse.collections.api.map.primitive.MutableIntObjectMap;
+import org.eclipse.collections.api.map.primitive.MutableLongObjectMap;
+import org.eclipse.collections.api.map.primitive.MutableObjectIntMap;
+import org.eclipse.collections.api.set.primitive.MutableIntSet;
+import org.eclipse.collections.impl.factory.primitive.CharObjectMaps;
+import org.eclipse.collections.impl.factory.primitive.IntLists;
+import org.eclipse.collections.impl.factory.primitive.IntObjectMaps;
+import org.eclipse.collections.impl.factory.primitive.IntSets;
+import org.eclipse.collections.impl.factory.primitive.LongObjectMaps;
+import org.eclipse.collections.impl.factory.primitive.ObjectIntMaps;
+
+/**
+ * An inverted index over the terms of values, e.g., the name parts of model instances, that finds the values with a
+ * term that might be similar to a query according to {@link SimilarityUtils#areWordsSimilar(String, String, double)}.
+ * The index only sorts out terms that cannot be similar, so callers still check the returned candidates, but they no
+ * longer compare the query with every term.
+ * <p>
+ * Terms within the Levenshtein distance of the query share a minimal number of padded trigrams with the lower-cased
+ * query, so they share one of the rarest trigrams of the query. Trigrams do not bound the Jaro-Winkler similarity,
+ * though. Instead, terms that can reach the similarity threshold share a minimal number of characters with the query,
+ * so they are found by the rarest characters of the query in the same way. The index is immutable and can be queried
+ * by multiple threads.
+ *
+ * @param <T> the type of the values
+ */
+public final class SimilarTermIndex<T> {
+    private static final int TRIGRAM_LENGTH = 3;
+    private static final char PADDING = '\uFFFF';
+    /**
+     * The Jaro similarity from which on the Jaro-Winkler similarity boosts common prefixes.
+     */
+    private static final double PREFIX_BOOST_THRESHOLD = 0.7;
+    /**
+     * The maximal boost of a common prefix, i.e., the scaling factor of 0.1 times the maximal prefix length of 4.
+     */
+    private static final double MAX_PREFIX_BOOST = 0.4;
+    private static final double EPSILON = 1e-9;
+    private static final int NO_TERM = -1;
+
+    private final ImmutableList<T> values;
+    private final MutableObjectIntMap<String> termIds = ObjectIntMaps.mutable.empty();
+    private final MutableList<NormalizedTerm> terms = Lists.mutable.empty();
+    private final MutableList<MutableIntList> valueIdsOfTerms = Lists.mutable.empty();
+    private final MutableList<char[]> charactersOfTerms = Lists.mutable.empty();
+    private final MutableList<long[]> trigramsOfTerms = Lists.mutable.empty();
+    private final MutableCharObjectMap<MutableIntList> characterPostings = CharObjectMaps.mutable.empty();
+    private final MutableLongObjectMap<MutableIntList> trigramPostings = LongObjectMaps.mutable.empty();
+    private final MutableIntObjectMap<MutableIntList> termsByLowerCaseLength = IntObjectMaps.mutable.empty();
+
+    private SimilarTermIndex(ImmutableList<T> values, Function<? super T, ? extends Iterable<String>> termsOfValue) {
+        this.values = values;
+        for (int valueId = 0; valueId < values.size(); valueId++) {
+            for (var term : termsOfValue.apply(values.get(valueId))) {
+                if (term == null) {
+                    continue;
+                }
+                var valueIds = valueIdsOfTerms.get(addTerm(term));
+                if (valueIds.isEmpty() || valueIds.getLast() != valueId) {
+                    valueIds.add(valueId);
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates an index over the terms of the given values.
+     *
+     * @param values       the values
+     * @param termsOfValue the function that returns the terms of a value
+     * @param <T>          the type of the values
+     * @return the index
+     */
+    public static <T> SimilarTermIndex<T> of(ImmutableList<T> values, Function<? super T, ? extends Iterable<String>> termsOfValue) {
+        return new SimilarTermIndex<>(values, termsOfValue);
+    }
+
+    private int addTerm(String term) {
+        int termId = termIds.getIfAbsent(term, NO_TERM);
+        if (termId != NO_TERM) {
+            return termId;
+        }
+        termId = terms.size();
+        termIds.put(term, termId);
+        var normalizedTerm = NormalizedTerm.of(term);
+        terms.add(normalizedTerm);
+        valueIdsOfTerms.add(IntLists.mutable.empty());
+
+        var characters = getSortedCharacters(term);
+        charactersOfTerms.add(characters);
+        for (int i = 0; i < characters.length; i++) {
+            if (i == 0 || characters[i] != characters[i - 1]) {
+                characterPostings.getIfAbsentPut(characters[i], IntLists.mutable::empty).add(termId);
+            }
+        }
+        var trigrams = getSortedTrigrams(normalizedTerm.getLowerCase());
+        trigramsOfTerms.add(trigrams);
+        for (int i = 0; i < trigrams.length; i++) {
+            if (i == 0 || trigrams[i] != trigrams[i - 1]) {
+                trigramPostings.getIfAbsentPut(trigrams[i], IntLists.mutable::empty).add(termId);
+            }
+        }
+        termsByLowerCaseLength.getIfAbsentPut(normalizedTerm.getLowerCase().length(), IntLists.mutable::empty).add(termId);
+        return termId;
+    }
+
+    /**
+     * Returns the values with a term that might be similar to the given query with the default similarity threshold.
+     *
+     * @param query the query
+     * @return the candidate values in the order they were indexed
+     */
+    public ImmutableList<T> getCandidates(String query) {
+        return getCandidates(query, CommonTextToolsConfig.JAROWINKLER_SIMILARITY_THRESHOLD);
+    }
+
+    /**
+     * Returns the values with a term that might be similar to the given query with the given similarity threshold. All
+     * values with a term that is similar to the query according to
+     * {@link SimilarityUtils#areWordsSimilar(String, String, double)} are returned, in either direction of the
+     * comparison; other values might be returned as well.
+     *
+     * @param query               the query
+     * @param similarityThreshold the similarity threshold
+     * @return the candidate values in the order they were indexed
+     */
+    public ImmutableList<T> getCandidates(String query, double similarityThreshold) {
+        if (query == null || terms.isEmpty()) {
+            return Lists.immutable.empty();
+        }
+        var normalizedQuery = NormalizedTerm.of(query);
+        MutableIntSet candidateTermIds = IntSets.mutable.empty();
+        int equalTermId = termIds.getIfAbsent(query, NO_TERM);
+        if (equalTermId != NO_TERM) {
+            candidateTermIds.add(equalTermId);
+        }
+        addLevenshteinCandidates(normalizedQuery, candidateTermIds);
+        addJaroWinklerCandidates(query, similarityThreshold, candidateTermIds);
+
+        // similar terms have the same number of tokens
+        int numberOfTokens = normalizedQuery.getTokens().size();
+        MutableIntSet candidateValueIds = IntSets.mutable.empty();
+        candidateTermIds.forEach(termId -> {
+            if (terms.get(termId).getTokens().size() == numberOfTokens) {
+                candidateValueIds.addAll(valueIdsOfTerms.get(termId));
+            }
+        });
+        MutableList<T> candidates = Lists.mutable.empty();
+        for (int valueId : candidateValueIds.toSortedArray()) {
+            candidates.add(values.get(valueId));
+        }
+        return candidates.toImmutable();
+    }
+
+    /**
+     * Adds the terms whose lower-cased form might be within the Levenshtein distance of the lower-cased query. With
+     * padding, a term of length n has n + 2 trigrams, and each edit changes at most three of them. So terms within the
+     * distance d share at least max(m, n) + 2 - 3d trigrams with the query of length m.
+     */
+    private void addLevenshteinCandidates(NormalizedTerm query, MutableIntSet candidateTermIds) {
+        int maxDistance = CommonTextToolsConfig.LEVENSHTEIN_MAX_DISTANCE;
+        if (maxDistance < 0) {
+            return;
+        }
+        var lowerCase = query.getLowerCase();
+        int length = lowerCase.length();
+        int minSharedTrigrams = length + TRIGRAM_LENGTH - 1 - TRIGRAM_LENGTH * maxDistance;
+        if (minSharedTrigrams <= 0) {
+            // short queries do not need to share any trigram
+            addTermsOfLengths(termsByLowerCaseLength, length - maxDistance, length + maxDistance, candidateTermIds);
+            return;
+        }
+
+        var trigrams = getSortedTrigrams(lowerCase);
+        var postingSizes = new int[trigrams.length];
+        for (int i = 0; i < trigrams.length; i++) {
+            var postings = trigramPostings.get(trigrams[i]);
+            postingSizes[i] = postings == null ? 0 : postings.size();
+        }
+        // a term that shares enough trigrams shares one of any trigrams.length - minSharedTrigrams + 1 trigrams
+        for (int position : getRarestPositions(postingSizes, trigrams.length - minSharedTrigrams + 1)) {
+            var postings = trigramPostings.get(trigrams[position]);
+            if (postings == null) {
+                continue;
+            }
+            postings.forEach(termId -> {
+                if (!candidateTermIds.contains(termId) && mightBeWithinDistance(trigrams, length, termId, maxDistance)) {
+                    candidateTermIds.add(termId);
+                }
+            });
+        }
+    }
+
+    private boolean mightBeWithinDistance(long[] queryTrigrams, int queryLength, int termId, int maxDistance) {
+        int termLength = terms.get(termId).getLowerCase().length();
+        if (Math.abs(termLength - queryLength) > maxDistance) {
+            return false;
+        }
+        int minSharedTrigrams = Math.max(queryLength, termLength) + TRIGRAM_LENGTH - 1 - TRIGRAM_LENGTH * maxDistance;
+        return countCommon(queryTrigrams, trigramsOfTerms.get(termId)) >= minSharedTrigrams;
+    }
+
+    /**
+     * Adds the terms that might reach the Jaro-Winkler similarity threshold. The Jaro similarity of strings with the
+     * lengths m and n and c common characters is at most (c / m + c / n + 1) / 3. This bounds the lengths of similar
+     * terms and the number of characters they share with the query.
+     */
+    private void addJaroWinklerCandidates(String query, double similarityThreshold, MutableIntSet candidateTermIds) {
+        double minJaroSimilarity = getMinJaroSimilarity(similarityThreshold) - EPSILON;
+        // c / m + c / n has to reach minCommonProportions
+        double minCommonProportions = 3 * minJaroSimilarity - 1;
+        if (minCommonProportions <= 0) {
+            // terms without common characters might reach the threshold, too
+            for (int termId = 0; termId < terms.size(); termId++) {
+                candidateTermIds.add(termId);
+            }
+            return;
+        }
+        int length = query.length();
+        if (length == 0) {
+            // only the equal, empty term is similar
+            return;
+        }
+
+        // c is at most m and at most n
+        int minLength = (int) Math.max(1, Math.ceil((minCommonProportions - 1) * length));
+        int maxLength = minCommonProportions > 1 ? (int) Math.min(Integer.MAX_VALUE, Math.floor(length / (minCommonProportions - 1))) : Integer.MAX_VALUE;
+        // the needed number of common characters grows with the length of the term
+        int minCommon = (int) Math.max(1, Math.ceil(minCommonProportions * length * minLength / (length + (double) minLength)));
+        if (minCommon > length || minLength > maxLength) {
+            return;
+        }
+
+        var characters = getSortedCharacters(query);
+        var postingSizes = new int[characters.length];
+        for (int i = 0; i < characters.length; i++) {
+            var postings = characterPostings.get(characters[i]);
+            postingSizes[i] = postings == null ? 0 : postings.size();
+        }
+        // a term that shares enough characters shares one of any length - minCommon + 1 characters
+        for (int position : getRarestPositions(postingSizes, length - minCommon + 1)) {
+            var postings = characterPostings.get(characters[position]);
+            if (postings == null) {
+                continue;
+            }
+            postings.forEach(termId -> {
+                if (!candidateTermIds.contains(termId) && mightReachJaroSimilarity(characters, termId, minLength, maxLength, minJaroSimilarity)) {
+                    candidateTermIds.add(termId);
+                }
+            });
+        }
+    }
+
+    private boolean mightReachJaroSimilarity(char[] queryCharacters, int termId, int minLength, int maxLength, double minJaroSimilarity) {
+        int termLength = terms.get(termId).length();
+        if (termLength < minLength || termLength > maxLength) {
+            return false;
+        }
+        int common = countCommon(queryCharacters, charactersOfTerms.get(termId));
+        return common > 0 && (common / (double) queryCharacters.length + common / (double) termLength + 1) / 3 >= minJaroSimilarity;
+    }
+
+    /**
+     * Returns the minimal Jaro similarity that can result in the given Jaro-Winkler similarity. Below
+     * {@link #PREFIX_BOOST_THRESHOLD}, both are equal; above, the common prefix adds at most {@link #MAX_PREFIX_BOOST}
+     * of the remaining difference to one.
+     */
+    private static double getMinJaroSimilarity(double jaroWinklerSimilarity) {
+        if (jaroWinklerSimilarity <= PREFIX_BOOST_THRESHOLD) {
+            return jaroWinklerSimilarity;
+        }
+        return Math.max(PREFIX_BOOST_THRESHOLD, (jaroWinklerSimilarity - MAX_PREFIX_BOOST) / (1 - MAX_PREFIX_BOOST));
+    }
+
+    private static void addTermsOfLengths(MutableIntObjectMap<MutableIntList> termsOfLengths, int minLength, int maxLength, MutableIntSet termIds) {
+        for (int length = Math.max(0, minLength); length <= maxLength; length++) {
+            var termsOfLength = termsOfLengths.get(length);
+            if (termsOfLength != null) {
+                termIds.addAll(termsOfLength);
+            }
+        }
+    }
+
+    /**
+     * Returns the positions with the smallest posting sizes.
+     */
+    private static int[] getRarestPositions(int[] postingSizes, int count) {
+        var positions = new long[postingSizes.length];
+        for (int i = 0; i < postingSizes.length; i++) {
+            positions[i] = ((long) postingSizes[i] << Integer.SIZE) | i;
+        }
+        Arrays.sort(positions);
+        var rarestPositions = new int[Math.min(count, positions.length)];
+        for (int i = 0; i < rarestPositions.length; i++) {
+            rarestPositions[i] = (int) positions[i];
+        }
+        return rarestPositions;
+    }
+
+    private static char[] getSortedCharacters(String term) {
+        var characters = term.toCharArray();
+        Arrays.sort(characters);
+        return characters;
+    }
+
+    private static long[] getSortedTrigrams(String lowerCaseTerm) {
+        var padded = new char[lowerCaseTerm.length() + 2 * (TRIGRAM_LENGTH - 1)];
+        Arrays.fill(padded, PADDING);
+        lowerCaseTerm.getChars(0, lowerCaseTerm.length(), padded, TRIGRAM_LENGTH - 1);
+        var trigrams = new long[padded.length - TRIGRAM_LENGTH + 1];
+        for (int i = 0; i < trigrams.length; i++) {
+            trigrams[i] = ((long) padded[i] << (2 * Character.SIZE)) | ((long) padded[i + 1] << Character.SIZE) | padded[i + 2];
+        }
+        Arrays.sort(trigrams);
+        return trigrams;
+    }
+
+    /**
+     * Counts the common elements of two sorted arrays, including duplicates.
+     */
+    private static int countCommon(char[] first, char[] second) {
+        int common = 0;
+        int i = 0;
+        int j = 0;
+        while (i < first.length && j < second.length) {
+            if (first[i] < second[j]) {
+                i++;
+            } else if (first[i] > second[j]) {
+                j++;
+            } else {
+                common++;
+                i++;
+                j++;
+            }
+        }
+        return common;
+    }
+
+    private static int countCommon(long[] first, long[] second) {
+        int common = 0;
+        int i = 0;
+        int j = 0;
+        while (i < first.length && j < second.length) {
+            if (first[i] < second[j]) {
+                i++;
+            } else if (first[i] > second[j]) {
+                j++;
+            } else {
+                common++;
+                i++;
+                j++;
+            }
+        }
+        return common;
+    }
+}
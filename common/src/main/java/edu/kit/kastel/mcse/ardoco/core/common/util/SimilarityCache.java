@@ -0,0 +1,131 @@
+/* Licensed under MIT 2022. */
+package edu.kit.kastel.mcse.ardoco.core.common.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.collections.api.map.primitive.MutableLongByteMap;
+import org.eclipse.collections.impl.factory.primitive.LongByteMaps;
+
+/**
+ * Memoises the verdicts of {@link SimilarityUtils#areWordsSimilar(String, String, double)}. The compared strings are
+ * mapped to ids by a {@link TermDictionary}; the ids of both strings and of the threshold are packed into a long key of
+ * a primitive map. The map is split into segments with their own locks, so concurrent agents rarely contend. Each
+ * segment is bounded and is emptied when it is full.
+ */
+final class SimilarityCache {
+    /**
+     * Marker for a verdict that is not cached.
+     */
+    static final byte UNKNOWN = -1;
+    /**
+     * Key for comparisons that cannot be cached.
+     */
+    static final long NO_KEY = -1L;
+
+    static final int MAX_TERMS = 1 << 24;
+    static final int MAX_VERDICTS = 1 << 20;
+    static final int MAX_THRESHOLDS = 1 << 7;
+    static final int TERM_BITS = 28;
+    static final int SEGMENTS = 16;
+
+    private final TermDictionary terms;
+    private final Map<Double, Integer> thresholds = new ConcurrentHashMap<>();
+    private final MutableLongByteMap[] segments = new MutableLongByteMap[SEGMENTS];
+    private final int maxVerdictsPerSegment;
+
+    SimilarityCache() {
+        this(MAX_TERMS, MAX_VERDICTS);
+    }
+
+    /**
+     * Creates a new cache with the given bounds.
+     *
+     * @param maxTerms    the maximal number of distinct strings, at most 2^28, so that the ids fit into the key
+     * @param maxVerdicts the maximal number of verdicts; each of the segments holds an equal share
+     */
+    SimilarityCache(int maxTerms, int maxVerdicts) {
+        if (maxTerms <= 0 || maxTerms > 1 << TERM_BITS || maxVerdicts < SEGMENTS) {
+            throw new IllegalArgumentException("Bounds of the similarity cache are out of range");
+        }
+        terms = new TermDictionary(maxTerms);
+        maxVerdictsPerSegment = maxVerdicts / SEGMENTS;
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = LongByteMaps.mutable.empty();
+        }
+    }
+
+    /**
+     * Returns the key of the comparison of the given strings with the given threshold.
+     *
+     * @param original  the original string
+     * @param word2test the tested string
+     * @param threshold the similarity threshold
+     * @return the key, or {@link #NO_KEY} if the dictionary is full
+     */
+    long getKey(String original, String word2test, double threshold) {
+        int thresholdId = getThresholdId(threshold);
+        int originalId = terms.getId(original);
+        int word2testId = terms.getId(word2test);
+        if (thresholdId == TermDictionary.NO_ID || originalId == TermDictionary.NO_ID || word2testId == TermDictionary.NO_ID) {
+            return NO_KEY;
+        }
+        return ((long) thresholdId << (2 * TERM_BITS)) | ((long) originalId << TERM_BITS) | word2testId;
+    }
+
+    private int getThresholdId(double threshold) {
+        var id = thresholds.get(threshold);
+        if (id != null) {
+            return id;
+        }
+        if (thresholds.size() >= MAX_THRESHOLDS) {
+            return TermDictionary.NO_ID;
+        }
+        synchronized (thresholds) {
+            if (!thresholds.containsKey(threshold) && thresholds.size() >= MAX_THRESHOLDS) {
+                return TermDictionary.NO_ID;
+            }
+            return thresholds.computeIfAbsent(threshold, t -> thresholds.size());
+        }
+    }
+
+    /**
+     * Returns the cached verdict of the comparison with the given key.
+     *
+     * @param key the key of the comparison
+     * @return 1 if the strings are similar, 0 if not, or {@link #UNKNOWN} if the verdict is not cached
+     */
+    byte get(long key) {
+        if (key == NO_KEY) {
+            return UNKNOWN;
+        }
+        var segment = getSegment(key);
+        synchronized (segment) {
+            return segment.getIfAbsent(key, UNKNOWN);
+        }
+    }
+
+    /**
+     * Caches the verdict of the comparison with the given key.
+     *
+     * @param key     the key of the comparison
+     * @param similar whether the strings are similar
+     */
+    void put(long key, boolean similar) {
+        if (key == NO_KEY) {
+            return;
+        }
+        var segment = getSegment(key);
+        synchronized (segment) {
+            if (segment.size() >= maxVerdictsPerSegment) {
+                segment.clear();
+            }
+            segment.put(key, similar ? (byte) 1 : (byte) 0);
+        }
+    }
+
+    private MutableLongByteMap getSegment(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return segments[(int) (hash >>> 60) & (SEGMENTS - 1)];
+    }
+}
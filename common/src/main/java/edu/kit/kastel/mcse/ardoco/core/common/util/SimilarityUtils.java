@@ -2,7 +2,6 @@
 package edu.kit.kastel.mcse.ardoco.core.common.util;
 
 import org.apache.commons.text.similarity.JaroWinklerSimilarity;
-import org.apache.commons.text.similarity.LevenshteinDistance;
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.list.ImmutableList;
 import org.eclipse.collections.api.list.MutableList;
@@ -19,13 +18,30 @@ import edu.kit.kastel.mcse.ardoco.core.api.data.textextraction.INounMapping;
  */
 public final class SimilarityUtils {
 
-    private static final LevenshteinDistance levenShteinDistance = new LevenshteinDistance();
     private static final JaroWinklerSimilarity jaroWinklerSimilarity = new JaroWinklerSimilarity();
+    private static volatile SimilarityCache similarityCache = new SimilarityCache();
 
     private SimilarityUtils() {
         throw new IllegalAccessError();
     }
 
+    /**
+     * Drops the memoised similarities of words and the indices of model states, e.g., at the start of a run.
+     */
+    public static void clearCaches() {
+        similarityCache = new SimilarityCache();
+        ModelStateIndex.clearCache();
+    }
+
+    /**
+     * Returns the current cache of memoised similarities.
+     *
+     * @return the similarity cache
+     */
+    static SimilarityCache getSimilarityCache() {
+        return similarityCache;
+    }
+
     /**
      * Checks the similarity of two {@link INounMapping}s.
      *
@@ -36,10 +52,10 @@ public final class SimilarityUtils {
     public static boolean areNounMappingsSimilar(INounMapping nm1, INounMapping nm2) {
         var nm1Words = nm1.getReferenceWords();
         var nm2Words = nm2.getReferenceWords();
-        var nm1Reference = nm1.getReference();
-        var nm2Reference = nm2.getReference();
-        var nm1SplitAtSeparators = CommonUtilities.splitAtSeparators(nm1Reference);
-        var nm2SplitAtSeparators = CommonUtilities.splitAtSeparators(nm2Reference);
+        var nm1Reference = nm1.getNormalizedReference();
+        var nm2Reference = nm2.getNormalizedReference();
+        var nm1SplitAtSeparators = nm1Reference.getSeparatorSplit();
+        var nm2SplitAtSeparators = nm2Reference.getSeparatorSplit();
 
         if (nm1SplitAtSeparators.isEmpty() || nm2SplitAtSeparators.isEmpty()) {
             return false;
@@ -64,13 +80,14 @@ public final class SimilarityUtils {
      * @return true, iff the {@link INounMapping} and {@link IModelInstance} are similar.
      */
     public static boolean isNounMappingSimilarToModelInstance(INounMapping nounMapping, IModelInstance instance) {
-        if (areWordsOfListsSimilar(instance.getNameParts(), Lists.immutable.with(nounMapping.getReference()))
-                || areWordsSimilar(instance.getFullName(), nounMapping.getReference())) {
+        var reference = nounMapping.getNormalizedReference();
+        if (areWordsOfListsSimilar(instance.getNameParts(), Lists.immutable.with(reference.getOriginal()))
+                || areWordsSimilar(instance.getNormalizedFullName(), reference)) {
             return true;
         }
 
-        for (String name : instance.getNameParts()) {
-            if (areWordsSimilar(name, nounMapping.getReference())) {
+        for (var name : instance.getNormalizedNameParts()) {
+            if (areWordsSimilar(name, reference)) {
                 return true;
             }
         }
@@ -85,8 +102,7 @@ public final class SimilarityUtils {
      * @return true, iff the {@link IWord} and {@link IModelInstance} are similar.
      */
     public static boolean isWordSimilarToModelInstance(IWord word, IModelInstance instance) {
-        var names = instance.getNameParts();
-        return compareWordWithStringListEntries(word, names);
+        return compareWordWithStringListEntries(word, instance.getNameParts(), instance.getNormalizedNameParts());
     }
 
     /**
@@ -110,17 +126,17 @@ public final class SimilarityUtils {
      * @return true, iff the {@link IWord} and the type of the {@link IModelInstance} are similar.
      */
     public static boolean isWordSimilarToModelInstanceType(IWord word, IModelInstance instance) {
-        var types = instance.getTypeParts();
-        return compareWordWithStringListEntries(word, types);
+        return compareWordWithStringListEntries(word, instance.getTypeParts(), instance.getNormalizedTypeParts());
     }
 
-    private static boolean compareWordWithStringListEntries(IWord word, ImmutableList<String> names) {
+    private static boolean compareWordWithStringListEntries(IWord word, ImmutableList<String> names, ImmutableList<NormalizedTerm> normalizedNames) {
         if (areWordsOfListsSimilar(names, Lists.immutable.with(word.getText()))) {
             return true;
         }
 
-        for (String name : names) {
-            if (areWordsSimilar(name, word.getText())) {
+        var wordText = word.getNormalizedText();
+        for (var name : normalizedNames) {
+            if (areWordsSimilar(name, wordText)) {
                 return true;
             }
         }
@@ -135,9 +151,7 @@ public final class SimilarityUtils {
      * @return true, if the words are similar; false if not.
      */
     public static boolean areWordsSimilar(IWord word1, IWord word2) {
-        var word1Text = word1.getText();
-        var word2Text = word2.getText();
-        return areWordsSimilar(word1Text, word2Text);
+        return areWordsSimilar(word1.getNormalizedText(), word2.getNormalizedText());
     }
 
     /**
@@ -151,40 +165,97 @@ public final class SimilarityUtils {
         return areWordsSimilar(word1, word2, CommonTextToolsConfig.JAROWINKLER_SIMILARITY_THRESHOLD);
     }
 
+    /**
+     * Checks the similarity of two string with the given threshold. Uses Jaro-Winkler similarity and Levenshtein to
+     * assess the similarity. The verdicts are memoised, so repeated comparisons of the same strings are cheap.
+     *
+     * @param original            String of the original word
+     * @param word2test           String of the tested word
+     * @param similarityThreshold the similarity threshold
+     * @return true, if the test string is similar to the original; false if not.
+     */
     public static boolean areWordsSimilar(String original, String word2test, double similarityThreshold) {
         if (original == null || word2test == null) {
             return false;
         }
-        var originalLowerCase = original.toLowerCase();
-        var word2TestLowerCase = word2test.toLowerCase();
-        if (originalLowerCase.split(" ").length != word2TestLowerCase.split(" ").length) {
+        return areWordsSimilar(original, word2test, null, null, similarityThreshold);
+    }
+
+    /**
+     * Checks the similarity of two terms whose normalized forms were computed before. The result is the same as
+     * comparing their original strings with {@link #areWordsSimilar(String, String)}.
+     *
+     * @param original  the normalized original term
+     * @param word2test the normalized tested term
+     * @return true, if the test term is similar to the original; false if not.
+     */
+    public static boolean areWordsSimilar(NormalizedTerm original, NormalizedTerm word2test) {
+        return areWordsSimilar(original, word2test, CommonTextToolsConfig.JAROWINKLER_SIMILARITY_THRESHOLD);
+    }
+
+    /**
+     * Checks the similarity of two terms whose normalized forms were computed before with the given threshold. The
+     * result is the same as comparing their original strings with {@link #areWordsSimilar(String, String, double)}.
+     *
+     * @param original            the normalized original term
+     * @param word2test           the normalized tested term
+     * @param similarityThreshold the similarity threshold
+     * @return true, if the test term is similar to the original; false if not.
+     */
+    public static boolean areWordsSimilar(NormalizedTerm original, NormalizedTerm word2test, double similarityThreshold) {
+        if (original == null || word2test == null) {
+            return false;
+        }
+        return areWordsSimilar(original.getOriginal(), word2test.getOriginal(), original, word2test, similarityThreshold);
+    }
+
+    /**
+     * Looks up the memoised verdict of the given strings. Only if it is unknown, the normalized forms are needed; they
+     * are created if they were not given.
+     */
+    private static boolean areWordsSimilar(String original, String word2test, NormalizedTerm originalTerm, NormalizedTerm word2testTerm,
+            double similarityThreshold) {
+        var cache = similarityCache;
+        long key = cache.getKey(original, word2test, similarityThreshold);
+        byte verdict = cache.get(key);
+        if (verdict != SimilarityCache.UNKNOWN) {
+            return verdict == 1;
+        }
+        var similar = computeWordsSimilar(originalTerm == null ? NormalizedTerm.of(original) : originalTerm,
+                word2testTerm == null ? NormalizedTerm.of(word2test) : word2testTerm, similarityThreshold);
+        cache.put(key, similar);
+        return similar;
+    }
+
+    private static boolean computeWordsSimilar(NormalizedTerm original, NormalizedTerm word2test, double similarityThreshold) {
+        if (original.getTokens().size() != word2test.getTokens().size()) {
             return false;
         }
 
-        var isLevenshteinSimilar = levenshteinDistanceTest(original, word2test, similarityThreshold);
-        var isJaroWinklerSimilar = jaroWinklerSimilarityTest(original, word2test, similarityThreshold);
-        return isJaroWinklerSimilar || isLevenshteinSimilar;
+        return levenshteinDistanceTest(original, word2test, similarityThreshold)
+                || jaroWinklerSimilarityTest(original.getOriginal(), word2test.getOriginal(), similarityThreshold);
     }
 
     private static boolean jaroWinklerSimilarityTest(String original, String word2test, Double threshold) {
         return jaroWinklerSimilarity.apply(original, word2test) >= threshold;
     }
 
-    private static boolean levenshteinDistanceTest(String original, String word2test, double threshold) {
-        var originalLowerCase = original.toLowerCase();
-        var word2TestLowerCase = word2test.toLowerCase();
-
+    /**
+     * Checks whether the Levenshtein distance of the lower-cased words is within the allowed distance. Short words
+     * additionally have to contain each other. The distance is only computed up to the allowed distance.
+     */
+    private static boolean levenshteinDistanceTest(NormalizedTerm original, NormalizedTerm word2test, double threshold) {
+        var originalLowerCase = original.getLowerCase();
+        var word2TestLowerCase = word2test.getLowerCase();
         var areWordsSimilarMinLength = CommonTextToolsConfig.LEVENSHTEIN_MIN_LENGTH;
         var areWordsSimilarMaxLdist = CommonTextToolsConfig.LEVENSHTEIN_MAX_DISTANCE;
-        var maxLevenshteinDistance = (int) Math.min(areWordsSimilarMaxLdist, threshold * Math.min(original.length(), word2test.length()));
-
-        int levenshteinDistance = levenShteinDistance.apply(originalLowerCase, word2TestLowerCase);
 
         if (original.length() <= areWordsSimilarMinLength) {
             var wordsHaveContainmentRelation = word2TestLowerCase.contains(originalLowerCase) || originalLowerCase.contains(word2TestLowerCase);
-            return levenshteinDistance <= areWordsSimilarMaxLdist && wordsHaveContainmentRelation;
-        } else
-            return levenshteinDistance <= maxLevenshteinDistance;
+            return wordsHaveContainmentRelation && BoundedLevenshteinDistance.isWithin(originalLowerCase, word2TestLowerCase, areWordsSimilarMaxLdist);
+        }
+        var maxLevenshteinDistance = (int) Math.min(areWordsSimilarMaxLdist, threshold * Math.min(original.length(), word2test.length()));
+        return BoundedLevenshteinDistance.isWithin(originalLowerCase, word2TestLowerCase, maxLevenshteinDistance);
     }
 
     /**
@@ -290,9 +361,9 @@ public final class SimilarityUtils {
 
     private static boolean checkRecommendedInstanceForSelection(IModelInstance instance, IRecommendedInstance ri, double similarity) {
         var instanceNames = instance.getNameParts();
-        ImmutableList<String> longestNameSplit = Lists.immutable.of(CommonUtilities.splitCases(instance.getFullName()).split(" "));
+        ImmutableList<String> longestNameSplit = Lists.immutable.of(instance.getNormalizedFullName().getCaseSplit().split(" "));
         ImmutableList<String> recommendedInstanceNameList = Lists.immutable.with(ri.getName());
-        if (areWordsSimilar(instance.getFullName(), ri.getName())
+        if (areWordsSimilar(instance.getNormalizedFullName(), ri.getNormalizedName())
                 || SimilarityUtils.areWordsOfListsSimilar(instanceNames, recommendedInstanceNameList, similarity)
                 || SimilarityUtils.areWordsOfListsSimilar(longestNameSplit, recommendedInstanceNameList, similarity)) {
             return true;
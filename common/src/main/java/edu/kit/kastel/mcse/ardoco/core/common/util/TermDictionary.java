@@ -0,0 +1,66 @@
+/* Licensed under MIT 2022. */
+package edu.kit.kastel.mcse.ardoco.core.common.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Assigns dense int ids to distinct strings, so that terms can be used as keys of primitive maps. Equal strings always
+ * get the same id, so a dictionary is scoped to a run and replaced afterwards. The dictionary is thread-safe; looking up
+ * a known term does not lock.
+ */
+public final class TermDictionary {
+    /**
+     * Id that is returned if the dictionary is full.
+     */
+    public static final int NO_ID = -1;
+
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger();
+    private final int maxSize;
+
+    /**
+     * Creates a new dictionary.
+     *
+     * @param maxSize the maximal number of terms; further terms get {@link #NO_ID}, so the ids are always below the
+     *                maximal size
+     */
+    public TermDictionary(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Maximal size has to be positive");
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the id of the given term. Unknown terms get the next free id.
+     *
+     * @param term the term
+     * @return the id of the term, or {@link #NO_ID} if the term is unknown and the dictionary is full
+     */
+    public int getId(String term) {
+        var id = ids.get(term);
+        if (id != null) {
+            return id;
+        }
+        if (nextId.get() >= maxSize) {
+            return NO_ID;
+        }
+        // concurrently added terms only take an id while one is free
+        id = ids.computeIfAbsent(term, t -> {
+            int nextFreeId = nextId.getAndUpdate(next -> next < maxSize ? next + 1 : next);
+            return nextFreeId < maxSize ? nextFreeId : null;
+        });
+        return id != null ? id : NO_ID;
+    }
+
+    /**
+     * Returns the number of terms in this dictionary.
+     *
+     * @return the number of terms
+     */
+    public int size() {
+        return ids.size();
+    }
+}
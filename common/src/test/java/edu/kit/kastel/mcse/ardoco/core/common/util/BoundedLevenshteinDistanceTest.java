@@ -0,0 +1,128 @@
+/* Licensed under MIT 2022. */
+package edu.kit.kastel.mcse.ardoco.core.common.util;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class BoundedLevenshteinDistanceTest {
+    private static final String ALPHABET = "abcdE";
+
+    @Test
+    void randomPairsTest() {
+        var random = new Random(42);
+        for (int run = 0; run < 20_000; run++) {
+            var first = randomString(random, random.nextInt(12));
+            var second = random.nextBoolean() ? randomString(random, random.nextInt(12)) : mutate(random, first);
+            int maxDistance = random.nextInt(6);
+            assertSameAsFullDistance(first, second, maxDistance);
+        }
+    }
+
+    @Test
+    void longStringsTest() {
+        var random = new Random(7);
+        for (int run = 0; run < 500; run++) {
+            var first = randomString(random, 30 + random.nextInt(60));
+            var second = mutate(random, first);
+            assertSameAsFullDistance(first, second, random.nextInt(8));
+            assertSameAsFullDistance(second, first, random.nextInt(8));
+        }
+        // strings longer than the initial buffers after shorter ones on the same thread
+        var longString = "a".repeat(100);
+        Assertions.assertTrue(BoundedLevenshteinDistance.isWithin(longString, longString + "b", 1));
+        Assertions.assertFalse(BoundedLevenshteinDistance.isWithin(longString, "b".repeat(100), 99));
+        Assertions.assertTrue(BoundedLevenshteinDistance.isWithin("abc", "abd", 1));
+    }
+
+    @Test
+    void emptyStringsTest() {
+        Assertions.assertAll(//
+                () -> Assertions.assertTrue(BoundedLevenshteinDistance.isWithin("", "", 0)), //
+                () -> Assertions.assertTrue(BoundedLevenshteinDistance.isWithin("", "abc", 3)), //
+                () -> Assertions.assertTrue(BoundedLevenshteinDistance.isWithin("abc", "", 3)), //
+                () -> Assertions.assertFalse(BoundedLevenshteinDistance.isWithin("", "abc", 2)), //
+                () -> Assertions.assertFalse(BoundedLevenshteinDistance.isWithin("abc", "", 2)));
+    }
+
+    @Test
+    void zeroDistanceTest() {
+        Assertions.assertAll(//
+                () -> Assertions.assertTrue(BoundedLevenshteinDistance.isWithin("TeaStore", "TeaStore", 0)), //
+                () -> Assertions.assertFalse(BoundedLevenshteinDistance.isWithin("TeaStore", "Teastore", 0)), //
+                () -> Assertions.assertFalse(BoundedLevenshteinDistance.isWithin("TeaStore", "TeaStores", 0)), //
+                () -> Assertions.assertFalse(BoundedLevenshteinDistance.isWithin("TeaStore", "TeaStore", -1)));
+    }
+
+    @Test
+    void lengthDifferenceAtBoundTest() {
+        Assertions.assertAll(//
+                () -> Assertions.assertTrue(BoundedLevenshteinDistance.isWithin("store", "stores!", 2)), //
+                () -> Assertions.assertTrue(BoundedLevenshteinDistance.isWithin("stores!", "store", 2)), //
+                () -> Assertions.assertTrue(BoundedLevenshteinDistance.isWithin("store", "xxstore", 2)), //
+                () -> Assertions.assertFalse(BoundedLevenshteinDistance.isWithin("store", "xstorex", 1)), //
+                () -> Assertions.assertFalse(BoundedLevenshteinDistance.isWithin("store", "stxres!", 2)), //
+                () -> Assertions.assertFalse(BoundedLevenshteinDistance.isWithin("store", "stores!!", 2)));
+    }
+
+    private static void assertSameAsFullDistance(String first, String second, int maxDistance) {
+        boolean expected = fullDistance(first, second) <= maxDistance;
+        Assertions.assertEquals(expected, BoundedLevenshteinDistance.isWithin(first, second, maxDistance),
+                () -> "\"" + first + "\" and \"" + second + "\" within " + maxDistance);
+    }
+
+    /**
+     * Computes the Levenshtein distance with the full dynamic programming matrix.
+     */
+    private static int fullDistance(String first, String second) {
+        int[][] distances = new int[first.length() + 1][second.length() + 1];
+        for (int i = 0; i <= first.length(); i++) {
+            distances[i][0] = i;
+        }
+        for (int j = 0; j <= second.length(); j++) {
+            distances[0][j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            for (int j = 1; j <= second.length(); j++) {
+                int substitution = distances[i - 1][j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                distances[i][j] = Math.min(substitution, Math.min(distances[i - 1][j], distances[i][j - 1]) + 1);
+            }
+        }
+        return distances[first.length()][second.length()];
+    }
+
+    private static String randomString(Random random, int length) {
+        var string = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            string.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return string.toString();
+    }
+
+    /**
+     * Applies a few random insertions, deletions, and substitutions, so that the distance is often close to the bound.
+     */
+    private static String mutate(Random random, String string) {
+        var mutated = new StringBuilder(string);
+        int edits = random.nextInt(5);
+        for (int edit = 0; edit < edits; edit++) {
+            int position = random.nextInt(mutated.length() + 1);
+            char character = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+            switch (random.nextInt(3)) {
+            case 0 -> mutated.insert(position, character);
+            case 1 -> {
+                if (position < mutated.length()) {
+                    mutated.deleteCharAt(position);
+                }
+            }
+            default -> {
+                if (position < mutated.length()) {
+                    mutated.setCharAt(position, character);
+                }
+            }
+            }
+        }
+        return mutated.toString();
+    }
+}
@@ -0,0 +1,101 @@
+/* Licensed under MIT 2022. */
+package edu.kit.kastel.mcse.ardoco.core.common.util;
+
+import java.util.Random;
+import java.util.StringJoiner;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class IdentifierTokenizerTest {
+    private static final String[] FRAGMENTS = { "a", "b", "x", "A", "B", "X", "Tea", "Store", "UI", "HTTP", "db", "2", "é", "Ä", "_", "-", "__", "-_", " ",
+            "  ", "\t", "\n", " \t ", ".", "::", ":", ":::" };
+
+    @Test
+    void randomIdentifiersTest() {
+        var random = new Random(42);
+        for (int run = 0; run < 50_000; run++) {
+            var name = new StringBuilder();
+            int fragments = random.nextInt(8);
+            for (int i = 0; i < fragments; i++) {
+                name.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+            }
+            assertSameAsRegularExpressions(name.toString());
+        }
+    }
+
+    @Test
+    void snakeAndKebabCaseBordersTest() {
+        for (var name : Lists.immutable.with("_TeaStore", "TeaStore_", "-tea-store-", "__tea__store__", "_-_", "-", "_", "tea_-Store", "_ _", "- TeaStore -")) {
+            assertSameAsRegularExpressions(name);
+        }
+        Assertions.assertAll(//
+                () -> Assertions.assertEquals(" Tea Store", IdentifierTokenizer.splitCases("_TeaStore")), //
+                () -> Assertions.assertEquals("Tea Store", IdentifierTokenizer.splitCases("TeaStore__")), //
+                () -> Assertions.assertEquals(" tea store", IdentifierTokenizer.splitSnakeAndKebabCase("-tea-store-")));
+    }
+
+    @Test
+    void whitespaceTest() {
+        for (var name : Lists.immutable.with("Tea\tStore", "Tea \t Store", "TeaStore\t", "\tTeaStore", "Tea   Store", "Tea\n\nStore", "  ", "\t")) {
+            assertSameAsRegularExpressions(name);
+        }
+        Assertions.assertAll(//
+                () -> Assertions.assertEquals("Tea Store", IdentifierTokenizer.splitCamelCase("Tea \t Store")), //
+                () -> Assertions.assertEquals(" Tea Store", IdentifierTokenizer.splitCamelCase("\tTeaStore")));
+    }
+
+    @Test
+    void separatorsTest() {
+        for (var name : Lists.immutable.with("tea.store", "Tea::Store", "tea:store", "tea_store", "a.b::c:d_e", ".tea", "tea.", "::", ":::", "tea..store",
+                "tea.:store", "tea store")) {
+            assertSameAsRegularExpressions(name);
+        }
+        Assertions.assertAll(//
+                () -> Assertions.assertEquals(Lists.immutable.with("a", "b", "c", "d", "e"), IdentifierTokenizer.splitAtSeparators("a.b::c:d_e")), //
+                () -> Assertions.assertEquals(Lists.immutable.with("tea", "", "store"), IdentifierTokenizer.splitAtSeparators("tea:::store")));
+    }
+
+    private static void assertSameAsRegularExpressions(String name) {
+        Assertions.assertAll("\"" + name + "\"", //
+                () -> Assertions.assertEquals(splitCamelCaseWithRegex(name), IdentifierTokenizer.splitCamelCase(name)), //
+                () -> Assertions.assertEquals(splitSnakeAndKebabCaseWithRegex(name), IdentifierTokenizer.splitSnakeAndKebabCase(name)), //
+                () -> Assertions.assertEquals(splitCamelCaseWithRegex(splitSnakeAndKebabCaseWithRegex(name)), IdentifierTokenizer.splitCases(name)), //
+                () -> Assertions.assertEquals(splitAtSeparatorsWithRegex(name), IdentifierTokenizer.splitAtSeparators(name)));
+    }
+
+    /**
+     * The former implementation of {@link CommonUtilities#splitCamelCase(String)}.
+     */
+    private static String splitCamelCaseWithRegex(String name) {
+        var joiner = new StringJoiner(" ");
+        for (String namePart : name.split("(?<!(^|[A-Z]))(?=[A-Z])|(?<!^)(?=[A-Z][a-z])")) {
+            joiner.add(namePart);
+        }
+        return joiner.toString().replaceAll("\\s+", " ");
+    }
+
+    /**
+     * The former implementation of {@link CommonUtilities#splitSnakeAndKebabCase(String)}.
+     */
+    private static String splitSnakeAndKebabCaseWithRegex(String name) {
+        var joiner = new StringJoiner(" ");
+        for (String namePart : name.split("[-_]")) {
+            joiner.add(namePart);
+        }
+        return joiner.toString().replaceAll("\\s+", " ");
+    }
+
+    /**
+     * The former implementation of {@link CommonUtilities#splitAtSeparators(String)}.
+     */
+    private static ImmutableList<String> splitAtSeparatorsWithRegex(String reference) {
+        var ref = reference;
+        for (String sep : CommonTextToolsConfig.SEPARATORS_TO_SPLIT) {
+            ref = ref.replaceAll(sep, " ");
+        }
+        return Lists.immutable.with(ref.split(" "));
+    }
+}
@@ -0,0 +1,169 @@
+/* Licensed under MIT 2022. */
+package edu.kit.kastel.mcse.ardoco.core.common.util;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import edu.kit.kastel.mcse.ardoco.core.api.data.model.IModelInstance;
+import edu.kit.kastel.mcse.ardoco.core.api.data.model.IModelState;
+import edu.kit.kastel.mcse.ardoco.core.api.data.model.Metamodel;
+
+class ModelStateIndexTest {
+
+    @Test
+    void cachedIndexTest() {
+        var modelState = new TestModelState(new TestModelInstance("TeaStore", "Component"), new TestModelInstance("WebUI", "Component"));
+        var index = ModelStateIndex.of(modelState);
+        Assertions.assertSame(index, ModelStateIndex.of(modelState));
+
+        SimilarityUtils.clearCaches();
+        var rebuiltIndex = ModelStateIndex.of(modelState);
+        Assertions.assertNotSame(index, rebuiltIndex);
+        Assertions.assertSame(rebuiltIndex, ModelStateIndex.of(modelState));
+    }
+
+    @Test
+    void changedInstancesTest() {
+        var modelState = new TestModelState(new TestModelInstance("TeaStore", "Component"));
+        var index = ModelStateIndex.of(modelState);
+        Assertions.assertTrue(index.getNameCandidates("Registry").isEmpty());
+
+        var registry = new TestModelInstance("Registry", "Component");
+        modelState.addInstance(registry);
+        var rebuiltIndex = ModelStateIndex.of(modelState);
+        Assertions.assertNotSame(index, rebuiltIndex);
+        Assertions.assertEquals(Lists.immutable.with(registry), rebuiltIndex.getNameCandidates("Registry"));
+    }
+
+    @Test
+    void candidatesTest() {
+        var teaStore = new TestModelInstance("TeaStore", "BasicComponent");
+        var webUi = new TestModelInstance("WebUI", "BasicComponent");
+        var index = ModelStateIndex.of(new TestModelState(teaStore, webUi));
+
+        Assertions.assertAll(//
+                () -> Assertions.assertEquals(Lists.immutable.with(teaStore), index.getNameCandidates("teastore")), //
+                () -> Assertions.assertEquals(Lists.immutable.with(teaStore), index.getNameCandidates("Tea")), //
+                () -> Assertions.assertEquals(Lists.immutable.with(teaStore, webUi), index.getTypeCandidates("component")), //
+                () -> Assertions.assertTrue(index.getTypeIdentifierCandidates("component").contains("Component")), //
+                () -> Assertions.assertEquals(Lists.immutable.with(webUi), index.getInstancesWithNameIgnoringCase("webui")));
+    }
+
+    @Test
+    void inModelOrderTest() {
+        var teaStore = new TestModelInstance("TeaStore", "BasicComponent");
+        var webUi = new TestModelInstance("WebUI", "BasicComponent");
+        var registry = new TestModelInstance("Registry", "BasicComponent");
+        var index = ModelStateIndex.of(new TestModelState(teaStore, webUi, registry));
+        var otherInstance = new TestModelInstance("Auth", "BasicComponent");
+
+        Assertions.assertEquals(Lists.immutable.with(teaStore, registry), index.inModelOrder(Lists.immutable.with(registry, otherInstance, teaStore, registry)));
+    }
+
+    private static final class TestModelState implements IModelState {
+        private ImmutableList<IModelInstance> instances;
+
+        private TestModelState(IModelInstance... instances) {
+            this.instances = Lists.immutable.with(instances);
+        }
+
+        private void addInstance(IModelInstance instance) {
+            instances = instances.newWith(instance);
+        }
+
+        @Override
+        public String getModelId() {
+            return "test";
+        }
+
+        @Override
+        public Metamodel getMetamodel() {
+            return Metamodel.ARCHITECTURE;
+        }
+
+        @Override
+        public ImmutableList<IModelInstance> getInstancesOfType(String type) {
+            return instances.select(instance -> instance.getTypeParts().contains(type));
+        }
+
+        @Override
+        public Set<String> getInstanceTypes() {
+            Set<String> types = new LinkedHashSet<>();
+            instances.forEach(instance -> types.add(instance.getFullType()));
+            return types;
+        }
+
+        @Override
+        public Set<String> getNames() {
+            Set<String> names = new LinkedHashSet<>();
+            instances.forEach(instance -> names.add(instance.getFullName()));
+            return names;
+        }
+
+        @Override
+        public ImmutableList<IModelInstance> getInstances() {
+            return instances;
+        }
+
+        @Override
+        public void addAllOf(IModelState other) {
+            other.getInstances().forEach(this::addInstance);
+        }
+
+        @Override
+        public IModelState createCopy() {
+            return new TestModelState(instances.toArray(new IModelInstance[0]));
+        }
+
+        @Override
+        public void applyConfiguration(Map<String, String> additionalConfiguration) {
+            // no configuration
+        }
+    }
+
+    private static final class TestModelInstance implements IModelInstance {
+        private final String name;
+        private final String type;
+
+        private TestModelInstance(String name, String type) {
+            this.name = name;
+            this.type = type;
+        }
+
+        @Override
+        public String getFullName() {
+            return name;
+        }
+
+        @Override
+        public String getFullType() {
+            return type;
+        }
+
+        @Override
+        public ImmutableList<String> getNameParts() {
+            return Lists.immutable.with(CommonUtilities.splitCases(name).split(" "));
+        }
+
+        @Override
+        public ImmutableList<String> getTypeParts() {
+            return Lists.immutable.with(CommonUtilities.splitCases(type).split(" "));
+        }
+
+        @Override
+        public String getUid() {
+            return name;
+        }
+
+        @Override
+        public IModelInstance createCopy() {
+            return new TestModelInstance(name, type);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/* Licensed under MIT 2022. */
+package edu.kit.kastel.mcse.ardoco.core.common.util;
+
+import java.util.Random;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class SimilarTermIndexTest {
+    private static final String ALPHABET = "abcAB dE";
+    private static final double[] THRESHOLDS = { CommonTextToolsConfig.JAROWINKLER_SIMILARITY_THRESHOLD, 0.85, 0.75, 0.6, 0.3 };
+
+    @Test
+    void candidatesContainSimilarTermsTest() {
+        var random = new Random(42);
+        for (int round = 0; round < 300; round++) {
+            var base = randomString(random, 1 + random.nextInt(10));
+            MutableList<ImmutableList<String>> values = Lists.mutable.empty();
+            for (int i = 0; i < 40; i++) {
+                values.add(Lists.immutable.with(randomTerm(random, base), randomTerm(random, base)));
+            }
+            var index = SimilarTermIndex.of(values.toImmutable(), value -> value);
+            for (int i = 0; i < 20; i++) {
+                assertCandidatesContainSimilarValues(index, values.toImmutable(), randomTerm(random, base), THRESHOLDS[random.nextInt(THRESHOLDS.length)]);
+            }
+        }
+    }
+
+    @Test
+    void shortQueriesTest() {
+        var values = singleTerms("a", "ab", "b", "abc", "ba", "DB", "db", "", "xyz", "a b");
+        var index = SimilarTermIndex.of(values, value -> value);
+        for (var query : Lists.immutable.with("", "a", "b", "ab", "db", "x", "A")) {
+            for (double threshold : THRESHOLDS) {
+                assertCandidatesContainSimilarValues(index, values, query, threshold);
+            }
+        }
+    }
+
+    @Test
+    void multiTokenTermsTest() {
+        var values = singleTerms("tea store", "teastore", "web ui", "web user interface", "image provider", "image  provider");
+        var index = SimilarTermIndex.of(values, value -> value);
+        for (var query : Lists.immutable.with("tea store", "tea stores", "teastore", "web ui", "webui", "image provider", "image providers")) {
+            for (double threshold : THRESHOLDS) {
+                assertCandidatesContainSimilarValues(index, values, query, threshold);
+            }
+        }
+        // similar terms have the same number of tokens
+        Assertions.assertFalse(index.getCandidates("tea stores").contains(Lists.immutable.with("teastore")));
+    }
+
+    @Test
+    void candidateOrderTest() {
+        ImmutableList<String> values = Lists.immutable.with("Registry", "Persistence", "registry", "Recommender", "Registries");
+        var index = SimilarTermIndex.of(values, Lists.immutable::with);
+        var candidates = index.getCandidates("Registry");
+        Assertions.assertEquals(candidates, values.select(candidates::contains));
+        Assertions.assertTrue(candidates.containsAllArguments("Registry", "registry"));
+        Assertions.assertTrue(index.getCandidates(null).isEmpty());
+    }
+
+    private static ImmutableList<ImmutableList<String>> singleTerms(String... terms) {
+        return Lists.immutable.with(terms).collect(Lists.immutable::with);
+    }
+
+    /**
+     * Compares the candidates of the index with a scan over all terms with
+     * {@link SimilarityUtils#areWordsSimilar(String, String, double)} in both directions.
+     */
+    private static void assertCandidatesContainSimilarValues(SimilarTermIndex<ImmutableList<String>> index, ImmutableList<ImmutableList<String>> values,
+            String query, double threshold) {
+        var candidates = index.getCandidates(query, threshold);
+        for (var value : values) {
+            boolean similar = value.anySatisfy(term -> SimilarityUtils.areWordsSimilar(term, query, threshold)
+                    || SimilarityUtils.areWordsSimilar(query, term, threshold));
+            if (similar) {
+                Assertions.assertTrue(candidates.contains(value), () -> "Missing " + value + " for \"" + query + "\" with threshold " + threshold);
+            }
+        }
+    }
+
+    private static String randomTerm(Random random, String base) {
+        return random.nextBoolean() ? mutate(random, base) : randomString(random, random.nextInt(12));
+    }
+
+    private static String randomString(Random random, int length) {
+        var string = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            string.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return string.toString();
+    }
+
+    private static String mutate(Random random, String string) {
+        var mutated = new StringBuilder(string);
+        int edits = random.nextInt(3);
+        for (int edit = 0; edit < edits; edit++) {
+            char character = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+            if (mutated.isEmpty() || random.nextBoolean()) {
+                mutated.insert(random.nextInt(mutated.length() + 1), character);
+            } else if (random.nextBoolean()) {
+                mutated.deleteCharAt(random.nextInt(mutated.length()));
+            } else {
+                mutated.setCharAt(random.nextInt(mutated.length()), character);
+            }
+        }
+        return mutated.toString();
+    }
+}
@@ -0,0 +1,109 @@
+/* Licensed under MIT 2022. */
+package edu.kit.kastel.mcse.ardoco.core.common.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class SimilarityCacheTest {
+
+    @Test
+    void keyPackingTest() {
+        var cache = new SimilarityCache();
+        // ids are assigned in order: threshold 0.9 gets 0, "TeaStore" 0, "WebUI" 1
+        long key = cache.getKey("TeaStore", "WebUI", 0.9);
+        long swappedKey = cache.getKey("WebUI", "TeaStore", 0.9);
+        long otherThresholdKey = cache.getKey("TeaStore", "WebUI", 0.8);
+
+        Assertions.assertAll(//
+                () -> Assertions.assertEquals(1L, key), //
+                () -> Assertions.assertEquals(1L << SimilarityCache.TERM_BITS, swappedKey), //
+                () -> Assertions.assertEquals((1L << 2 * SimilarityCache.TERM_BITS) | 1L, otherThresholdKey), //
+                () -> Assertions.assertEquals(key, cache.getKey("TeaStore", "WebUI", 0.9)), //
+                () -> Assertions.assertNotEquals(key, swappedKey), //
+                () -> Assertions.assertNotEquals(key, otherThresholdKey));
+    }
+
+    @Test
+    void verdictsTest() {
+        var cache = new SimilarityCache();
+        long key = cache.getKey("TeaStore", "Teastore", 0.9);
+        long swappedKey = cache.getKey("Teastore", "TeaStore", 0.9);
+        Assertions.assertEquals(SimilarityCache.UNKNOWN, cache.get(key));
+
+        cache.put(key, true);
+        cache.put(swappedKey, false);
+        Assertions.assertAll(//
+                () -> Assertions.assertEquals(1, cache.get(key)), //
+                () -> Assertions.assertEquals(0, cache.get(swappedKey)));
+    }
+
+    @Test
+    void fullDictionaryTest() {
+        var cache = new SimilarityCache(2, SimilarityCache.MAX_VERDICTS);
+        long key = cache.getKey("TeaStore", "WebUI", 0.9);
+        long fullKey = cache.getKey("TeaStore", "Registry", 0.9);
+        cache.put(fullKey, true);
+
+        Assertions.assertAll(//
+                () -> Assertions.assertNotEquals(SimilarityCache.NO_KEY, key), //
+                () -> Assertions.assertEquals(SimilarityCache.NO_KEY, fullKey), //
+                () -> Assertions.assertEquals(SimilarityCache.UNKNOWN, cache.get(fullKey)), //
+                () -> Assertions.assertEquals(key, cache.getKey("TeaStore", "WebUI", 0.9)));
+    }
+
+    @Test
+    void invalidBoundsTest() {
+        int tooManyTerms = (1 << SimilarityCache.TERM_BITS) + 1;
+        Assertions.assertAll(//
+                () -> Assertions.assertThrows(IllegalArgumentException.class, () -> new SimilarityCache(tooManyTerms, SimilarityCache.MAX_VERDICTS)), //
+                () -> Assertions.assertThrows(IllegalArgumentException.class, () -> new SimilarityCache(0, SimilarityCache.MAX_VERDICTS)), //
+                () -> Assertions.assertThrows(IllegalArgumentException.class, () -> new SimilarityCache(SimilarityCache.MAX_TERMS, 1)));
+    }
+
+    @Test
+    void fullThresholdsTest() {
+        var cache = new SimilarityCache();
+        for (int i = 0; i < SimilarityCache.MAX_THRESHOLDS; i++) {
+            Assertions.assertNotEquals(SimilarityCache.NO_KEY, cache.getKey("TeaStore", "WebUI", i / 1000.0));
+        }
+        Assertions.assertEquals(SimilarityCache.NO_KEY, cache.getKey("TeaStore", "WebUI", 0.99));
+        Assertions.assertNotEquals(SimilarityCache.NO_KEY, cache.getKey("TeaStore", "WebUI", 0.0));
+    }
+
+    @Test
+    void fullSegmentTest() {
+        int verdictsPerSegment = 2;
+        var cache = new SimilarityCache(SimilarityCache.MAX_TERMS, verdictsPerSegment * SimilarityCache.SEGMENTS);
+        int comparisons = 1000;
+        long[] keys = new long[comparisons];
+        for (int i = 0; i < comparisons; i++) {
+            keys[i] = cache.getKey("TeaStore", "Word" + i, 0.9);
+            cache.put(keys[i], i % 2 == 0);
+            Assertions.assertEquals(i % 2 == 0 ? 1 : 0, cache.get(keys[i]));
+        }
+
+        int cachedVerdicts = 0;
+        for (long key : keys) {
+            if (cache.get(key) != SimilarityCache.UNKNOWN) {
+                cachedVerdicts++;
+            }
+        }
+        // each segment was emptied when it was full, so it holds at most its share
+        Assertions.assertTrue(cachedVerdicts > 0);
+        Assertions.assertTrue(cachedVerdicts <= verdictsPerSegment * SimilarityCache.SEGMENTS);
+    }
+
+    @Test
+    void clearCachesTest() {
+        Assertions.assertTrue(SimilarityUtils.areWordsSimilar("TeaStore", "Teastore"));
+        var cache = SimilarityUtils.getSimilarityCache();
+        Assertions.assertEquals(1, cache.get(cache.getKey("TeaStore", "Teastore", CommonTextToolsConfig.JAROWINKLER_SIMILARITY_THRESHOLD)));
+
+        SimilarityUtils.clearCaches();
+        var clearedCache = SimilarityUtils.getSimilarityCache();
+        Assertions.assertNotSame(cache, clearedCache);
+        Assertions.assertEquals(SimilarityCache.UNKNOWN,
+                clearedCache.get(clearedCache.getKey("TeaStore", "Teastore", CommonTextToolsConfig.JAROWINKLER_SIMILARITY_THRESHOLD)));
+        Assertions.assertTrue(SimilarityUtils.areWordsSimilar("TeaStore", "Teastore"));
+    }
+}
@@ -0,0 +1,49 @@
+/* Licensed under MIT 2022. */
+package edu.kit.kastel.mcse.ardoco.core.common.util;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class TermDictionaryTest {
+
+    @Test
+    void denseIdsTest() {
+        var dictionary = new TermDictionary(10);
+        Assertions.assertAll(//
+                () -> Assertions.assertEquals(0, dictionary.getId("TeaStore")), //
+                () -> Assertions.assertEquals(1, dictionary.getId("WebUI")), //
+                () -> Assertions.assertEquals(0, dictionary.getId("TeaStore")), //
+                () -> Assertions.assertEquals(2, dictionary.getId("teastore")), //
+                () -> Assertions.assertEquals(3, dictionary.size()));
+    }
+
+    @Test
+    void fullDictionaryTest() {
+        var dictionary = new TermDictionary(2);
+        dictionary.getId("TeaStore");
+        dictionary.getId("WebUI");
+        Assertions.assertAll(//
+                () -> Assertions.assertEquals(TermDictionary.NO_ID, dictionary.getId("Registry")), //
+                () -> Assertions.assertEquals(1, dictionary.getId("WebUI")), //
+                () -> Assertions.assertEquals(2, dictionary.size()));
+    }
+
+    @Test
+    void concurrentlyFullDictionaryTest() {
+        int maxSize = 100;
+        var dictionary = new TermDictionary(maxSize);
+        var ids = IntStream.range(0, 10_000).parallel().map(i -> dictionary.getId("Term" + i)).filter(id -> id != TermDictionary.NO_ID).toArray();
+
+        Assertions.assertAll(//
+                () -> Assertions.assertEquals(maxSize, dictionary.size()), //
+                () -> Assertions.assertEquals(maxSize, ids.length), //
+                () -> Assertions.assertTrue(IntStream.of(ids).allMatch(id -> id < maxSize)));
+    }
+
+    @Test
+    void invalidSizeTest() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new TermDictionary(0));
+    }
+}
@@ -6,11 +6,13 @@ import java.util.Map;
 
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.set.ImmutableSet;
 
 import edu.kit.kastel.informalin.framework.configuration.Configurable;
 import edu.kit.kastel.mcse.ardoco.core.api.agent.ConnectionAgent;
 import edu.kit.kastel.mcse.ardoco.core.api.agent.IAgent;
 import edu.kit.kastel.mcse.ardoco.core.api.data.DataStructure;
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.AnnotationLayer;
 import edu.kit.kastel.mcse.ardoco.core.api.stage.AbstractExecutionStage;
 import edu.kit.kastel.mcse.ardoco.core.connectiongenerator.agents.InitialConnectionAgent;
 import edu.kit.kastel.mcse.ardoco.core.connectiongenerator.agents.InstanceConnectionAgent;
@@ -48,4 +50,10 @@ public class ConnectionGenerator extends AbstractExecutionStage {
             agent.execute(data);
         }
     }
+
+    @Override
+    public ImmutableSet<AnnotationLayer> getRequiredAnnotationLayers(Map<String, String> additionalSettings) {
+        this.applyConfiguration(additionalSettings);
+        return collectRequiredAnnotationLayers(findByClassName(enabledAgents, agents), additionalSettings);
+    }
 }
@@ -4,10 +4,13 @@ package edu.kit.kastel.mcse.ardoco.core.connectiongenerator.agents;
 import java.util.List;
 import java.util.Map;
 
+import org.eclipse.collections.api.set.ImmutableSet;
+
 import edu.kit.kastel.informalin.framework.configuration.Configurable;
 import edu.kit.kastel.mcse.ardoco.core.api.agent.AbstractExtractor;
 import edu.kit.kastel.mcse.ardoco.core.api.agent.ConnectionAgent;
 import edu.kit.kastel.mcse.ardoco.core.api.agent.ConnectionAgentData;
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.AnnotationLayer;
 import edu.kit.kastel.mcse.ardoco.core.api.data.text.IWord;
 import edu.kit.kastel.mcse.ardoco.core.connectiongenerator.extractors.ExtractionDependentOccurrenceExtractor;
 import edu.kit.kastel.mcse.ardoco.core.connectiongenerator.extractors.NameTypeConnectionExtractor;
@@ -39,6 +42,11 @@ public class InitialConnectionAgent extends ConnectionAgent {
         }
     }
 
+    @Override
+    public ImmutableSet<AnnotationLayer> getRequiredAnnotationLayers() {
+        return collectRequiredAnnotationLayers(findByClassName(enabledExtractors, extractors));
+    }
+
     @Override
     protected void delegateApplyConfigurationToInternalObjects(Map<String, String> additionalConfiguration) {
         extractors.forEach(e -> e.applyConfiguration(additionalConfiguration));
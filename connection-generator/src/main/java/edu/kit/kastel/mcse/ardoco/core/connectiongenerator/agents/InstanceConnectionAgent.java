@@ -3,6 +3,9 @@ package edu.kit.kastel.mcse.ardoco.core.connectiongenerator.agents;
 
 import java.util.Map;
 
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.set.MutableSet;
+
 import edu.kit.kastel.informalin.framework.configuration.Configurable;
 import edu.kit.kastel.mcse.ardoco.core.api.agent.ConnectionAgent;
 import edu.kit.kastel.mcse.ardoco.core.api.agent.ConnectionAgentData;
@@ -10,6 +13,8 @@ import edu.kit.kastel.mcse.ardoco.core.api.data.connectiongenerator.IConnectionS
 import edu.kit.kastel.mcse.ardoco.core.api.data.model.IModelInstance;
 import edu.kit.kastel.mcse.ardoco.core.api.data.model.IModelState;
 import edu.kit.kastel.mcse.ardoco.core.api.data.recommendationgenerator.IRecommendationState;
+import edu.kit.kastel.mcse.ardoco.core.api.data.recommendationgenerator.IRecommendedInstance;
+import edu.kit.kastel.mcse.ardoco.core.common.util.ModelStateIndex;
 import edu.kit.kastel.mcse.ardoco.core.common.util.SimilarityUtils;
 
 /**
@@ -64,13 +69,28 @@ public class InstanceConnectionAgent extends ConnectionAgent {
 
     private void createLinksForEqualOrSimilarRecommendedInstances(IModelState modelState, IRecommendationState recommendationState,
             IConnectionState connectionState) {
+        var index = ModelStateIndex.of(modelState);
         for (var recommendedInstance : recommendationState.getRecommendedInstances()) {
-            var sameInstances = modelState.getInstances()
-                    .select(instance -> SimilarityUtils.isRecommendedInstanceSimilarToModelInstance(recommendedInstance, instance));
+            var candidates = index.inModelOrder(getCandidateInstances(index, recommendedInstance));
+            var sameInstances = candidates.select(instance -> SimilarityUtils.isRecommendedInstanceSimilarToModelInstance(recommendedInstance, instance));
             sameInstances.forEach(instance -> connectionState.addToLinks(recommendedInstance, instance, this, probability));
         }
     }
 
+    /**
+     * Returns the instances that might be similar to the given recommended instance: the instances with the same name
+     * ignoring case and the instances with a name that might be similar to the name or to one of its words.
+     */
+    private static MutableSet<IModelInstance> getCandidateInstances(ModelStateIndex index, IRecommendedInstance recommendedInstance) {
+        var nameParts = recommendedInstance.getName().split(" ");
+        MutableSet<IModelInstance> candidates = Sets.mutable.withAll(index.getInstancesWithNameIgnoringCase(recommendedInstance.getName()));
+        candidates.addAllIterable(index.getNameCandidates(String.join(" ", nameParts)));
+        for (var namePart : nameParts) {
+            candidates.addAllIterable(index.getNameCandidates(namePart));
+        }
+        return candidates;
+    }
+
     @Override
     protected void delegateApplyConfigurationToInternalObjects(Map<String, String> additionalConfiguration) {
         // handle config
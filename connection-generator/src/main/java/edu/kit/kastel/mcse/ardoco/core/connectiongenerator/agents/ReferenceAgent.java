@@ -3,7 +3,11 @@ package edu.kit.kastel.mcse.ardoco.core.connectiongenerator.agents;
 
 import java.util.Map;
 
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
 
 import edu.kit.kastel.informalin.framework.configuration.Configurable;
 import edu.kit.kastel.mcse.ardoco.core.api.agent.ConnectionAgent;
@@ -14,6 +18,7 @@ import edu.kit.kastel.mcse.ardoco.core.api.data.recommendationgenerator.IRecomme
 import edu.kit.kastel.mcse.ardoco.core.api.data.textextraction.INounMapping;
 import edu.kit.kastel.mcse.ardoco.core.api.data.textextraction.ITextState;
 import edu.kit.kastel.mcse.ardoco.core.api.data.textextraction.MappingKind;
+import edu.kit.kastel.mcse.ardoco.core.common.util.ModelStateIndex;
 import edu.kit.kastel.mcse.ardoco.core.common.util.SimilarityUtils;
 
 /**
@@ -53,8 +58,9 @@ public class ReferenceAgent extends ConnectionAgent {
      */
     private void findRecommendedInstancesFromNounMappingsThatAreSimilarToInstances(IModelState modelState, IRecommendationState recommendationState,
             ITextState textState) {
+        var candidateNounMappings = getCandidateNounMappings(modelState, textState);
         for (IModelInstance instance : modelState.getInstances()) {
-            var similarToInstanceMappings = getSimilarNounMappings(instance, textState);
+            var similarToInstanceMappings = getSimilarNounMappings(instance, candidateNounMappings);
 
             for (INounMapping similarNameMapping : similarToInstanceMappings) {
                 recommendationState.addRecommendedInstance(similarNameMapping.getReference(), this, probability, similarToInstanceMappings);
@@ -63,9 +69,29 @@ public class ReferenceAgent extends ConnectionAgent {
 
     }
 
-    private ImmutableList<INounMapping> getSimilarNounMappings(IModelInstance instance, ITextState textState) {
-        return textState.getNounMappingsOfKind(MappingKind.NAME)
-                .select(nounMapping -> SimilarityUtils.isNounMappingSimilarToModelInstance(nounMapping, instance));
+    /**
+     * Maps the instances to the name mappings that might be similar to them, in the order of the text state.
+     */
+    private static MutableMap<IModelInstance, MutableList<INounMapping>> getCandidateNounMappings(IModelState modelState, ITextState textState) {
+        var index = ModelStateIndex.of(modelState);
+        MutableMap<IModelInstance, MutableList<INounMapping>> candidateNounMappings = Maps.mutable.empty();
+        for (var nounMapping : textState.getNounMappingsOfKind(MappingKind.NAME)) {
+            for (var instance : index.getNameCandidates(nounMapping.getReference())) {
+                var nounMappings = candidateNounMappings.getIfAbsentPut(instance, Lists.mutable::empty);
+                // equal instances are candidates of the same noun mappings
+                if (nounMappings.isEmpty() || nounMappings.getLast() != nounMapping) {
+                    nounMappings.add(nounMapping);
+                }
+            }
+        }
+        return candidateNounMappings;
+    }
+
+    private ImmutableList<INounMapping> getSimilarNounMappings(IModelInstance instance,
+            MutableMap<IModelInstance, MutableList<INounMapping>> candidateNounMappings) {
+        return candidateNounMappings.getIfAbsentValue(instance, Lists.mutable.empty())
+                .select(nounMapping -> SimilarityUtils.isNounMappingSimilarToModelInstance(nounMapping, instance))
+                .toImmutable();
     }
 
     @Override
@@ -10,6 +10,7 @@ import edu.kit.kastel.mcse.ardoco.core.api.data.model.IModelState;
 import edu.kit.kastel.mcse.ardoco.core.api.data.text.IWord;
 import edu.kit.kastel.mcse.ardoco.core.api.data.textextraction.ITextState;
 import edu.kit.kastel.mcse.ardoco.core.api.data.textextraction.MappingKind;
+import edu.kit.kastel.mcse.ardoco.core.common.util.ModelStateIndex;
 import edu.kit.kastel.mcse.ardoco.core.common.util.SimilarityUtils;
 
 /**
@@ -45,7 +46,9 @@ public class ExtractionDependentOccurrenceExtractor extends AbstractExtractor<Co
         if (posTagIsUndesired(word) && !wordStartsWithCapitalLetter(word)) {
             return;
         }
-        var instanceNameIsSimilar = modelState.getInstances().anySatisfy(i -> SimilarityUtils.isWordSimilarToModelInstance(word, i));
+        var instanceNameIsSimilar = ModelStateIndex.of(modelState)
+                .getNameCandidates(word.getText())
+                .anySatisfy(i -> SimilarityUtils.isWordSimilarToModelInstance(word, i));
         if (instanceNameIsSimilar) {
             textState.addNounMapping(word, MappingKind.NAME, this, probability);
         }
@@ -65,7 +68,9 @@ public class ExtractionDependentOccurrenceExtractor extends AbstractExtractor<Co
      * value is taken as reference.
      */
     private void searchForType(IModelState modelState, ITextState textState, IWord word) {
-        var instanceTypeIsSimilar = modelState.getInstances().anySatisfy(i -> SimilarityUtils.isWordSimilarToModelInstanceType(word, i));
+        var instanceTypeIsSimilar = ModelStateIndex.of(modelState)
+                .getTypeCandidates(word.getText())
+                .anySatisfy(i -> SimilarityUtils.isWordSimilarToModelInstanceType(word, i));
         if (instanceTypeIsSimilar) {
             textState.addNounMapping(word, MappingKind.TYPE, this, probability);
         }
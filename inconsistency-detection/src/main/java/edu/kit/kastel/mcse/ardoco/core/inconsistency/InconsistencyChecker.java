@@ -6,11 +6,13 @@ import java.util.Map;
 
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.set.ImmutableSet;
 
 import edu.kit.kastel.informalin.framework.configuration.Configurable;
 import edu.kit.kastel.mcse.ardoco.core.api.agent.IAgent;
 import edu.kit.kastel.mcse.ardoco.core.api.agent.InconsistencyAgent;
 import edu.kit.kastel.mcse.ardoco.core.api.data.DataStructure;
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.AnnotationLayer;
 import edu.kit.kastel.mcse.ardoco.core.api.stage.AbstractExecutionStage;
 import edu.kit.kastel.mcse.ardoco.core.inconsistency.agents.InitialInconsistencyAgent;
 import edu.kit.kastel.mcse.ardoco.core.inconsistency.agents.MissingModelElementInconsistencyAgent;
@@ -40,4 +42,9 @@ public class InconsistencyChecker extends AbstractExecutionStage {
         }
     }
 
+    @Override
+    public ImmutableSet<AnnotationLayer> getRequiredAnnotationLayers(Map<String, String> additionalSettings) {
+        this.applyConfiguration(additionalSettings);
+        return collectRequiredAnnotationLayers(findByClassName(enabledAgents, agents), additionalSettings);
+    }
 }
@@ -9,6 +9,7 @@ import org.eclipse.collections.api.list.MutableList;
 
 import edu.kit.kastel.mcse.ardoco.core.api.data.model.IModelInstance;
 import edu.kit.kastel.mcse.ardoco.core.common.util.CommonUtilities;
+import edu.kit.kastel.mcse.ardoco.core.common.util.NormalizedTerm;
 
 /**
  * This class represents an instance extracted from a model. The name of an instance (as well as the type) are splitted
@@ -24,6 +25,9 @@ public class Instance implements IModelInstance {
     private final MutableList<String> names;
     private final MutableList<String> types;
     private final String uid;
+    private final NormalizedTerm normalizedFullName;
+    private final ImmutableList<NormalizedTerm> normalizedNames;
+    private final ImmutableList<NormalizedTerm> normalizedTypes;
 
     @Override
     public IModelInstance createCopy() {
@@ -37,6 +41,9 @@ public class Instance implements IModelInstance {
         this.names = names.toList();
         this.types = types.toList();
         this.uid = uid;
+        normalizedFullName = NormalizedTerm.of(fullName);
+        normalizedNames = NormalizedTerm.ofAll(names);
+        normalizedTypes = NormalizedTerm.ofAll(types);
     }
 
     /**
@@ -62,6 +69,9 @@ public class Instance implements IModelInstance {
         this.uid = uid;
         fullName = name;
         fullType = type;
+        normalizedFullName = NormalizedTerm.of(fullName);
+        normalizedNames = NormalizedTerm.ofAll(names.toImmutable());
+        normalizedTypes = NormalizedTerm.ofAll(types.toImmutable());
     }
 
     /**
@@ -104,6 +114,21 @@ public class Instance implements IModelInstance {
         return types.toImmutable();
     }
 
+    @Override
+    public NormalizedTerm getNormalizedFullName() {
+        return normalizedFullName;
+    }
+
+    @Override
+    public ImmutableList<NormalizedTerm> getNormalizedNameParts() {
+        return normalizedNames;
+    }
+
+    @Override
+    public ImmutableList<NormalizedTerm> getNormalizedTypeParts() {
+        return normalizedTypes;
+    }
+
     /**
      * Returns the unique identifier of the instance.
      *
@@ -0,0 +1,163 @@
+/* Licensed under MIT 2022. */
+package edu.kit.kastel.mcse.ardoco.core.pipeline;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.factory.primitive.IntLists;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.IText;
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.IWord;
+import edu.kit.kastel.mcse.ardoco.core.api.data.textextraction.ITextState;
+import edu.kit.kastel.mcse.ardoco.core.text.providers.corenlp.CoreferenceAnnotator;
+import edu.kit.kastel.mcse.ardoco.core.text.providers.corenlp.CoreferenceAnnotator.CoreferenceResult;
+import edu.kit.kastel.mcse.ardoco.core.text.providers.corenlp.CoreferenceChain;
+
+/**
+ * Optional stage that resolves coreferences on a background worker while the main pipeline runs on the base
+ * annotations. Afterwards, the coreference chains are merged into the noun mappings of the text state, so that the
+ * trace links also cover the coreferent mentions (see
+ * {@link edu.kit.kastel.mcse.ardoco.core.api.data.connectiongenerator.IConnectionState#getTraceLinks()}).
+ */
+final class AsyncCoreferenceStage {
+    private static final Logger logger = LoggerFactory.getLogger(AsyncCoreferenceStage.class);
+
+    private final ExecutorService executor;
+    private final CompletableFuture<Map<String, CoreferenceResult>> results;
+
+    private AsyncCoreferenceStage(List<File> inputTexts) {
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            var thread = new Thread(runnable, "coreference");
+            thread.setDaemon(true);
+            return thread;
+        });
+        results = CompletableFuture.supplyAsync(() -> resolveCoreferences(inputTexts), executor);
+    }
+
+    /**
+     * Starts resolving the coreferences of the given plain text files on a background worker. The files have to be the
+     * ones of the annotated text; the documents of a merged text are named after the paths of their files.
+     *
+     * @param inputTexts the files of the text
+     * @return the running stage
+     */
+    static AsyncCoreferenceStage start(List<File> inputTexts) {
+        return new AsyncCoreferenceStage(inputTexts);
+    }
+
+    private static Map<String, CoreferenceResult> resolveCoreferences(List<File> inputTexts) {
+        // the positions are relative to each document; they are moved to the merged text once it is annotated
+        Map<String, CoreferenceResult> documentResults = new LinkedHashMap<>();
+        for (var inputText : inputTexts) {
+            try {
+                documentResults.put(inputText.getPath(), new CoreferenceAnnotator(new FileInputStream(inputText), 0).annotate());
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not read " + inputText, e);
+            }
+        }
+        logger.info("Resolved {} coreference chains", documentResults.values().stream().mapToInt(result -> result.chains().size()).sum());
+        return documentResults;
+    }
+
+    /**
+     * Returns the chains of the documents with the positions of the mentions in the annotated text. The position of each
+     * document is taken from the names of the sentences of the text; a text with a single document is not named. The
+     * chains of a document whose words do not match the ones of the text are dropped.
+     */
+    private static ImmutableList<CoreferenceChain> getChainsInText(IText text, Map<String, CoreferenceResult> documentResults) {
+        Map<String, DocumentSpan> documentSpans = new LinkedHashMap<>();
+        for (var sentence : text.getSentences()) {
+            var words = sentence.getWords();
+            if (words.isEmpty()) {
+                continue;
+            }
+            var span = documentSpans.get(sentence.getDocumentName());
+            if (span == null) {
+                span = new DocumentSpan(words.get(0).getPosition(), 0);
+            }
+            documentSpans.put(sentence.getDocumentName(), new DocumentSpan(span.start(), span.wordCount() + words.size()));
+        }
+
+        MutableList<CoreferenceChain> chainsInText = Lists.mutable.empty();
+        for (var documentResult : documentResults.entrySet()) {
+            var span = documentSpans.get(documentResult.getKey());
+            if (span == null && documentResults.size() == 1 && documentSpans.size() == 1) {
+                span = documentSpans.values().iterator().next();
+            }
+            var result = documentResult.getValue();
+            if (span == null || span.wordCount() != result.wordCount()) {
+                logger.warn("The words of {} do not match the annotated text, its coreferences are dropped.", documentResult.getKey());
+                continue;
+            }
+            int start = span.start();
+            for (var chain : result.chains()) {
+                var mentionPositions = chain.mentionPositions().collectInt(position -> position + start, IntLists.mutable.empty());
+                chainsInText.add(new CoreferenceChain(chain.representativePosition() + start, mentionPositions.toImmutable()));
+            }
+        }
+        return chainsInText.toImmutable();
+    }
+
+    /**
+     * Waits for the coreference resolution and adds the coreferent mentions to the noun mappings. For each noun
+     * mapping that contains a mention of a chain, the other mentions of the chain are added as coreferences. If the
+     * resolution failed, the text state stays unchanged.
+     *
+     * @param text      the annotated text
+     * @param textState the text state
+     */
+    void mergeInto(IText text, ITextState textState) {
+        try {
+            var words = text.getWords();
+            int addedCoreferences = 0;
+            for (var chain : getChainsInText(text, results.join())) {
+                MutableList<IWord> mentionWords = Lists.mutable.empty();
+                chain.mentionPositions().forEach(position -> {
+                    if (position < words.size()) {
+                        mentionWords.add(words.get(position));
+                    }
+                });
+                for (var mentionWord : mentionWords) {
+                    for (var nounMapping : textState.getNounMappingsByWord(mentionWord)) {
+                        for (var coreference : mentionWords) {
+                            if (!nounMapping.getWords().contains(coreference) && !nounMapping.getCoreferences().contains(coreference)) {
+                                nounMapping.addCoreference(coreference);
+                                addedCoreferences++;
+                            }
+                        }
+                    }
+                }
+            }
+            logger.info("Added {} coreferences to the noun mappings", addedCoreferences);
+        } catch (CompletionException e) {
+            logger.error("Could not resolve coreferences: {}", e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Cancels the coreference resolution if it is still running and stops the worker. Does nothing if the stage has
+     * already been merged.
+     */
+    void cancel() {
+        results.cancel(true);
+        executor.shutdownNow();
+    }
+
+    private record DocumentSpan(int start, int wordCount) {
+    }
+}
@@ -4,23 +4,39 @@ package edu.kit.kastel.mcse.ardoco.core.pipeline;
 import static edu.kit.kastel.informalin.framework.configuration.AbstractConfigurable.CLASS_ATTRIBUTE_CONNECTOR;
 import static edu.kit.kastel.informalin.framework.configuration.AbstractConfigurable.KEY_VALUE_CONNECTOR;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Scanner;
+import java.util.Set;
 
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.set.ImmutableSet;
+import org.eclipse.collections.api.set.MutableSet;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import edu.kit.kastel.mcse.ardoco.core.api.data.DataStructure;
 import edu.kit.kastel.mcse.ardoco.core.api.data.model.IModelState;
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.AnnotationLayer;
 import edu.kit.kastel.mcse.ardoco.core.api.data.text.IText;
 import edu.kit.kastel.mcse.ardoco.core.api.stage.IExecutionStage;
+import edu.kit.kastel.mcse.ardoco.core.common.util.SimilarityUtils;
 import edu.kit.kastel.mcse.ardoco.core.connectiongenerator.ConnectionGenerator;
 import edu.kit.kastel.mcse.ardoco.core.inconsistency.InconsistencyChecker;
 import edu.kit.kastel.mcse.ardoco.core.model.IModelConnector;
@@ -30,7 +46,15 @@ import edu.kit.kastel.mcse.ardoco.core.model.PcmXMLModelConnector;
 import edu.kit.kastel.mcse.ardoco.core.pipeline.helpers.FilePrinter;
 import edu.kit.kastel.mcse.ardoco.core.recommendationgenerator.RecommendationGenerator;
 import edu.kit.kastel.mcse.ardoco.core.text.providers.ITextConnector;
+import edu.kit.kastel.mcse.ardoco.core.text.providers.MultiDocumentTextConnector;
+import edu.kit.kastel.mcse.ardoco.core.text.providers.corenlp.CachingTextConnector;
 import edu.kit.kastel.mcse.ardoco.core.text.providers.corenlp.CoreNLPProvider;
+import edu.kit.kastel.mcse.ardoco.core.text.providers.corenlp.CoreferenceAnnotator;
+import edu.kit.kastel.mcse.ardoco.core.text.providers.corenlp.ModelGuidedCoreNLPProvider;
+import edu.kit.kastel.mcse.ardoco.core.text.providers.corenlp.ParserTier;
+import edu.kit.kastel.mcse.ardoco.core.text.providers.corenlp.SentenceCachingTextConnector;
+import edu.kit.kastel.mcse.ardoco.core.text.providers.corenlp.StreamingCoreNLPProvider;
+import edu.kit.kastel.mcse.ardoco.core.text.providers.json.JsonTextConnector;
 import edu.kit.kastel.mcse.ardoco.core.textextraction.TextExtraction;
 
 /**
@@ -43,6 +67,12 @@ public final class Pipeline {
     }
 
     private static final Logger logger = LoggerFactory.getLogger(Pipeline.class);
+    private static final String PREPROCESSED_TEXT_FILE_ENDING = ".json";
+    private static final String PARSER_TIER_ATTRIBUTE = "parserTier";
+    private static final String COREFERENCE_ENABLED_ATTRIBUTE = "enabled";
+    private static final String SELECTIVE_PARSING_ATTRIBUTE = "selectiveParsing";
+    private static final String LAZY_PHRASES_ATTRIBUTE = "lazyPhrases";
+    private static final String STREAMING_ATTRIBUTE = "streaming";
 
     /**
      * Run the approach with the given parameters and save the output to the file system.
@@ -69,23 +99,59 @@ public final class Pipeline {
      */
     public static DataStructure runAndSave(String name, File inputText, File inputArchitectureModel, File inputCodeModel, File additionalConfigsFile,
             File outputDir) throws IOException {
+        return runAndSave(name, inputText, inputArchitectureModel, inputCodeModel, additionalConfigsFile, outputDir, null);
+    }
+
+    /**
+     * Run the approach with the given parameters and save the output to the file system.
+     *
+     * @param name                   Name of the run
+     * @param inputText              File of the input text. Files ending with <code>.json</code> are read as preprocessed
+     *                               text and are not annotated again.
+     * @param inputArchitectureModel File of the input model (PCM)
+     * @param inputCodeModel         File of the input model (Java Code JSON)
+     * @param additionalConfigsFile  File with the additional or overwriting config parameters that should be used
+     * @param outputDir              File that represents the output directory where the results should be written to
+     * @param textCacheDir           Directory where annotated documents and sentences are cached, so unchanged documents are not
+     *                               annotated and only changed sentences are annotated. If <code>null</code>, no cache is used
+     * @return the {@link DataStructure} that contains the blackboard with all results (of all steps)
+     */
+    public static DataStructure runAndSave(String name, File inputText, File inputArchitectureModel, File inputCodeModel, File additionalConfigsFile,
+            File outputDir, File textCacheDir) throws IOException {
+        return runAndSave(name, List.of(inputText), inputArchitectureModel, inputCodeModel, additionalConfigsFile, outputDir, textCacheDir);
+    }
+
+    /**
+     * Run the approach with the given parameters and save the output to the file system. The input texts are annotated
+     * concurrently and merged into one text in the given order; each sentence keeps its originating file.
+     *
+     * @param name                   Name of the run
+     * @param inputTexts             Files of the input texts. Directories are replaced by the files they contain. Files
+     *                               ending with <code>.json</code> are read as preprocessed text and are not annotated
+     *                               again.
+     * @param inputArchitectureModel File of the input model (PCM)
+     * @param inputCodeModel         File of the input model (Java Code JSON)
+     * @param additionalConfigsFile  File with the additional or overwriting config parameters that should be used
+     * @param outputDir              File that represents the output directory where the results should be written to
+     * @param textCacheDir           Directory where annotated documents and sentences are cached, so unchanged documents are not
+     *                               annotated and only changed sentences are annotated. If <code>null</code>, no cache is used
+     * @return the {@link DataStructure} that contains the blackboard with all results (of all steps)
+     */
+    public static DataStructure runAndSave(String name, List<File> inputTexts, File inputArchitectureModel, File inputCodeModel,
+            File additionalConfigsFile, File outputDir, File textCacheDir) throws IOException {
         logger.info("Loading additional configs ..");
         var additionalConfigs = loadAdditionalConfigs(additionalConfigsFile);
 
         logger.info("Starting {}", name);
         var startTime = System.currentTimeMillis();
+        // the memoised similarities are scoped to a run
+        SimilarityUtils.clearCaches();
 
-        logger.info("Preparing and preprocessing text input.");
-        var prevStartTime = System.currentTimeMillis();
-        var annotatedText = getAnnotatedText(inputText);
-        if (annotatedText == null) {
-            logger.info("Could not preprocess or receive annotated text. Exiting.");
-            return null;
-        }
-        logTiming(prevStartTime, "Text preprocessing");
+        var textFiles = collectTextFiles(inputTexts);
 
+        // the models are extracted first, so that their terms can guide the parsing of the text
         logger.info("Starting process to generate Trace Links");
-        prevStartTime = System.currentTimeMillis();
+        var prevStartTime = System.currentTimeMillis();
         Map<String, IModelState> models = new HashMap<>();
         IModelConnector pcmModel = new PcmXMLModelConnector(inputArchitectureModel);
         models.put(pcmModel.getModelId(), runModelExtractor(pcmModel, additionalConfigs));
@@ -95,6 +161,31 @@ public final class Pipeline {
             var codeModelState = runModelExtractor(javaModel, additionalConfigs);
             models.put(javaModel.getModelId(), codeModelState);
         }
+        logTiming(prevStartTime, "Model-Extractor");
+
+        logger.info("Preparing and preprocessing text input.");
+        var textAnnotationOptions = getTextAnnotationOptions(textCacheDir, models.values(), additionalConfigs);
+        // the coreferences are resolved while the text is annotated and the stages run
+        var coreferenceStage = startCoreferenceStage(textFiles, additionalConfigs);
+        try {
+            return runTextStages(name, textFiles, textAnnotationOptions, models, additionalConfigs, outputDir, coreferenceStage, startTime);
+        } finally {
+            if (coreferenceStage != null) {
+                coreferenceStage.cancel();
+            }
+        }
+    }
+
+    private static DataStructure runTextStages(String name, List<File> textFiles, TextAnnotationOptions textAnnotationOptions, Map<String, IModelState> models,
+            Map<String, String> additionalConfigs, File outputDir, AsyncCoreferenceStage coreferenceStage, long startTime) {
+        var prevStartTime = System.currentTimeMillis();
+        var annotatedText = getAnnotatedText(textFiles, textAnnotationOptions);
+        if (annotatedText == null) {
+            logger.info("Could not preprocess or receive annotated text. Exiting.");
+            return null;
+        }
+        logTiming(prevStartTime, "Text preprocessing");
+
         var data = new DataStructure(annotatedText, models);
 
         if (outputDir != null) {
@@ -104,7 +195,6 @@ public final class Pipeline {
                 FilePrinter.writeModelInstancesInCsvFile(modelStateFile, data.getModelState(modelId), name);
             }
         }
-        logTiming(prevStartTime, "Model-Extractor");
 
         prevStartTime = System.currentTimeMillis();
         runTextExtractor(data, additionalConfigs);
@@ -122,6 +212,12 @@ public final class Pipeline {
         runInconsistencyChecker(data, additionalConfigs);
         logTiming(prevStartTime, "Inconsistency-Checker");
 
+        if (coreferenceStage != null) {
+            prevStartTime = System.currentTimeMillis();
+            coreferenceStage.mergeInto(annotatedText, data.getTextState());
+            logTiming(prevStartTime, "Coreference-Merge");
+        }
+
         var duration = Duration.ofMillis(System.currentTimeMillis() - startTime);
         logger.info("Finished in {}.{}s.", duration.getSeconds(), duration.toMillisPart());
 
@@ -167,24 +263,197 @@ public final class Pipeline {
         logger.info("Finished step {} in {}.{}s.", step, duration.getSeconds(), duration.toMillisPart());
     }
 
-    private static IText getAnnotatedText(File inputText) {
+    /**
+     * Reads the options for annotating the input text from the configuration. The lazy phrases and the parser tier only
+     * affect the phrases, so a warning is logged if they are configured although no enabled agent uses the phrases.
+     *
+     * @param textCacheDir      the directory of the text cache, or <code>null</code>
+     * @param models            the extracted models
+     * @param additionalConfigs the configuration
+     * @return the options
+     * @throws IllegalArgumentException if the configured options cannot be combined
+     */
+    private static TextAnnotationOptions getTextAnnotationOptions(File textCacheDir, Collection<IModelState> models, Map<String, String> additionalConfigs) {
+        var lazyPhrases = Boolean
+                .parseBoolean(additionalConfigs.get(CoreNLPProvider.class.getSimpleName() + CLASS_ATTRIBUTE_CONNECTOR + LAZY_PHRASES_ATTRIBUTE));
+        var streaming = Boolean.parseBoolean(additionalConfigs.get(CoreNLPProvider.class.getSimpleName() + CLASS_ATTRIBUTE_CONNECTOR + STREAMING_ATTRIBUTE));
+        var annotationLayers = getRequiredAnnotationLayers(additionalConfigs);
+        if (!annotationLayers.contains(AnnotationLayer.PHRASES)) {
+            if (lazyPhrases) {
+                logger.warn("Lazy phrases are configured, but no enabled agent uses the phrases, so they have no effect");
+            }
+            if (additionalConfigs.containsKey(CoreNLPProvider.class.getSimpleName() + CLASS_ATTRIBUTE_CONNECTOR + PARSER_TIER_ATTRIBUTE)) {
+                logger.warn("A parser tier is configured, but no enabled agent uses the phrases, so it has no effect");
+            }
+        }
+        return new TextAnnotationOptions(textCacheDir, annotationLayers, getParserTier(additionalConfigs), getCandidateTerms(models, additionalConfigs),
+                lazyPhrases, streaming);
+    }
+
+    /**
+     * Computes the annotation layers of the text that are used by the enabled agents of all stages.
+     *
+     * @param additionalConfigs the configuration of the stages
+     * @return the used annotation layers
+     */
+    private static ImmutableSet<AnnotationLayer> getRequiredAnnotationLayers(Map<String, String> additionalConfigs) {
+        List<IExecutionStage> stages = List.of(new TextExtraction(), new RecommendationGenerator(), new ConnectionGenerator(), new InconsistencyChecker());
+        MutableSet<AnnotationLayer> annotationLayers = Sets.mutable.empty();
+        for (var stage : stages) {
+            annotationLayers.addAllIterable(stage.getRequiredAnnotationLayers(additionalConfigs));
+        }
+        logger.info("Required annotation layers: {}", annotationLayers);
+        return annotationLayers.toImmutable();
+    }
+
+    /**
+     * Reads the parser tier of the text provider from the configuration, e.g.,
+     * {@code CoreNLPProvider::parserTier=DEPENDENCIES_ONLY}.
+     *
+     * @param additionalConfigs the configuration
+     * @return the configured parser tier, or the default tier
+     */
+    private static ParserTier getParserTier(Map<String, String> additionalConfigs) {
+        var parserTier = additionalConfigs.get(CoreNLPProvider.class.getSimpleName() + CLASS_ATTRIBUTE_CONNECTOR + PARSER_TIER_ATTRIBUTE);
+        if (parserTier == null) {
+            return ParserTier.DEFAULT;
+        }
         try {
-            ITextConnector textConnector = new CoreNLPProvider(new FileInputStream(inputText));
-            return textConnector.getAnnotatedText();
-        } catch (IOException e) {
+            return ParserTier.valueOf(parserTier.strip().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            logger.error("Unknown parser tier \"{}\", using {}", parserTier, ParserTier.DEFAULT);
+            return ParserTier.DEFAULT;
+        }
+    }
+
+    /**
+     * Returns the name and type parts of the instances of the given models if only the sentences that mention them
+     * should be parsed, e.g., with {@code CoreNLPProvider::selectiveParsing=true}.
+     *
+     * @param models            the extracted models
+     * @param additionalConfigs the configuration
+     * @return the terms of the models, or <code>null</code> if all sentences are parsed
+     */
+    private static Set<String> getCandidateTerms(Collection<IModelState> models, Map<String, String> additionalConfigs) {
+        var selectiveParsing = additionalConfigs.get(CoreNLPProvider.class.getSimpleName() + CLASS_ATTRIBUTE_CONNECTOR + SELECTIVE_PARSING_ATTRIBUTE);
+        if (!Boolean.parseBoolean(selectiveParsing)) {
+            return null;
+        }
+        Set<String> candidateTerms = new HashSet<>();
+        for (var model : models) {
+            candidateTerms.addAll(model.getNames());
+            candidateTerms.addAll(model.getInstanceTypes());
+        }
+        return candidateTerms;
+    }
+
+    /**
+     * Replaces the directories of the given files by the (non-hidden) files they contain, sorted by name. The documents
+     * of the merged text are named by the paths of the files, so each file may only be given once.
+     *
+     * @param inputTexts the files and directories
+     * @return the files
+     * @throws IllegalArgumentException if a file is given more than once
+     */
+    private static List<File> collectTextFiles(List<File> inputTexts) {
+        List<File> textFiles = new ArrayList<>();
+        for (var inputText : inputTexts) {
+            if (inputText.isDirectory()) {
+                var directoryFiles = inputText.listFiles(file -> file.isFile() && !file.isHidden());
+                if (directoryFiles != null) {
+                    Arrays.sort(directoryFiles, Comparator.comparing(File::getName));
+                    textFiles.addAll(Arrays.asList(directoryFiles));
+                }
+            } else {
+                textFiles.add(inputText);
+            }
+        }
+        Set<Path> paths = new HashSet<>();
+        for (var textFile : textFiles) {
+            if (!paths.add(textFile.toPath().toAbsolutePath().normalize())) {
+                throw new IllegalArgumentException("The input text " + textFile.getPath() + " is given more than once");
+            }
+        }
+        return textFiles;
+    }
+
+    /**
+     * Starts the background coreference resolution if it is enabled in the configuration, e.g.,
+     * {@code CoreferenceAnnotator::enabled=true}. Preprocessed texts cannot be resolved, as their plain text is unknown.
+     *
+     * @param textFiles         the files of the input text
+     * @param additionalConfigs the configuration
+     * @return the running stage, or <code>null</code> if coreferences are not resolved
+     */
+    private static AsyncCoreferenceStage startCoreferenceStage(List<File> textFiles, Map<String, String> additionalConfigs) {
+        var enabled = additionalConfigs.get(CoreferenceAnnotator.class.getSimpleName() + CLASS_ATTRIBUTE_CONNECTOR + COREFERENCE_ENABLED_ATTRIBUTE);
+        if (!Boolean.parseBoolean(enabled)) {
+            return null;
+        }
+        if (textFiles.isEmpty() || textFiles.stream().anyMatch(file -> file.getName().endsWith(PREPROCESSED_TEXT_FILE_ENDING))) {
+            logger.warn("Coreferences can only be resolved for plain text input.");
+            return null;
+        }
+        logger.info("Resolving coreferences in the background.");
+        return AsyncCoreferenceStage.start(textFiles);
+    }
+
+    private static IText getAnnotatedText(List<File> inputTexts, TextAnnotationOptions options) {
+        if (inputTexts.isEmpty()) {
+            logger.error("There is no input text.");
+            return null;
+        }
+        try {
+            var threads = Runtime.getRuntime().availableProcessors();
+            ITextConnector textConnector;
+            if (inputTexts.size() == 1) {
+                textConnector = createTextConnector(inputTexts.get(0), options, threads);
+            } else {
+                // the documents are annotated concurrently, so each document gets its share of the threads
+                var threadsPerDocument = Math.max(1, threads / inputTexts.size());
+                Map<String, ITextConnector> documents = new LinkedHashMap<>();
+                for (var inputText : inputTexts) {
+                    documents.put(inputText.getPath(), createTextConnector(inputText, options, threadsPerDocument));
+                }
+                textConnector = new MultiDocumentTextConnector(documents, threads);
+            }
+            // the text is shared by all stages and model runs
+            return textConnector.getAnnotatedText().freeze();
+        } catch (IOException | IllegalStateException e) {
             logger.error(e.getMessage(), e);
             return null;
         }
 
     }
 
+    private static ITextConnector createTextConnector(File inputText, TextAnnotationOptions options, int threads) throws IOException {
+        if (inputText.getName().endsWith(PREPROCESSED_TEXT_FILE_ENDING)) {
+            return new JsonTextConnector(inputText);
+        } else if (options.textCacheDir() != null) {
+            // unchanged documents are loaded as a whole; changed documents only annotate their changed sentences
+            var input = Files.readAllBytes(inputText.toPath());
+            var cacheDirectory = options.textCacheDir().toPath();
+            var sentenceCache = new SentenceCachingTextConnector(new ByteArrayInputStream(input), cacheDirectory,
+                    SentenceCachingTextConnector.DEFAULT_MAX_CACHE_SIZE, threads, options.annotationLayers(), options.parserTier());
+            return new CachingTextConnector(sentenceCache, input, cacheDirectory, CachingTextConnector.DEFAULT_MAX_CACHE_SIZE, options.annotationLayers(),
+                    options.parserTier());
+        } else if (options.candidateTerms() != null) {
+            return new ModelGuidedCoreNLPProvider(new FileInputStream(inputText), options.candidateTerms(), threads, options.annotationLayers(),
+                    options.parserTier());
+        } else if (options.streaming()) {
+            return new StreamingCoreNLPProvider(new FileInputStream(inputText), StreamingCoreNLPProvider.DEFAULT_CHUNK_SIZE, options.annotationLayers(),
+                    options.parserTier());
+        }
+        return new CoreNLPProvider(new FileInputStream(inputText), threads, options.annotationLayers(), options.parserTier(), options.lazyPhrases());
+    }
+
     private static void printResultsInFiles(File outputDir, String modelId, String name, DataStructure data, Duration duration) {
 
         FilePrinter.writeNounMappingsInCsvFile(Path.of(outputDir.getAbsolutePath(), name + "_noun_mappings.csv").toFile(), //
                 data.getTextState());
 
         FilePrinter.writeTraceLinksInCsvFile(Path.of(outputDir.getAbsolutePath(), name + "_trace_links.csv").toFile(), //
-                data.getConnectionState(modelId));
+                data.getConnectionState(modelId), data.getText());
 
         FilePrinter.writeStatesToFile(Path.of(outputDir.getAbsolutePath(), name + "_states.csv").toFile(), //
                 data.getModelState(modelId), data.getTextState(), data.getRecommendationState(data.getModelState(modelId).getMetamodel()),
@@ -219,4 +488,41 @@ public final class Pipeline {
         inconsistencyChecker.execute(data, additionalConfigs);
     }
 
+    /**
+     * The options for annotating the input text. Streaming annotation, e.g., {@code CoreNLPProvider::streaming=true},
+     * annotates each chunk of paragraphs on its own to bound the memory, so it cannot be combined with the text
+     * cache, selective parsing, or lazy phrases. The text cache stores fully annotated documents and sentences, so it
+     * cannot be combined with selective parsing or lazy phrases either. Selective parsing decides up front which sentences are
+     * parsed, so it cannot be combined with lazy phrases, which parse each sentence on demand.
+     *
+     * @param textCacheDir     the directory of the text cache, or <code>null</code>
+     * @param annotationLayers the used annotation layers
+     * @param parserTier       the parsers that produce the phrases
+     * @param candidateTerms   the terms that select the parsed sentences, or <code>null</code> if all sentences are parsed
+     * @param lazyPhrases      whether the phrases of a sentence are parsed on demand
+     * @param streaming        whether the text is annotated in chunks
+     */
+    private record TextAnnotationOptions(File textCacheDir, ImmutableSet<AnnotationLayer> annotationLayers, ParserTier parserTier, Set<String> candidateTerms,
+            boolean lazyPhrases, boolean streaming) {
+        private TextAnnotationOptions {
+            if (streaming && textCacheDir != null) {
+                throw new IllegalArgumentException("Streaming annotation cannot be combined with a text cache");
+            }
+            if (streaming && candidateTerms != null) {
+                throw new IllegalArgumentException("Streaming annotation cannot be combined with selective parsing");
+            }
+            if (streaming && lazyPhrases) {
+                throw new IllegalArgumentException("Streaming annotation cannot be combined with lazy phrases");
+            }
+            if (candidateTerms != null && lazyPhrases) {
+                throw new IllegalArgumentException("Selective parsing cannot be combined with lazy phrases");
+            }
+            if (textCacheDir != null && candidateTerms != null) {
+                throw new IllegalArgumentException("A text cache cannot be combined with selective parsing");
+            }
+            if (textCacheDir != null && lazyPhrases) {
+                throw new IllegalArgumentException("A text cache cannot be combined with lazy phrases");
+            }
+        }
+    }
 }
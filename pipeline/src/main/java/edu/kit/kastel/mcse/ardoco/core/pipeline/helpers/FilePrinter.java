@@ -28,6 +28,7 @@ import edu.kit.kastel.mcse.ardoco.core.api.data.model.IModelInstance;
 import edu.kit.kastel.mcse.ardoco.core.api.data.model.IModelState;
 import edu.kit.kastel.mcse.ardoco.core.api.data.recommendationgenerator.IRecommendationState;
 import edu.kit.kastel.mcse.ardoco.core.api.data.recommendationgenerator.IRecommendedInstance;
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.ISentence;
 import edu.kit.kastel.mcse.ardoco.core.api.data.text.IText;
 import edu.kit.kastel.mcse.ardoco.core.api.data.text.IWord;
 import edu.kit.kastel.mcse.ardoco.core.api.data.textextraction.INounMapping;
@@ -238,7 +239,20 @@ public final class FilePrinter {
      * @param connectionState the connection state
      */
     public static void writeTraceLinksInCsvFile(File resultFile, IConnectionState connectionState) {
-        var dataLines = getLinksAsDataLinesOfConnectionState(connectionState);
+        var dataLines = getLinksAsDataLinesOfConnectionState(connectionState, null);
+        writeDataLinesInFile(resultFile, dataLines);
+    }
+
+    /**
+     * Write trace links in csv file. If the text was merged from several documents, each trace link also names the
+     * document of its sentence and the number of the sentence within this document.
+     *
+     * @param resultFile      the result file
+     * @param connectionState the connection state
+     * @param text            the annotated text the trace links refer to
+     */
+    public static void writeTraceLinksInCsvFile(File resultFile, IConnectionState connectionState, IText text) {
+        var dataLines = getLinksAsDataLinesOfConnectionState(connectionState, text);
         writeDataLinesInFile(resultFile, dataLines);
     }
 
@@ -286,12 +300,19 @@ public final class FilePrinter {
         return dataLines.toImmutable();
     }
 
-    private static ImmutableList<String[]> getLinksAsDataLinesOfConnectionState(IConnectionState connectionState) {
+    private static ImmutableList<String[]> getLinksAsDataLinesOfConnectionState(IConnectionState connectionState, IText text) {
         MutableList<String[]> dataLines = Lists.mutable.empty();
+        var sentences = text == null ? Lists.immutable.<ISentence> empty() : text.getSentences();
+        var withDocuments = sentences.anySatisfy(sentence -> !sentence.getDocumentName().isEmpty());
+        var firstSentencesOfDocuments = getFirstSentencesOfDocuments(sentences);
 
         dataLines.add(new String[] { "#Found TraceLinks: ", "", "" });
         dataLines.add(new String[] { "" });
-        dataLines.add(new String[] { "modelElementID", "sentence", "confidence" });
+        if (withDocuments) {
+            dataLines.add(new String[] { "modelElementID", "sentence", "confidence", "document", "documentSentence" });
+        } else {
+            dataLines.add(new String[] { "modelElementID", "sentence", "confidence" });
+        }
 
         Set<TraceLink> tracelinks = new HashSet<>(connectionState.getTraceLinks().castToCollection());
         for (var tracelink : tracelinks) {
@@ -299,12 +320,30 @@ public final class FilePrinter {
             // sentence offset is 1 because real sentences are 1-indexed
             var sentenceNumber = Integer.toString(tracelink.getSentenceNumber() + 1);
             var probability = Double.toString(tracelink.getProbability());
-            dataLines.add(new String[] { modelElementUid, sentenceNumber, probability });
+            if (withDocuments) {
+                var document = sentences.get(tracelink.getSentenceNumber()).getDocumentName();
+                var documentSentenceNumber = Integer.toString(tracelink.getSentenceNumber() - firstSentencesOfDocuments[tracelink.getSentenceNumber()] + 1);
+                dataLines.add(new String[] { modelElementUid, sentenceNumber, probability, document, documentSentenceNumber });
+            } else {
+                dataLines.add(new String[] { modelElementUid, sentenceNumber, probability });
+            }
         }
 
         return dataLines.toImmutable();
     }
 
+    /**
+     * Returns for each sentence the number of the first sentence of its document.
+     */
+    private static int[] getFirstSentencesOfDocuments(ImmutableList<ISentence> sentences) {
+        int[] firstSentences = new int[sentences.size()];
+        for (int sentenceNumber = 1; sentenceNumber < sentences.size(); sentenceNumber++) {
+            var sameDocument = sentences.get(sentenceNumber).getDocumentName().equals(sentences.get(sentenceNumber - 1).getDocumentName());
+            firstSentences[sentenceNumber] = sameDocument ? firstSentences[sentenceNumber - 1] : sentenceNumber;
+        }
+        return firstSentences;
+    }
+
     /**
      * Write data lines in file.
      *
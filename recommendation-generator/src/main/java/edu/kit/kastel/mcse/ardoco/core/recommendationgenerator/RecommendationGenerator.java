@@ -7,12 +7,14 @@ import java.util.Map;
 
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.set.ImmutableSet;
 
 import edu.kit.kastel.informalin.framework.configuration.Configurable;
 import edu.kit.kastel.mcse.ardoco.core.api.agent.IAgent;
 import edu.kit.kastel.mcse.ardoco.core.api.agent.RecommendationAgent;
 import edu.kit.kastel.mcse.ardoco.core.api.data.DataStructure;
 import edu.kit.kastel.mcse.ardoco.core.api.data.model.Metamodel;
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.AnnotationLayer;
 import edu.kit.kastel.mcse.ardoco.core.api.stage.AbstractExecutionStage;
 import edu.kit.kastel.mcse.ardoco.core.recommendationgenerator.agents.InitialRecommendationAgent;
 import edu.kit.kastel.mcse.ardoco.core.recommendationgenerator.agents.PhraseRecommendationAgent;
@@ -45,4 +47,10 @@ public class RecommendationGenerator extends AbstractExecutionStage {
             agent.execute(data);
         }
     }
+
+    @Override
+    public ImmutableSet<AnnotationLayer> getRequiredAnnotationLayers(Map<String, String> additionalSettings) {
+        this.applyConfiguration(additionalSettings);
+        return collectRequiredAnnotationLayers(findByClassName(enabledAgents, agents), additionalSettings);
+    }
 }
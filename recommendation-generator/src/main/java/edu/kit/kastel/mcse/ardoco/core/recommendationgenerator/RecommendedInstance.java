@@ -9,6 +9,7 @@ import edu.kit.kastel.mcse.ardoco.core.api.data.recommendationgenerator.IRecomme
 import edu.kit.kastel.mcse.ardoco.core.api.data.textextraction.INounMapping;
 import edu.kit.kastel.mcse.ardoco.core.api.data.textextraction.MappingKind;
 import edu.kit.kastel.mcse.ardoco.core.common.util.CommonUtilities;
+import edu.kit.kastel.mcse.ardoco.core.common.util.NormalizedTerm;
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.list.ImmutableList;
 import org.eclipse.collections.api.list.MutableList;
@@ -35,6 +36,7 @@ public class RecommendedInstance implements IRecommendedInstance, IClaimant {
 
     private String type;
     private String name;
+    private NormalizedTerm normalizedName;
     private Confidence internalConfidence;
     private final Set<INounMapping> typeMappings;
     private final Set<INounMapping> nameMappings;
@@ -51,6 +53,7 @@ public class RecommendedInstance implements IRecommendedInstance, IClaimant {
     private RecommendedInstance(String name, String type) {
         this.type = type;
         this.name = name;
+        this.normalizedName = NormalizedTerm.of(name);
         this.internalConfidence = new Confidence(AggregationFunctions.AVERAGE);
         nameMappings = new HashSet<>();
         typeMappings = new HashSet<>();
@@ -188,6 +191,11 @@ public class RecommendedInstance implements IRecommendedInstance, IClaimant {
         return name;
     }
 
+    @Override
+    public NormalizedTerm getNormalizedName() {
+        return normalizedName;
+    }
+
     /**
      * Sets the type of this recommended instance to the given type.
      *
@@ -206,6 +214,7 @@ public class RecommendedInstance implements IRecommendedInstance, IClaimant {
     @Override
     public void setName(String name) {
         this.name = name;
+        this.normalizedName = NormalizedTerm.of(name);
     }
 
     @Override
@@ -22,6 +22,7 @@ import edu.kit.kastel.mcse.ardoco.core.api.data.text.IWord;
 import edu.kit.kastel.mcse.ardoco.core.api.data.textextraction.INounMapping;
 import edu.kit.kastel.mcse.ardoco.core.api.data.textextraction.MappingKind;
 import edu.kit.kastel.mcse.ardoco.core.common.util.CommonUtilities;
+import edu.kit.kastel.mcse.ardoco.core.common.util.NormalizedTerm;
 import edu.kit.kastel.mcse.ardoco.core.common.util.SimilarityUtils;
 
 /**
@@ -34,6 +35,8 @@ public class NounMapping implements INounMapping {
 
     /* Main reference */
     private final ImmutableList<IWord> referenceWords;
+    /* normalized forms of the reference, which only depends on the reference words */
+    private volatile NormalizedTerm normalizedReference;
 
     /* Words are the references within the text */
     private final MutableList<IWord> words;
@@ -152,6 +155,16 @@ public class NounMapping implements INounMapping {
         return CommonUtilities.createReferenceForPhrase(referenceWords);
     }
 
+    @Override
+    public final NormalizedTerm getNormalizedReference() {
+        var currentReference = normalizedReference;
+        if (currentReference == null) {
+            currentReference = NormalizedTerm.of(getReference());
+            normalizedReference = currentReference;
+        }
+        return currentReference;
+    }
+
     /**
      * Returns the reference words
      *
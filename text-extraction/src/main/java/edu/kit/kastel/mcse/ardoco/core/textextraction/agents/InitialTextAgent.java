@@ -4,10 +4,13 @@ package edu.kit.kastel.mcse.ardoco.core.textextraction.agents;
 import java.util.List;
 import java.util.Map;
 
+import org.eclipse.collections.api.set.ImmutableSet;
+
 import edu.kit.kastel.informalin.framework.configuration.Configurable;
 import edu.kit.kastel.mcse.ardoco.core.api.agent.AbstractExtractor;
 import edu.kit.kastel.mcse.ardoco.core.api.agent.TextAgent;
 import edu.kit.kastel.mcse.ardoco.core.api.agent.TextAgentData;
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.AnnotationLayer;
 import edu.kit.kastel.mcse.ardoco.core.api.data.text.IWord;
 import edu.kit.kastel.mcse.ardoco.core.textextraction.extractors.InDepArcsExtractor;
 import edu.kit.kastel.mcse.ardoco.core.textextraction.extractors.NounExtractor;
@@ -42,6 +45,11 @@ public class InitialTextAgent extends TextAgent {
         }
     }
 
+    @Override
+    public ImmutableSet<AnnotationLayer> getRequiredAnnotationLayers() {
+        return collectRequiredAnnotationLayers(findByClassName(enabledExtractors, extractors));
+    }
+
     @Override
     protected void delegateApplyConfigurationToInternalObjects(Map<String, String> additionalConfiguration) {
         extractors.forEach(e -> e.applyConfiguration(additionalConfiguration));
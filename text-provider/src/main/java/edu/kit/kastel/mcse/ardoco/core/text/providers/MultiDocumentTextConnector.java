@@ -0,0 +1,96 @@
+/* Licensed under MIT 2022. */
+package edu.kit.kastel.mcse.ardoco.core.text.providers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.IText;
+import edu.kit.kastel.mcse.ardoco.core.text.providers.binary.BinaryTextBuilder;
+
+/**
+ * Annotates several documents concurrently and merges them into one text. The documents are appended in the given
+ * order, so word positions and sentence numbers are continuous over all documents. Each sentence keeps the name of its
+ * originating document (see {@link edu.kit.kastel.mcse.ardoco.core.api.data.text.ISentence#getDocumentName()}).
+ */
+public class MultiDocumentTextConnector implements ITextConnector {
+    private static final Logger logger = LoggerFactory.getLogger(MultiDocumentTextConnector.class);
+
+    private final ImmutableList<String> documentNames;
+    private final ImmutableList<ITextConnector> documentConnectors;
+    private final int threads;
+    private IText annotatedText;
+
+    /**
+     * Creates a new connector.
+     *
+     * @param documents the connectors of the documents by the names of the documents, in the order of the documents
+     * @param threads   the maximum number of documents that are annotated concurrently
+     */
+    public MultiDocumentTextConnector(Map<String, ? extends ITextConnector> documents, int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Number of threads must be positive");
+        }
+        this.documentNames = Lists.immutable.withAll(documents.keySet());
+        this.documentConnectors = Lists.immutable.withAll(documents.values());
+        this.threads = threads;
+        annotatedText = null;
+    }
+
+    @Override
+    public IText getAnnotatedText(String textName) {
+        logger.warn("Returning annotated text ignoring the provided name");
+        return getAnnotatedText();
+    }
+
+    @Override
+    public synchronized IText getAnnotatedText() {
+        if (annotatedText == null) {
+            annotatedText = merge(annotateDocuments());
+        }
+        return annotatedText;
+    }
+
+    private List<IText> annotateDocuments() {
+        logger.info("Annotating {} documents on up to {} threads", documentConnectors.size(), threads);
+        if (documentConnectors.size() <= 1 || threads == 1) {
+            return documentConnectors.collect(ITextConnector::getAnnotatedText).castToList();
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, documentConnectors.size()));
+        try {
+            List<Future<IText>> results = new ArrayList<>(documentConnectors.size());
+            for (var connector : documentConnectors) {
+                results.add(executor.submit(() -> connector.getAnnotatedText()));
+            }
+            List<IText> documentTexts = new ArrayList<>(results.size());
+            for (var result : results) {
+                documentTexts.add(result.get());
+            }
+            return documentTexts;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while annotating the documents", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Could not annotate the documents", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private IText merge(List<IText> documentTexts) {
+        var builder = new BinaryTextBuilder();
+        for (int document = 0; document < documentTexts.size(); document++) {
+            builder.add(documentTexts.get(document), documentNames.get(document));
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,99 @@
+/* Licensed under MIT 2022. */
+package edu.kit.kastel.mcse.ardoco.core.text.providers.binary;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.collections.api.factory.Lists;
+
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.IPhrase;
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.ISentence;
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.IWord;
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.PhraseType;
+
+/**
+ * Phrase view of a {@link BinaryText}. Phrases are stored in pre-order, so the sub-phrases of a phrase are the phrases
+ * between the phrase and the end of its subtree, and containment is a comparison of indices.
+ */
+class BinaryPhrase implements IPhrase {
+    private final BinaryText text;
+    private final BinarySentence sentence;
+    private final int index;
+
+    BinaryPhrase(BinaryText text, BinarySentence sentence, int index) {
+        this.text = text;
+        this.sentence = sentence;
+        this.index = index;
+    }
+
+    @Override
+    public int getSentenceNo() {
+        return sentence.getSentenceNumber();
+    }
+
+    @Override
+    public ISentence getSentence() {
+        return sentence;
+    }
+
+    @Override
+    public String getText() {
+        return text.getPhraseText(index);
+    }
+
+    @Override
+    public PhraseType getPhraseType() {
+        return text.getPhraseType(index);
+    }
+
+    @Override
+    public List<IWord> getContainedWords() {
+        return text.getPhraseWords(index).castToList();
+    }
+
+    @Override
+    public List<IPhrase> getSubPhrases() {
+        int firstPhraseOfSentence = text.getFirstPhraseOfSentence(getSentenceNo());
+        var sentencePhrases = sentence.getPhrases();
+        List<IPhrase> subPhrases = Lists.mutable.empty();
+        for (int phrase = index + 1; phrase < text.getPhraseSubtreeEnd(index); phrase++) {
+            subPhrases.add(sentencePhrases.get(phrase - firstPhraseOfSentence));
+        }
+        return subPhrases;
+    }
+
+    @Override
+    public boolean isSuperPhraseOf(IPhrase other) {
+        if (other instanceof BinaryPhrase otherPhrase && otherPhrase.text == text) {
+            return index < otherPhrase.index && otherPhrase.index < text.getPhraseSubtreeEnd(index);
+        }
+        var currText = getText();
+        var otherText = other.getText();
+        return currText.contains(otherText) && currText.length() != otherText.length();
+    }
+
+    @Override
+    public boolean isSubPhraseOf(IPhrase other) {
+        if (other instanceof BinaryPhrase otherPhrase && otherPhrase.text == text) {
+            return otherPhrase.isSuperPhraseOf(this);
+        }
+        var currText = getText();
+        var otherText = other.getText();
+        return otherText.contains(currText) && currText.length() != otherText.length();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o instanceof BinaryPhrase phrase) {
+            return index == phrase.index && text == phrase.text;
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(index, getSentenceNo());
+    }
+}
@@ -0,0 +1,80 @@
+/* Licensed under MIT 2022. */
+package edu.kit.kastel.mcse.ardoco.core.text.providers.binary;
+
+import java.util.Objects;
+
+import org.eclipse.collections.api.list.ImmutableList;
+
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.IPhrase;
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.ISentence;
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.IWord;
+
+/**
+ * Sentence view of a {@link BinaryText}.
+ */
+class BinarySentence implements ISentence {
+    private final BinaryText text;
+    private final int sentenceNumber;
+    private volatile ImmutableList<IWord> words = null;
+    private volatile ImmutableList<IPhrase> phrases = null;
+
+    BinarySentence(BinaryText text, int sentenceNumber) {
+        this.text = text;
+        this.sentenceNumber = sentenceNumber;
+    }
+
+    @Override
+    public int getSentenceNumber() {
+        return sentenceNumber;
+    }
+
+    @Override
+    public ImmutableList<IWord> getWords() {
+        var currentWords = words;
+        if (currentWords == null) {
+            // the words are views of the text, so concurrently created lists are equal
+            currentWords = text.getSentenceWords(sentenceNumber);
+            words = currentWords;
+        }
+        return currentWords;
+    }
+
+    @Override
+    public String getText() {
+        return text.getSentenceText(sentenceNumber);
+    }
+
+    @Override
+    public String getDocumentName() {
+        return text.getSentenceDocument(sentenceNumber);
+    }
+
+    @Override
+    public ImmutableList<IPhrase> getPhrases() {
+        var currentPhrases = phrases;
+        if (currentPhrases == null) {
+            synchronized (this) {
+                if (phrases == null) {
+                    phrases = text.getSentencePhrases(this);
+                }
+                currentPhrases = phrases;
+            }
+        }
+        return currentPhrases;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o instanceof ISentence sentence) {
+            return isEqualTo(sentence);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sentenceNumber, getText());
+    }
+}
@@ -0,0 +1,224 @@
+/* Licensed under MIT 2022. */
+package edu.kit.kastel.mcse.ardoco.core.text.providers.binary;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.DependencyTag;
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.IPhrase;
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.ISentence;
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.IText;
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.IWord;
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.POSTag;
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.PhraseType;
+import edu.kit.kastel.mcse.ardoco.core.common.util.NormalizedTerm;
+
+/**
+ * Text that reads its annotations directly from a buffer in the {@link BinaryTextLayout binary format}. Words and
+ * sentences are lightweight views that are created on first access; strings are decoded on first access. The text is
+ * safe for concurrent use: the buffer is only read with absolute accesses, the views are published safely, and
+ * concurrently decoded strings are equal. {@link #freeze()} creates all views and decodes all strings upfront.
+ */
+class BinaryText implements IText {
+    private static final POSTag[] POS_TAGS = POSTag.values();
+    private static final PhraseType[] PHRASE_TYPES = PhraseType.values();
+
+    private final ByteBuffer buffer;
+    private final BinaryTextLayout layout;
+    private final String[] decodedStrings;
+    private final NormalizedTerm[] normalizedStrings;
+
+    private volatile ImmutableList<IWord> words = null;
+    private volatile ImmutableList<ISentence> sentences = null;
+
+    BinaryText(ByteBuffer buffer) {
+        this.buffer = buffer.order(BinaryTextLayout.BYTE_ORDER);
+        this.layout = BinaryTextLayout.readHeader(this.buffer);
+        this.decodedStrings = new String[layout.stringCount()];
+        this.normalizedStrings = new NormalizedTerm[layout.stringCount()];
+    }
+
+    @Override
+    public IWord getFirstWord() {
+        return getWords().get(0);
+    }
+
+    @Override
+    public int getLength() {
+        return layout.wordCount();
+    }
+
+    @Override
+    public ImmutableList<IWord> getWords() {
+        var currentWords = words;
+        if (currentWords == null) {
+            synchronized (this) {
+                if (words == null) {
+                    MutableList<IWord> wordList = Lists.mutable.withInitialCapacity(layout.wordCount());
+                    for (int position = 0; position < layout.wordCount(); position++) {
+                        wordList.add(new BinaryWord(this, position));
+                    }
+                    words = wordList.toImmutable();
+                }
+                currentWords = words;
+            }
+        }
+        return currentWords;
+    }
+
+    @Override
+    public ImmutableList<ISentence> getSentences() {
+        var currentSentences = sentences;
+        if (currentSentences == null) {
+            synchronized (this) {
+                if (sentences == null) {
+                    MutableList<ISentence> sentenceList = Lists.mutable.withInitialCapacity(layout.sentenceCount());
+                    for (int sentenceNumber = 0; sentenceNumber < layout.sentenceCount(); sentenceNumber++) {
+                        sentenceList.add(new BinarySentence(this, sentenceNumber));
+                    }
+                    sentences = sentenceList.toImmutable();
+                }
+                currentSentences = sentences;
+            }
+        }
+        return currentSentences;
+    }
+
+    @Override
+    public IText freeze() {
+        getWords();
+        for (var sentence : getSentences()) {
+            sentence.getWords();
+            sentence.getPhrases();
+        }
+        for (int stringId = 0; stringId < decodedStrings.length; stringId++) {
+            getString(stringId);
+        }
+        return this;
+    }
+
+    String getString(int stringId) {
+        // racing threads decode equal strings; as strings are immutable, either of them can be published
+        var string = decodedStrings[stringId];
+        if (string == null) {
+            int start = intAt(layout.stringOffsets(), stringId);
+            int end = intAt(layout.stringOffsets(), stringId + 1);
+            var bytes = new byte[end - start];
+            buffer.get(layout.stringData() + start, bytes);
+            string = new String(bytes, StandardCharsets.UTF_8);
+            decodedStrings[stringId] = string;
+        }
+        return string;
+    }
+
+    String getWordText(int position) {
+        return getString(intAt(layout.wordTexts(), position));
+    }
+
+    NormalizedTerm getNormalizedWordText(int position) {
+        // the normalized forms are shared by all words with the same text; as they are immutable, racing threads can
+        // publish either of them
+        int stringId = intAt(layout.wordTexts(), position);
+        var term = normalizedStrings[stringId];
+        if (term == null) {
+            term = NormalizedTerm.of(getString(stringId));
+            normalizedStrings[stringId] = term;
+        }
+        return term;
+    }
+
+    String getWordLemma(int position) {
+        return getString(intAt(layout.wordLemmas(), position));
+    }
+
+    int getWordSentenceNo(int position) {
+        return intAt(layout.wordSentences(), position);
+    }
+
+    POSTag getWordPosTag(int position) {
+        return POS_TAGS[buffer.get(layout.wordPosTags() + position)];
+    }
+
+    String getSentenceText(int sentenceNumber) {
+        return getString(intAt(layout.sentenceTexts(), sentenceNumber));
+    }
+
+    String getSentenceDocument(int sentenceNumber) {
+        return getString(intAt(layout.sentenceDocuments(), sentenceNumber));
+    }
+
+    ImmutableList<IWord> getSentenceWords(int sentenceNumber) {
+        return getWords(intAt(layout.sentenceStarts(), sentenceNumber), intAt(layout.sentenceStarts(), sentenceNumber + 1));
+    }
+
+    ImmutableList<IPhrase> getSentencePhrases(BinarySentence sentence) {
+        int start = getFirstPhraseOfSentence(sentence.getSentenceNumber());
+        int end = intAt(layout.sentencePhraseStarts(), sentence.getSentenceNumber() + 1);
+        MutableList<IPhrase> phrases = Lists.mutable.withInitialCapacity(end - start);
+        for (int phrase = start; phrase < end; phrase++) {
+            phrases.add(new BinaryPhrase(this, sentence, phrase));
+        }
+        return phrases.toImmutable();
+    }
+
+    int getFirstPhraseOfSentence(int sentenceNumber) {
+        return intAt(layout.sentencePhraseStarts(), sentenceNumber);
+    }
+
+    String getPhraseText(int phrase) {
+        return getString(intAt(layout.phraseTexts(), phrase));
+    }
+
+    PhraseType getPhraseType(int phrase) {
+        return PHRASE_TYPES[buffer.get(layout.phraseTypes() + phrase)];
+    }
+
+    ImmutableList<IWord> getPhraseWords(int phrase) {
+        return getWords(intAt(layout.phraseStarts(), phrase), intAt(layout.phraseEnds(), phrase));
+    }
+
+    /**
+     * Returns the index after the last sub-phrase of the given phrase. The sub-phrases directly follow the phrase.
+     */
+    int getPhraseSubtreeEnd(int phrase) {
+        return intAt(layout.phraseSubtreeEnds(), phrase);
+    }
+
+    private ImmutableList<IWord> getWords(int start, int end) {
+        var allWords = getWords();
+        MutableList<IWord> words = Lists.mutable.withInitialCapacity(end - start);
+        for (int position = start; position < end; position++) {
+            words.add(allWords.get(position));
+        }
+        return words.toImmutable();
+    }
+
+    ImmutableList<IWord> getOutgoingDependencyWords(int position, DependencyTag dependencyTag) {
+        return getDependencyWords(position, dependencyTag, layout.outgoingStarts(), layout.outgoingWords(), layout.outgoingTags());
+    }
+
+    ImmutableList<IWord> getIncomingDependencyWords(int position, DependencyTag dependencyTag) {
+        return getDependencyWords(position, dependencyTag, layout.incomingStarts(), layout.incomingWords(), layout.incomingTags());
+    }
+
+    private ImmutableList<IWord> getDependencyWords(int position, DependencyTag dependencyTag, int startsOffset, int wordsOffset, int tagsOffset) {
+        int start = intAt(startsOffset, position);
+        int end = intAt(startsOffset, position + 1);
+        MutableList<IWord> dependencyWords = Lists.mutable.empty();
+        var allWords = getWords();
+        for (int edge = start; edge < end; edge++) {
+            if (buffer.get(tagsOffset + edge) == dependencyTag.ordinal()) {
+                dependencyWords.add(allWords.get(intAt(wordsOffset, edge)));
+            }
+        }
+        return dependencyWords.toImmutable();
+    }
+
+    private int intAt(int columnOffset, int index) {
+        return buffer.getInt(columnOffset + index * Integer.BYTES);
+    }
+}
@@ -0,0 +1,255 @@
+/* Licensed under MIT 2022. */
+package edu.kit.kastel.mcse.ardoco.core.text.providers.binary;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.list.primitive.MutableByteList;
+import org.eclipse.collections.api.list.primitive.MutableIntList;
+import org.eclipse.collections.api.map.primitive.MutableObjectIntMap;
+import org.eclipse.collections.api.stack.primitive.MutableIntStack;
+import org.eclipse.collections.impl.factory.primitive.ByteLists;
+import org.eclipse.collections.impl.factory.primitive.IntLists;
+import org.eclipse.collections.impl.factory.primitive.IntStacks;
+import org.eclipse.collections.impl.factory.primitive.ObjectIntMaps;
+
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.DependencyTag;
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.IPhrase;
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.IText;
+
+/**
+ * Builds texts in the {@link BinaryTextLayout binary format}. Texts can be appended one after another, e.g., the
+ * annotated chunks of a large document; the words and sentences of an appended text are numbered after the ones that
+ * were added before. Only the compact per-token and per-phrase columns and the deduplicated strings are kept, so the
+ * appended texts can be discarded right after they were added. Each sentence keeps the name of its originating
+ * document, so texts of several documents can be merged into one text.
+ */
+public class BinaryTextBuilder {
+    private static final DependencyTag[] DEPENDENCY_TAGS = DependencyTag.values();
+
+    private final MutableObjectIntMap<String> stringIds = ObjectIntMaps.mutable.empty();
+    private final MutableList<byte[]> strings = Lists.mutable.empty();
+    private int stringDataLength = 0;
+
+    private final MutableIntList wordTexts = IntLists.mutable.empty();
+    private final MutableIntList wordLemmas = IntLists.mutable.empty();
+    private final MutableIntList wordSentences = IntLists.mutable.empty();
+    private final MutableByteList wordPosTags = ByteLists.mutable.empty();
+    private final MutableIntList outgoingStarts = IntLists.mutable.empty();
+    private final MutableIntList outgoingWords = IntLists.mutable.empty();
+    private final MutableByteList outgoingTags = ByteLists.mutable.empty();
+    private final MutableIntList sentenceTexts = IntLists.mutable.empty();
+    private final MutableIntList sentenceDocuments = IntLists.mutable.empty();
+    private final MutableIntList sentencePhraseStarts = IntLists.mutable.empty();
+    private final MutableIntList phraseTexts = IntLists.mutable.empty();
+    private final MutableIntList phraseStarts = IntLists.mutable.empty();
+    private final MutableIntList phraseEnds = IntLists.mutable.empty();
+    private final MutableIntList phraseSubtreeEnds = IntLists.mutable.empty();
+    private final MutableByteList phraseTypes = ByteLists.mutable.empty();
+
+    /**
+     * Appends the words and sentences of the given text. The sentences keep their originating documents.
+     *
+     * @param text the text to append
+     * @return this builder
+     */
+    public BinaryTextBuilder add(IText text) {
+        return add(text, null);
+    }
+
+    /**
+     * Appends the words and sentences of the given document.
+     *
+     * @param text         the text of the document
+     * @param documentName the name of the document
+     * @return this builder
+     */
+    public BinaryTextBuilder add(IText text, String documentName) {
+        int wordOffset = wordTexts.size();
+        int sentenceOffset = sentenceTexts.size();
+
+        for (var sentence : text.getSentences()) {
+            sentenceTexts.add(intern(sentence.getText()));
+            sentenceDocuments.add(intern(documentName == null ? sentence.getDocumentName() : documentName));
+            sentencePhraseStarts.add(phraseTexts.size());
+            addPhrases(sentence.getPhrases(), wordOffset);
+        }
+        for (var word : text.getWords()) {
+            wordTexts.add(intern(word.getText()));
+            wordLemmas.add(intern(word.getLemma()));
+            wordSentences.add(sentenceOffset + word.getSentenceNo());
+            wordPosTags.add((byte) word.getPosTag().ordinal());
+
+            outgoingStarts.add(outgoingWords.size());
+            for (var dependencyTag : DEPENDENCY_TAGS) {
+                for (var dependencyWord : word.getOutgoingDependencyWordsWithType(dependencyTag)) {
+                    outgoingWords.add(wordOffset + dependencyWord.getPosition());
+                    outgoingTags.add((byte) dependencyTag.ordinal());
+                }
+            }
+        }
+        return this;
+    }
+
+    private void addPhrases(ImmutableList<IPhrase> phrases, int wordOffset) {
+        int firstPhrase = phraseTexts.size();
+        // phrases are in pre-order, so the open phrases form the path from the root to the current phrase
+        MutableIntStack openPhrases = IntStacks.mutable.empty();
+        for (int i = 0; i < phrases.size(); i++) {
+            var phrase = phrases.get(i);
+            while (!openPhrases.isEmpty() && !phrases.get(openPhrases.peek()).isSuperPhraseOf(phrase)) {
+                phraseSubtreeEnds.set(firstPhrase + openPhrases.pop(), firstPhrase + i);
+            }
+            openPhrases.push(i);
+
+            var words = phrase.getContainedWords();
+            phraseTexts.add(intern(phrase.getText()));
+            phraseStarts.add(wordOffset + words.get(0).getPosition());
+            phraseEnds.add(wordOffset + words.get(words.size() - 1).getPosition() + 1);
+            phraseSubtreeEnds.add(firstPhrase + phrases.size());
+            phraseTypes.add((byte) phrase.getPhraseType().ordinal());
+        }
+    }
+
+    /**
+     * Returns the number of words that were added so far.
+     *
+     * @return the number of words
+     */
+    public int getLength() {
+        return wordTexts.size();
+    }
+
+    /**
+     * Creates an in-memory text from the added texts.
+     *
+     * @return the text
+     */
+    public IText build() {
+        return new BinaryText(toByteBuffer());
+    }
+
+    /**
+     * Writes the added texts to the given file.
+     *
+     * @param file the file to write to
+     * @throws IOException if the file could not be written
+     */
+    public void write(Path file) throws IOException {
+        var buffer = toByteBuffer();
+        try (var channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    private ByteBuffer toByteBuffer() {
+        int wordCount = wordTexts.size();
+        int sentenceCount = sentenceTexts.size();
+        int edgeCount = outgoingWords.size();
+        int phraseCount = phraseTexts.size();
+
+        int[] outgoingStartColumn = new int[wordCount + 1];
+        for (int position = 0; position < wordCount; position++) {
+            outgoingStartColumn[position] = outgoingStarts.get(position);
+        }
+        outgoingStartColumn[wordCount] = edgeCount;
+
+        // incoming edges are the outgoing edges grouped by their dependent
+        int[] incomingStarts = new int[wordCount + 1];
+        for (int edge = 0; edge < edgeCount; edge++) {
+            incomingStarts[outgoingWords.get(edge) + 1]++;
+        }
+        for (int position = 0; position < wordCount; position++) {
+            incomingStarts[position + 1] += incomingStarts[position];
+        }
+        int[] incomingWords = new int[edgeCount];
+        byte[] incomingTags = new byte[edgeCount];
+        int[] nextIncomingEdge = incomingStarts.clone();
+        for (int governor = 0; governor < wordCount; governor++) {
+            for (int edge = outgoingStartColumn[governor]; edge < outgoingStartColumn[governor + 1]; edge++) {
+                int incomingEdge = nextIncomingEdge[outgoingWords.get(edge)]++;
+                incomingWords[incomingEdge] = governor;
+                incomingTags[incomingEdge] = outgoingTags.get(edge);
+            }
+        }
+
+        int[] sentenceStarts = new int[sentenceCount + 1];
+        int sentenceNumber = 0;
+        for (int position = 0; position < wordCount; position++) {
+            while (sentenceNumber <= wordSentences.get(position)) {
+                sentenceStarts[sentenceNumber++] = position;
+            }
+        }
+        while (sentenceNumber <= sentenceCount) {
+            sentenceStarts[sentenceNumber++] = wordCount;
+        }
+
+        int[] sentencePhraseStartColumn = new int[sentenceCount + 1];
+        for (sentenceNumber = 0; sentenceNumber < sentenceCount; sentenceNumber++) {
+            sentencePhraseStartColumn[sentenceNumber] = sentencePhraseStarts.get(sentenceNumber);
+        }
+        sentencePhraseStartColumn[sentenceCount] = phraseCount;
+
+        var layout = new BinaryTextLayout(wordCount, sentenceCount, strings.size(), edgeCount, phraseCount);
+        var buffer = ByteBuffer.allocate(layout.stringData() + stringDataLength).order(BinaryTextLayout.BYTE_ORDER);
+        layout.writeHeader(buffer);
+
+        int stringOffset = 0;
+        for (int stringId = 0; stringId < strings.size(); stringId++) {
+            var bytes = strings.get(stringId);
+            buffer.putInt(layout.stringOffsets() + stringId * Integer.BYTES, stringOffset);
+            buffer.put(layout.stringData() + stringOffset, bytes);
+            stringOffset += bytes.length;
+        }
+        buffer.putInt(layout.stringOffsets() + strings.size() * Integer.BYTES, stringOffset);
+
+        putInts(buffer, layout.wordTexts(), wordTexts.toArray());
+        putInts(buffer, layout.wordLemmas(), wordLemmas.toArray());
+        putInts(buffer, layout.wordSentences(), wordSentences.toArray());
+        putInts(buffer, layout.sentenceTexts(), sentenceTexts.toArray());
+        putInts(buffer, layout.sentenceStarts(), sentenceStarts);
+        putInts(buffer, layout.sentenceDocuments(), sentenceDocuments.toArray());
+        putInts(buffer, layout.outgoingStarts(), outgoingStartColumn);
+        putInts(buffer, layout.outgoingWords(), outgoingWords.toArray());
+        putInts(buffer, layout.incomingStarts(), incomingStarts);
+        putInts(buffer, layout.incomingWords(), incomingWords);
+        putInts(buffer, layout.sentencePhraseStarts(), sentencePhraseStartColumn);
+        putInts(buffer, layout.phraseTexts(), phraseTexts.toArray());
+        putInts(buffer, layout.phraseStarts(), phraseStarts.toArray());
+        putInts(buffer, layout.phraseEnds(), phraseEnds.toArray());
+        putInts(buffer, layout.phraseSubtreeEnds(), phraseSubtreeEnds.toArray());
+        buffer.put(layout.wordPosTags(), wordPosTags.toArray());
+        buffer.put(layout.outgoingTags(), outgoingTags.toArray());
+        buffer.put(layout.incomingTags(), incomingTags);
+        buffer.put(layout.phraseTypes(), phraseTypes.toArray());
+        return buffer;
+    }
+
+    private int intern(String string) {
+        var value = string == null ? "" : string;
+        int stringId = stringIds.getIfAbsent(value, -1);
+        if (stringId < 0) {
+            stringId = strings.size();
+            stringIds.put(value, stringId);
+            var bytes = value.getBytes(StandardCharsets.UTF_8);
+            strings.add(bytes);
+            stringDataLength += bytes.length;
+        }
+        return stringId;
+    }
+
+    private static void putInts(ByteBuffer buffer, int offset, int[] values) {
+        for (int i = 0; i < values.length; i++) {
+            buffer.putInt(offset + i * Integer.BYTES, values[i]);
+        }
+    }
+}
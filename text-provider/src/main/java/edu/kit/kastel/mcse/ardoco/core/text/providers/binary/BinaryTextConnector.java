@@ -0,0 +1,64 @@
+/* Licensed under MIT 2022. */
+package edu.kit.kastel.mcse.ardoco.core.text.providers.binary;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.IText;
+import edu.kit.kastel.mcse.ardoco.core.text.providers.ITextConnector;
+
+/**
+ * Provides annotated texts that are stored in a compact, columnar {@link BinaryTextLayout binary format}. The file is
+ * memory-mapped and words are served directly from the mapped buffer without deserializing the file up front. Any
+ * {@link IText} can be stored in the format via {@link #write(IText, Path)}.
+ */
+public class BinaryTextConnector implements ITextConnector {
+    private static final Logger logger = LoggerFactory.getLogger(BinaryTextConnector.class);
+
+    private final Path file;
+    private IText annotatedText;
+
+    public BinaryTextConnector(File file) {
+        this(file.toPath());
+    }
+
+    public BinaryTextConnector(Path file) {
+        this.file = file;
+        annotatedText = null;
+    }
+
+    @Override
+    public IText getAnnotatedText(String textName) {
+        logger.warn("Returning annotated text ignoring the provided name");
+        return getAnnotatedText();
+    }
+
+    @Override
+    public synchronized IText getAnnotatedText() {
+        if (annotatedText == null) {
+            try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                annotatedText = new BinaryText(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not read binary annotated text " + file, e);
+            }
+        }
+        return annotatedText;
+    }
+
+    /**
+     * Writes the given text in the binary format.
+     *
+     * @param text the text to write
+     * @param file the file to write to
+     * @throws IOException if the text could not be written
+     */
+    public static void write(IText text, Path file) throws IOException {
+        new BinaryTextBuilder().add(text).write(file);
+    }
+}
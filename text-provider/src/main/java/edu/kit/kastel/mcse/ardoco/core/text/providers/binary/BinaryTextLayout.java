@@ -0,0 +1,147 @@
+/* Licensed under MIT 2022. */
+package edu.kit.kastel.mcse.ardoco.core.text.providers.binary;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Layout of the binary annotated text format. All values are little endian. The file starts with a header, followed by
+ * the columns:
+ *
+ * <pre>
+ * header:          magic, version, #words (W), #sentences (S), #strings (T), #dependency edges (E), #phrases (P)
+ *                  (int each)
+ * string offsets:  int[T + 1]   offsets of the strings relative to the string data
+ * word texts:      int[W]       string ids
+ * word lemmas:     int[W]       string ids
+ * word sentences:  int[W]       sentence numbers
+ * sentence texts:  int[S]       string ids
+ * sentence starts: int[S + 1]   position of the first word of each sentence
+ * sentence docs:   int[S]       string ids of the names of the originating documents
+ * outgoing starts: int[W + 1]   first outgoing edge of each word (edges are grouped by governor)
+ * outgoing words:  int[E]       dependent of each outgoing edge
+ * incoming starts: int[W + 1]   first incoming edge of each word (edges are grouped by dependent)
+ * incoming words:  int[E]       governor of each incoming edge
+ * phrase groups:   int[S + 1]   first phrase of each sentence (phrases are grouped by sentence, in pre-order)
+ * phrase texts:    int[P]       string ids
+ * phrase starts:   int[P]       position of the first word of each phrase
+ * phrase ends:     int[P]       position after the last word of each phrase
+ * phrase subtrees: int[P]       index after the last sub-phrase of each phrase
+ * word POS tags:   byte[W]      {@link edu.kit.kastel.mcse.ardoco.core.api.data.text.POSTag} ordinals
+ * outgoing tags:   byte[E]      {@link edu.kit.kastel.mcse.ardoco.core.api.data.text.DependencyTag} ordinals
+ * incoming tags:   byte[E]      {@link edu.kit.kastel.mcse.ardoco.core.api.data.text.DependencyTag} ordinals
+ * phrase types:    byte[P]      {@link edu.kit.kastel.mcse.ardoco.core.api.data.text.PhraseType} ordinals
+ * string data:     byte[]       UTF-8 encoded strings
+ * </pre>
+ */
+record BinaryTextLayout(int wordCount, int sentenceCount, int stringCount, int edgeCount, int phraseCount) {
+    static final int MAGIC = 0x41445458; // "ADTX"
+    static final int VERSION = 3;
+    static final int HEADER_SIZE = 7 * Integer.BYTES;
+    static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    static BinaryTextLayout readHeader(ByteBuffer buffer) {
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not a binary annotated text");
+        }
+        if (buffer.getInt(Integer.BYTES) != VERSION) {
+            throw new IllegalArgumentException("Unsupported version of binary annotated text: " + buffer.getInt(Integer.BYTES));
+        }
+        return new BinaryTextLayout(buffer.getInt(2 * Integer.BYTES), buffer.getInt(3 * Integer.BYTES), buffer.getInt(4 * Integer.BYTES),
+                buffer.getInt(5 * Integer.BYTES), buffer.getInt(6 * Integer.BYTES));
+    }
+
+    void writeHeader(ByteBuffer buffer) {
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(Integer.BYTES, VERSION);
+        buffer.putInt(2 * Integer.BYTES, wordCount);
+        buffer.putInt(3 * Integer.BYTES, sentenceCount);
+        buffer.putInt(4 * Integer.BYTES, stringCount);
+        buffer.putInt(5 * Integer.BYTES, edgeCount);
+        buffer.putInt(6 * Integer.BYTES, phraseCount);
+    }
+
+    int stringOffsets() {
+        return HEADER_SIZE;
+    }
+
+    int wordTexts() {
+        return stringOffsets() + (stringCount + 1) * Integer.BYTES;
+    }
+
+    int wordLemmas() {
+        return wordTexts() + wordCount * Integer.BYTES;
+    }
+
+    int wordSentences() {
+        return wordLemmas() + wordCount * Integer.BYTES;
+    }
+
+    int sentenceTexts() {
+        return wordSentences() + wordCount * Integer.BYTES;
+    }
+
+    int sentenceStarts() {
+        return sentenceTexts() + sentenceCount * Integer.BYTES;
+    }
+
+    int sentenceDocuments() {
+        return sentenceStarts() + (sentenceCount + 1) * Integer.BYTES;
+    }
+
+    int outgoingStarts() {
+        return sentenceDocuments() + sentenceCount * Integer.BYTES;
+    }
+
+    int outgoingWords() {
+        return outgoingStarts() + (wordCount + 1) * Integer.BYTES;
+    }
+
+    int incomingStarts() {
+        return outgoingWords() + edgeCount * Integer.BYTES;
+    }
+
+    int incomingWords() {
+        return incomingStarts() + (wordCount + 1) * Integer.BYTES;
+    }
+
+    int sentencePhraseStarts() {
+        return incomingWords() + edgeCount * Integer.BYTES;
+    }
+
+    int phraseTexts() {
+        return sentencePhraseStarts() + (sentenceCount + 1) * Integer.BYTES;
+    }
+
+    int phraseStarts() {
+        return phraseTexts() + phraseCount * Integer.BYTES;
+    }
+
+    int phraseEnds() {
+        return phraseStarts() + phraseCount * Integer.BYTES;
+    }
+
+    int phraseSubtreeEnds() {
+        return phraseEnds() + phraseCount * Integer.BYTES;
+    }
+
+    int wordPosTags() {
+        return phraseSubtreeEnds() + phraseCount * Integer.BYTES;
+    }
+
+    int outgoingTags() {
+        return wordPosTags() + wordCount;
+    }
+
+    int incomingTags() {
+        return outgoingTags() + edgeCount;
+    }
+
+    int phraseTypes() {
+        return incomingTags() + edgeCount;
+    }
+
+    int stringData() {
+        return phraseTypes() + phraseCount;
+    }
+}
@@ -0,0 +1,98 @@
+/* Licensed under MIT 2022. */
+package edu.kit.kastel.mcse.ardoco.core.text.providers.binary;
+
+import java.util.Objects;
+
+import org.eclipse.collections.api.list.ImmutableList;
+
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.DependencyTag;
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.ISentence;
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.IWord;
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.POSTag;
+import edu.kit.kastel.mcse.ardoco.core.common.util.NormalizedTerm;
+
+class BinaryWord implements IWord {
+    private final BinaryText text;
+    private final int position;
+
+    BinaryWord(BinaryText text, int position) {
+        this.text = text;
+        this.position = position;
+    }
+
+    @Override
+    public int getSentenceNo() {
+        return text.getWordSentenceNo(position);
+    }
+
+    @Override
+    public ISentence getSentence() {
+        return text.getSentences().get(getSentenceNo());
+    }
+
+    @Override
+    public String getText() {
+        return text.getWordText(position);
+    }
+
+    @Override
+    public NormalizedTerm getNormalizedText() {
+        return text.getNormalizedWordText(position);
+    }
+
+    @Override
+    public POSTag getPosTag() {
+        return text.getWordPosTag(position);
+    }
+
+    @Override
+    public IWord getPreWord() {
+        if (position <= 0) {
+            return null;
+        }
+        return text.getWords().get(position - 1);
+    }
+
+    @Override
+    public IWord getNextWord() {
+        if (position + 1 >= text.getLength()) {
+            return null;
+        }
+        return text.getWords().get(position + 1);
+    }
+
+    @Override
+    public int getPosition() {
+        return position;
+    }
+
+    @Override
+    public String getLemma() {
+        return text.getWordLemma(position);
+    }
+
+    @Override
+    public ImmutableList<IWord> getOutgoingDependencyWordsWithType(DependencyTag dependencyTag) {
+        return text.getOutgoingDependencyWords(position, dependencyTag);
+    }
+
+    @Override
+    public ImmutableList<IWord> getIncomingDependencyWordsWithType(DependencyTag dependencyTag) {
+        return text.getIncomingDependencyWords(position, dependencyTag);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o instanceof BinaryWord word) {
+            return position == word.position && getPosTag() == word.getPosTag() && getText().equals(word.getText());
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(position, getPosTag(), getText());
+    }
+}
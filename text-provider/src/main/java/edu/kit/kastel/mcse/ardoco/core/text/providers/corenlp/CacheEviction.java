@@ -0,0 +1,75 @@
+/* Licensed under MIT 2022. */
+package edu.kit.kastel.mcse.ardoco.core.text.providers.corenlp;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounds the size of a cache directory on disk by evicting its least recently used files. Cache files are marked as
+ * used by updating their last modified time.
+ */
+final class CacheEviction {
+    private static final Logger logger = LoggerFactory.getLogger(CacheEviction.class);
+
+    private CacheEviction() {
+        throw new IllegalAccessError();
+    }
+
+    /**
+     * Evicts the least recently used files with the given ending from the cache directory until the size of these files
+     * is within the given bound.
+     *
+     * @param cacheDirectory the cache directory
+     * @param fileEnding     the ending of the cache files
+     * @param maxCacheSize   the maximal size of the cache files in bytes
+     */
+    static void evict(Path cacheDirectory, String fileEnding, long maxCacheSize) {
+        MutableList<Path> cacheFiles = Lists.mutable.empty();
+        try (var files = Files.list(cacheDirectory)) {
+            files.filter(file -> file.getFileName().toString().endsWith(fileEnding)).forEach(cacheFiles::add);
+        } catch (IOException e) {
+            logger.warn("Could not list cache directory {}: {}", cacheDirectory, e.getMessage());
+            return;
+        }
+
+        long cacheSize = cacheFiles.sumOfLong(CacheEviction::sizeOf);
+        cacheFiles.sortThis(Comparator.comparing(CacheEviction::lastModifiedOf));
+        for (var cacheFile : cacheFiles) {
+            if (cacheSize <= maxCacheSize) {
+                break;
+            }
+            long size = sizeOf(cacheFile);
+            try {
+                Files.deleteIfExists(cacheFile);
+                cacheSize -= size;
+                logger.debug("Evicted {} from the cache", cacheFile);
+            } catch (IOException e) {
+                logger.warn("Could not evict {} from the cache: {}", cacheFile, e.getMessage());
+            }
+        }
+    }
+
+    private static long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static FileTime lastModifiedOf(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/* Licensed under MIT 2022. */
+package edu.kit.kastel.mcse.ardoco.core.text.providers.corenlp;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Properties;
+
+import org.eclipse.collections.api.set.ImmutableSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.AnnotationLayer;
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.IText;
+import edu.kit.kastel.mcse.ardoco.core.text.providers.ITextConnector;
+import edu.kit.kastel.mcse.ardoco.core.text.providers.binary.BinaryTextBuilder;
+import edu.kit.kastel.mcse.ardoco.core.text.providers.binary.BinaryTextConnector;
+
+/**
+ * Decorates a text connector with a content-addressed cache of whole annotated documents on disk. The annotated text is
+ * stored in the {@link BinaryTextBuilder binary format} under the hash of the input text, the used annotation layers,
+ * and the annotator configuration. If a document is in the cache, it is memory-mapped and returned without running the
+ * decorated connector, i.e., without touching CoreNLP; otherwise, the decorated connector annotates it and the result
+ * is stored. The decorated connector has to annotate the given input text with the given annotation layers and parser
+ * tier. The cache directory is bounded in size; if it grows beyond the bound, the least recently used documents are
+ * evicted.
+ */
+public class CachingTextConnector implements ITextConnector {
+    private static final Logger logger = LoggerFactory.getLogger(CachingTextConnector.class);
+
+    /**
+     * The default maximal size of the cached documents in bytes (1 GiB).
+     */
+    public static final long DEFAULT_MAX_CACHE_SIZE = 1L << 30;
+    private static final String CACHE_FILE_ENDING = ".text.bin";
+
+    private final ITextConnector textConnector;
+    private final byte[] inputText;
+    private final Path cacheDirectory;
+    private final long maxCacheSize;
+    private final ImmutableSet<AnnotationLayer> annotationLayers;
+    private final ParserTier parserTier;
+    private IText annotatedText;
+
+    /**
+     * Creates a new caching connector.
+     *
+     * @param textConnector    the connector that annotates the input text if it is not in the cache
+     * @param inputText        the input text that the decorated connector annotates
+     * @param cacheDirectory   the directory of the cache
+     * @param maxCacheSize     the maximal size of the cached documents in bytes
+     * @param annotationLayers the annotation layers that the decorated connector annotates
+     * @param parserTier       the parsers that the decorated connector uses for the phrases
+     */
+    public CachingTextConnector(ITextConnector textConnector, byte[] inputText, Path cacheDirectory, long maxCacheSize,
+            ImmutableSet<AnnotationLayer> annotationLayers, ParserTier parserTier) {
+        if (maxCacheSize <= 0) {
+            throw new IllegalArgumentException("Maximal cache size has to be positive");
+        }
+        this.textConnector = textConnector;
+        this.inputText = inputText;
+        this.cacheDirectory = cacheDirectory;
+        this.maxCacheSize = maxCacheSize;
+        this.annotationLayers = annotationLayers;
+        this.parserTier = parserTier;
+        annotatedText = null;
+    }
+
+    @Override
+    public IText getAnnotatedText(String textName) {
+        logger.warn("Returning annotated text ignoring the provided name");
+        return getAnnotatedText();
+    }
+
+    @Override
+    public synchronized IText getAnnotatedText() {
+        if (annotatedText == null) {
+            annotatedText = loadOrAnnotate();
+        }
+        return annotatedText;
+    }
+
+    private IText loadOrAnnotate() {
+        var cacheFile = cacheDirectory.resolve(calculateKey() + CACHE_FILE_ENDING);
+        var cachedText = load(cacheFile);
+        if (cachedText != null) {
+            logger.info("Loaded annotated text from cache {}", cacheFile);
+            return cachedText;
+        }
+
+        var builder = new BinaryTextBuilder().add(textConnector.getAnnotatedText());
+        store(cacheFile, builder);
+        CacheEviction.evict(cacheDirectory, CACHE_FILE_ENDING, maxCacheSize);
+        return builder.build();
+    }
+
+    private String calculateKey() {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256");
+            var layers = annotationLayers.toSortedList().collect(AnnotationLayer::name).makeString(",");
+            var configuration = CoreNLPPipelinePool.createKey(CoreNLPProvider.getStanfordProperties(new Properties(), annotationLayers, parserTier));
+            digest.update((layers + "|" + configuration).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(inputText);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static IText load(Path cacheFile) {
+        if (!Files.isRegularFile(cacheFile)) {
+            return null;
+        }
+        try {
+            var text = new BinaryTextConnector(cacheFile).getAnnotatedText();
+            Files.setLastModifiedTime(cacheFile, FileTime.fromMillis(System.currentTimeMillis()));
+            return text;
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Could not load cached annotated text {}: {}", cacheFile, e.getMessage());
+            return null;
+        }
+    }
+
+    private void store(Path cacheFile, BinaryTextBuilder builder) {
+        try {
+            Files.createDirectories(cacheDirectory);
+            var temporaryFile = Files.createTempFile(cacheDirectory, "annotated-text", ".tmp");
+            builder.write(temporaryFile);
+            Files.move(temporaryFile, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            logger.warn("Could not store annotated text in cache {}: {}", cacheFile, e.getMessage());
+        }
+    }
+}
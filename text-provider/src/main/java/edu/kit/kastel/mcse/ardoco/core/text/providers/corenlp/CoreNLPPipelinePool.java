@@ -0,0 +1,89 @@
+/* Licensed under MIT 2022. */
+package edu.kit.kastel.mcse.ardoco.core.text.providers.corenlp;
+
+import java.util.Map;
+import java.util.Properties;
+import java.util.Queue;
+import java.util.StringJoiner;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import edu.stanford.nlp.pipeline.StanfordCoreNLP;
+
+/**
+ * Process-wide pool of initialised {@link StanfordCoreNLP} pipelines. Pipelines are keyed by their configuration
+ * (annotators and further properties), so the models of a configuration are loaded once per JVM and afterwards shared
+ * by all providers. The pool is thread-safe. Each borrowed pipeline is used by one thread at a time and has to be
+ * returned via {@link #release(Properties, StanfordCoreNLP)}. At most {@link #MAX_IDLE_PIPELINES} idle pipelines are
+ * kept per configuration, as no more can be used concurrently; further returned pipelines are dropped.
+ */
+final class CoreNLPPipelinePool {
+    private static final Logger logger = LoggerFactory.getLogger(CoreNLPPipelinePool.class);
+
+    /**
+     * The maximal number of idle pipelines per configuration.
+     */
+    static final int MAX_IDLE_PIPELINES = Runtime.getRuntime().availableProcessors();
+
+    private static final Map<String, Queue<StanfordCoreNLP>> idlePipelines = new ConcurrentHashMap<>();
+
+    private CoreNLPPipelinePool() {
+        throw new IllegalAccessError();
+    }
+
+    /**
+     * Borrows a pipeline for the given configuration. If there is no idle pipeline for the configuration, a new one is
+     * created.
+     *
+     * @param properties the configuration of the pipeline
+     * @return a pipeline for the given configuration
+     */
+    static StanfordCoreNLP borrow(Properties properties) {
+        var key = createKey(properties);
+        var pipeline = getIdlePipelines(key).poll();
+        if (pipeline == null) {
+            logger.debug("Creating new CoreNLP pipeline for configuration {}", key);
+            pipeline = new StanfordCoreNLP(properties);
+        }
+        return pipeline;
+    }
+
+    /**
+     * Returns a borrowed pipeline to the pool so it can be reused. If the pool already holds the maximal number of idle
+     * pipelines for the configuration, the pipeline is dropped.
+     *
+     * @param properties the configuration the pipeline was borrowed with
+     * @param pipeline   the pipeline to return
+     */
+    static void release(Properties properties, StanfordCoreNLP pipeline) {
+        if (pipeline == null) {
+            return;
+        }
+        var key = createKey(properties);
+        if (!getIdlePipelines(key).offer(pipeline)) {
+            logger.debug("Dropping CoreNLP pipeline, the pool is full for configuration {}", key);
+        }
+    }
+
+    private static Queue<StanfordCoreNLP> getIdlePipelines(String key) {
+        return idlePipelines.computeIfAbsent(key, k -> new LinkedBlockingQueue<>(MAX_IDLE_PIPELINES));
+    }
+
+    /**
+     * Creates a stable key for the given configuration that is independent of the insertion order of the properties.
+     *
+     * @param properties the configuration
+     * @return the key of the configuration
+     */
+    static String createKey(Properties properties) {
+        var joiner = new StringJoiner(";");
+        for (var name : new TreeSet<>(properties.stringPropertyNames())) {
+            joiner.add(name + "=" + properties.getProperty(name));
+        }
+        return joiner.toString();
+    }
+}
@@ -1,45 +1,214 @@
 /* Licensed under MIT 2022. */
 package edu.kit.kastel.mcse.ardoco.core.text.providers.corenlp;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.Locale;
 import java.util.Properties;
-import java.util.Scanner;
+import java.util.StringJoiner;
 
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.set.ImmutableSet;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.AnnotationLayer;
 import edu.kit.kastel.mcse.ardoco.core.api.data.text.IText;
 import edu.kit.kastel.mcse.ardoco.core.text.providers.ITextConnector;
+import edu.kit.kastel.mcse.ardoco.core.text.providers.binary.BinaryTextBuilder;
 import edu.stanford.nlp.pipeline.CoreDocument;
 import edu.stanford.nlp.pipeline.StanfordCoreNLP;
 
 public class CoreNLPProvider implements ITextConnector {
     private static final Logger logger = LoggerFactory.getLogger(CoreNLPProvider.class);
-    private static final String ANNOTATORS = "tokenize,ssplit,pos,parse,depparse,lemma"; // further: ",ner,coref"
+    private static final String TOKENIZATION_ANNOTATORS = "tokenize,ssplit";
     private static final String DEPENDENCIES_ANNOTATION = "EnhancedPlusPlusDependenciesAnnotation";
+    static final ImmutableSet<AnnotationLayer> ALL_ANNOTATION_LAYERS = Sets.immutable.with(AnnotationLayer.values());
     private final InputStream text;
+    private final int threads;
+    private final ImmutableSet<AnnotationLayer> annotationLayers;
+    private final ParserTier parserTier;
+    private final boolean lazyPhrases;
     private IText annotatedText;
 
     public CoreNLPProvider(InputStream text) {
+        this(text, 1);
+    }
+
+    /**
+     * Creates a provider that annotates the text with the given number of threads. With more than one thread, the
+     * sentences of the text are annotated in parallel batches; the annotated text is the same as with one thread.
+     *
+     * @param text    the text
+     * @param threads the maximum number of threads used for annotating
+     */
+    public CoreNLPProvider(InputStream text, int threads) {
+        this(text, threads, ALL_ANNOTATION_LAYERS);
+    }
+
+    /**
+     * Creates a provider that annotates the text with the given number of threads. With more than one thread, the
+     * sentences of the text are annotated in parallel batches; the annotated text is the same as with one thread.
+     *
+     * @param text             the text
+     * @param threads          the maximum number of threads used for annotating
+     * @param annotationLayers the annotation layers that are used; the annotators for other layers are not run
+     */
+    public CoreNLPProvider(InputStream text, int threads, ImmutableSet<AnnotationLayer> annotationLayers) {
+        this(text, threads, annotationLayers, ParserTier.DEFAULT);
+    }
+
+    /**
+     * Creates a provider that annotates the text with the given number of threads. With more than one thread, the
+     * sentences of the text are annotated in parallel batches; the annotated text is the same as with one thread.
+     *
+     * @param text             the text
+     * @param threads          the maximum number of threads used for annotating
+     * @param annotationLayers the annotation layers that are used; the annotators for other layers are not run
+     * @param parserTier       the parsers that produce the phrases
+     */
+    public CoreNLPProvider(InputStream text, int threads, ImmutableSet<AnnotationLayer> annotationLayers, ParserTier parserTier) {
+        this(text, threads, annotationLayers, parserTier, false);
+    }
+
+    /**
+     * Creates a provider that annotates the text with the given number of threads. With lazy phrases, the constituency
+     * parser does not run upfront; instead, the phrases of a sentence are parsed when they are first requested, and the
+     * dependencies are parsed upfront. As phrases are computed on demand, the annotated text is not converted into the
+     * compact representation.
+     *
+     * @param text             the text
+     * @param threads          the maximum number of threads used for annotating
+     * @param annotationLayers the annotation layers that are used; the annotators for other layers are not run
+     * @param parserTier       the parsers that produce the phrases
+     * @param lazyPhrases      whether the phrases of a sentence are parsed on demand
+     */
+    public CoreNLPProvider(InputStream text, int threads, ImmutableSet<AnnotationLayer> annotationLayers, ParserTier parserTier, boolean lazyPhrases) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Number of threads must be positive");
+        }
         annotatedText = null;
         this.text = text;
+        this.threads = threads;
+        this.annotationLayers = annotationLayers;
+        this.parserTier = parserTier;
+        this.lazyPhrases = lazyPhrases && annotationLayers.contains(AnnotationLayer.PHRASES);
+    }
+
+    static Properties getStanfordProperties(Properties properties) {
+        return getStanfordProperties(properties, ALL_ANNOTATION_LAYERS);
+    }
+
+    static Properties getStanfordProperties(Properties properties, ImmutableSet<AnnotationLayer> annotationLayers) {
+        return getStanfordProperties(properties, annotationLayers, ParserTier.DEFAULT);
     }
 
-    private static Properties getStanfordProperties(Properties properties) {
+    static Properties getStanfordProperties(Properties properties, ImmutableSet<AnnotationLayer> annotationLayers, ParserTier parserTier) {
         if (properties == null) {
             throw new IllegalArgumentException("Properties are null");
         }
         var allStanfordProperties = new Properties(properties);
-        allStanfordProperties.setProperty("annotators", ANNOTATORS);
+        allStanfordProperties.setProperty("annotators", TOKENIZATION_ANNOTATORS + "," + getSentenceAnnotators(annotationLayers, parserTier)); // further: ",ner,coref"
 
         allStanfordProperties.put("parse", DEPENDENCIES_ANNOTATION);
         allStanfordProperties.put("depparse", DEPENDENCIES_ANNOTATION);
         allStanfordProperties.put("coref.algorithm", "fastneural");
+        parserTier.configure(allStanfordProperties);
 
         return allStanfordProperties;
     }
 
+    /**
+     * Returns the sentence-level annotators that are needed for the given annotation layers. POS tags are always
+     * annotated, as the other annotators depend on them. The constituency parser only runs if phrases are used.
+     *
+     * @param annotationLayers the used annotation layers
+     * @return the comma-separated annotators
+     */
+    static String getSentenceAnnotators(ImmutableSet<AnnotationLayer> annotationLayers) {
+        return getSentenceAnnotators(annotationLayers, ParserTier.DEFAULT);
+    }
+
+    /**
+     * Returns the sentence-level annotators that are needed for the given annotation layers. POS tags are always
+     * annotated, as the other annotators depend on them. The parsers of the given tier only run if phrases are used.
+     *
+     * @param annotationLayers the used annotation layers
+     * @param parserTier       the parsers that produce the phrases
+     * @return the comma-separated annotators
+     */
+    static String getSentenceAnnotators(ImmutableSet<AnnotationLayer> annotationLayers, ParserTier parserTier) {
+        var annotators = new StringJoiner(",");
+        annotators.add("pos");
+        var parseAnnotators = getParseAnnotators(annotationLayers, parserTier);
+        if (!parseAnnotators.isEmpty()) {
+            annotators.add(parseAnnotators);
+        }
+        if (annotationLayers.contains(AnnotationLayer.LEMMAS)) {
+            annotators.add("lemma");
+        }
+        return annotators.toString();
+    }
+
+    /**
+     * Returns the parsers that are needed for the phrases and dependencies of the given annotation layers.
+     *
+     * @param annotationLayers the used annotation layers
+     * @param parserTier       the parsers that produce the phrases
+     * @return the comma-separated annotators, or an empty string if no parser is needed
+     */
+    static String getParseAnnotators(ImmutableSet<AnnotationLayer> annotationLayers, ParserTier parserTier) {
+        var annotators = new StringJoiner(",");
+        boolean dependenciesParsed = false;
+        if (annotationLayers.contains(AnnotationLayer.PHRASES)) {
+            annotators.add(parserTier.getPhraseAnnotators());
+            dependenciesParsed = parserTier == ParserTier.DEPENDENCIES_ONLY;
+        }
+        if (annotationLayers.contains(AnnotationLayer.DEPENDENCIES) && !dependenciesParsed) {
+            annotators.add("depparse");
+        }
+        return annotators.toString();
+    }
+
+    /**
+     * Returns the configuration for only tokenizing and splitting sentences.
+     *
+     * @param properties further properties
+     * @return the configuration
+     */
+    static Properties getTokenizationProperties(Properties properties) {
+        var tokenizationProperties = getStanfordProperties(properties, ALL_ANNOTATION_LAYERS);
+        tokenizationProperties.setProperty("annotators", TOKENIZATION_ANNOTATORS);
+        return tokenizationProperties;
+    }
+
+    /**
+     * Returns the configuration for running the sentence-level annotators on already tokenized and split sentences.
+     *
+     * @param properties       further properties
+     * @param annotationLayers the used annotation layers
+     * @return the configuration
+     */
+    static Properties getSentenceProperties(Properties properties, ImmutableSet<AnnotationLayer> annotationLayers) {
+        return getSentenceProperties(properties, annotationLayers, ParserTier.DEFAULT);
+    }
+
+    /**
+     * Returns the configuration for running the sentence-level annotators on already tokenized and split sentences.
+     *
+     * @param properties       further properties
+     * @param annotationLayers the used annotation layers
+     * @param parserTier       the parsers that produce the phrases
+     * @return the configuration
+     */
+    static Properties getSentenceProperties(Properties properties, ImmutableSet<AnnotationLayer> annotationLayers, ParserTier parserTier) {
+        var sentenceProperties = getStanfordProperties(properties, annotationLayers, parserTier);
+        sentenceProperties.setProperty("annotators", getSentenceAnnotators(annotationLayers, parserTier));
+        sentenceProperties.setProperty("enforceRequirements", "false");
+        return sentenceProperties;
+    }
+
     @Override
     public IText getAnnotatedText(String textName) {
         logger.warn("Returning annotated text ignoring the provided name");
@@ -55,19 +224,86 @@ public class CoreNLPProvider implements ITextConnector {
     }
 
     private IText processText(InputStream text) {
+        if (lazyPhrases) {
+            return new Text(annotateDocument(text), new LazyPhraseParser(parserTier));
+        }
+        return toCompactText(annotateDocument(text));
+    }
+
+    /**
+     * Returns the annotation layers that are annotated upfront. With lazy phrases, these are the used layers without
+     * the phrases; the dependencies are always parsed upfront if phrases are derived from them.
+     *
+     * @return the annotation layers
+     */
+    private ImmutableSet<AnnotationLayer> getEagerAnnotationLayers() {
+        if (!lazyPhrases) {
+            return annotationLayers;
+        }
+        var eagerLayers = annotationLayers.newWithout(AnnotationLayer.PHRASES);
+        if (parserTier == ParserTier.DEPENDENCIES_ONLY) {
+            eagerLayers = eagerLayers.newWith(AnnotationLayer.DEPENDENCIES);
+        }
+        return eagerLayers;
+    }
+
+    /**
+     * Reads and annotates the input text of this provider.
+     *
+     * @return the annotated document
+     */
+    synchronized CoreDocument annotateDocument() {
+        return annotateDocument(text);
+    }
+
+    private CoreDocument annotateDocument(InputStream text) {
         var inputText = readInputText(text);
-        Properties props = getStanfordProperties(new Properties());
-        StanfordCoreNLP pipeline = new StanfordCoreNLP(props);
+        long startTime = System.nanoTime();
+        var document = annotateDocument(inputText);
+        logLatency(document, System.nanoTime() - startTime);
+        return document;
+    }
+
+    private CoreDocument annotateDocument(String inputText) {
+        if (threads > 1) {
+            var annotator = new ParallelDocumentAnnotator(getTokenizationProperties(new Properties()),
+                    getSentenceProperties(new Properties(), getEagerAnnotationLayers(), parserTier), threads);
+            return annotator.annotate(inputText);
+        }
+        Properties props = getStanfordProperties(new Properties(), getEagerAnnotationLayers(), parserTier);
         CoreDocument document = new CoreDocument(inputText);
-        pipeline.annotate(document);
-        return new Text(document);
+        StanfordCoreNLP pipeline = CoreNLPPipelinePool.borrow(props);
+        try {
+            pipeline.annotate(document);
+        } finally {
+            CoreNLPPipelinePool.release(props, pipeline);
+        }
+        return document;
+    }
+
+    private void logLatency(CoreDocument document, long durationNanos) {
+        int sentenceCount = Math.max(1, document.sentences().size());
+        double millisPerSentence = durationNanos / 1e6 / sentenceCount;
+        logger.info("Annotated {} sentences with parser tier {} in {} ms ({} ms per sentence on {} threads)", document.sentences().size(), parserTier,
+                durationNanos / 1_000_000, String.format(Locale.ROOT, "%.2f", millisPerSentence), threads);
+    }
+
+    /**
+     * Converts an annotated document into the compact columnar text. The compact text does not reference any CoreNLP
+     * objects, so the document can be garbage collected afterwards, and all getters of the text are array reads.
+     *
+     * @param document the annotated document
+     * @return the compact text
+     */
+    static IText toCompactText(CoreDocument document) {
+        return new BinaryTextBuilder().add(new Text(document)).build();
     }
 
     private String readInputText(InputStream text) {
-        var scanner = new Scanner(text, StandardCharsets.UTF_8);
-        scanner.useDelimiter("\\A");
-        String inputText = scanner.next();
-        scanner.close();
-        return inputText;
+        try (text) {
+            return new String(text.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read the input text", e);
+        }
     }
 }
@@ -0,0 +1,124 @@
+/* Licensed under MIT 2022. */
+package edu.kit.kastel.mcse.ardoco.core.text.providers.corenlp;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.list.primitive.MutableIntList;
+import org.eclipse.collections.impl.factory.primitive.IntLists;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import edu.stanford.nlp.coref.CorefCoreAnnotations;
+import edu.stanford.nlp.coref.data.CorefChain;
+import edu.stanford.nlp.ling.CoreAnnotations;
+import edu.stanford.nlp.pipeline.Annotation;
+import edu.stanford.nlp.pipeline.StanfordCoreNLP;
+
+/**
+ * Resolves the coreferences of a text with the fastneural coreference system of CoreNLP. As coreference resolution is
+ * expensive, it is not part of the annotated text; instead, it can run independently, e.g., on a background worker.
+ * The text is tokenized and split into sentences like by the {@link CoreNLPProvider}, so the mentions are identified
+ * by the positions of the words in the annotated text.
+ * <p>
+ * The text is annotated again instead of reusing the base annotations: the resolution starts before the base
+ * annotation, so that both run at the same time, and the base annotations neither keep the CoreNLP annotations nor
+ * contain the named entities that the mention detection needs, and they only contain dependencies for some annotation
+ * layers.
+ */
+public class CoreferenceAnnotator {
+    private static final Logger logger = LoggerFactory.getLogger(CoreferenceAnnotator.class);
+    private static final String COREFERENCE_ANNOTATORS = "tokenize,ssplit,pos,lemma,ner,depparse,coref";
+
+    private final InputStream text;
+    private final int wordOffset;
+
+    /**
+     * Creates a new annotator.
+     *
+     * @param text       the text
+     * @param wordOffset the position of the first word of the text in the annotated text, e.g., if the text is one of
+     *                   several merged documents
+     */
+    public CoreferenceAnnotator(InputStream text, int wordOffset) {
+        this.text = text;
+        this.wordOffset = wordOffset;
+    }
+
+    /**
+     * Returns the configuration of the coreference pipeline.
+     *
+     * @return the configuration
+     */
+    static Properties getCoreferenceProperties() {
+        var properties = CoreNLPProvider.getStanfordProperties(new Properties());
+        properties.setProperty("annotators", COREFERENCE_ANNOTATORS);
+        return properties;
+    }
+
+    /**
+     * Resolves the coreferences of the text.
+     *
+     * @return the coreference chains with more than one mention and the number of words of the text
+     */
+    public CoreferenceResult annotate() {
+        String inputText;
+        try (text) {
+            inputText = new String(text.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read the input text", e);
+        }
+
+        var properties = getCoreferenceProperties();
+        var document = new Annotation(inputText);
+        StanfordCoreNLP pipeline = CoreNLPPipelinePool.borrow(properties);
+        try {
+            pipeline.annotate(document);
+        } finally {
+            CoreNLPPipelinePool.release(properties, pipeline);
+        }
+
+        var sentences = document.get(CoreAnnotations.SentencesAnnotation.class);
+        int[] sentenceStarts = new int[sentences.size() + 1];
+        for (int i = 0; i < sentences.size(); i++) {
+            sentenceStarts[i + 1] = sentenceStarts[i] + sentences.get(i).get(CoreAnnotations.TokensAnnotation.class).size();
+        }
+
+        MutableList<CoreferenceChain> chains = Lists.mutable.empty();
+        var corefChains = document.get(CorefCoreAnnotations.CorefChainAnnotation.class);
+        if (corefChains != null) {
+            for (var corefChain : corefChains.values()) {
+                var mentions = corefChain.getMentionsInTextualOrder();
+                if (mentions.size() < 2) {
+                    continue;
+                }
+                MutableIntList mentionPositions = IntLists.mutable.withInitialCapacity(mentions.size());
+                for (var mention : mentions) {
+                    mentionPositions.add(getHeadPosition(mention, sentenceStarts));
+                }
+                chains.add(new CoreferenceChain(getHeadPosition(corefChain.getRepresentativeMention(), sentenceStarts), mentionPositions.toImmutable()));
+            }
+        }
+        logger.debug("Found {} coreference chains", chains.size());
+        return new CoreferenceResult(chains.toImmutable(), sentenceStarts[sentences.size()]);
+    }
+
+    private int getHeadPosition(CorefChain.CorefMention mention, int[] sentenceStarts) {
+        // sentence numbers and head indices of mentions start with 1
+        return wordOffset + sentenceStarts[mention.sentNum - 1] + mention.headIndex - 1;
+    }
+
+    /**
+     * The coreference chains of a text.
+     *
+     * @param chains    the chains with more than one mention
+     * @param wordCount the number of words of the text
+     */
+    public record CoreferenceResult(ImmutableList<CoreferenceChain> chains, int wordCount) {
+    }
+}
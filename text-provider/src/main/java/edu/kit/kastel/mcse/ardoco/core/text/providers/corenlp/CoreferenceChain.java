@@ -0,0 +1,15 @@
+/* Licensed under MIT 2022. */
+package edu.kit.kastel.mcse.ardoco.core.text.providers.corenlp;
+
+import org.eclipse.collections.api.list.primitive.ImmutableIntList;
+
+/**
+ * Chain of mentions that refer to the same entity. Mentions are identified by the position of their head word in the
+ * annotated text.
+ *
+ * @param representativePosition the position of the head word of the representative mention
+ * @param mentionPositions       the positions of the head words of all mentions (including the representative one),
+ *                               in textual order
+ */
+public record CoreferenceChain(int representativePosition, ImmutableIntList mentionPositions) {
+}
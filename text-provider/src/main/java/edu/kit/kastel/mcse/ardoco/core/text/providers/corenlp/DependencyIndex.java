@@ -0,0 +1,134 @@
+/* Licensed under MIT 2022. */
+package edu.kit.kastel.mcse.ardoco.core.text.providers.corenlp;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.DependencyTag;
+import edu.stanford.nlp.semgraph.SemanticGraph;
+import edu.stanford.nlp.trees.TypedDependency;
+
+/**
+ * Adjacency index of the typed dependencies of a sentence. For each token, the incoming and outgoing edges are grouped
+ * by their {@link DependencyTag}, and the tags that occur are stored as bitmask. The index is built once per sentence,
+ * so that dependency queries of words do not iterate the whole dependency graph. Tokens are addressed by their index
+ * in the sentence (starting with 0).
+ */
+final class DependencyIndex {
+    private static final DependencyTag[] DEPENDENCY_TAGS = DependencyTag.values();
+    private static final Map<String, DependencyTag> dependencyTagsByName = new HashMap<>();
+    private static final int[] NO_EDGES = new int[0];
+
+    static {
+        if (DEPENDENCY_TAGS.length > Long.SIZE) {
+            throw new IllegalStateException("Dependency tags do not fit into a bitmask");
+        }
+        for (var dependencyTag : DEPENDENCY_TAGS) {
+            dependencyTagsByName.put(dependencyTag.name().toLowerCase(Locale.ROOT), dependencyTag);
+        }
+    }
+
+    private final int[][][] outgoing;
+    private final int[][][] incoming;
+    private final long[] outgoingTags;
+    private final long[] incomingTags;
+
+    DependencyIndex(SemanticGraph dependencies, int tokenCount) {
+        outgoing = new int[tokenCount][][];
+        incoming = new int[tokenCount][][];
+        outgoingTags = new long[tokenCount];
+        incomingTags = new long[tokenCount];
+
+        // without dependency parse (e.g., if dependencies were not requested), there are no edges
+        var typedDependencies = dependencies == null ? List.<TypedDependency> of() : dependencies.typedDependencies();
+        int[][] outgoingCounts = new int[tokenCount][DEPENDENCY_TAGS.length];
+        int[][] incomingCounts = new int[tokenCount][DEPENDENCY_TAGS.length];
+        for (var typedDependency : typedDependencies) {
+            var dependencyTag = getDependencyTag(typedDependency.reln().getShortName());
+            int governor = typedDependency.gov().index() - 1;
+            int dependent = typedDependency.dep().index() - 1;
+            if (dependencyTag != null && isToken(governor, tokenCount) && isToken(dependent, tokenCount)) {
+                outgoingCounts[governor][dependencyTag.ordinal()]++;
+                incomingCounts[dependent][dependencyTag.ordinal()]++;
+            }
+        }
+
+        for (int token = 0; token < tokenCount; token++) {
+            outgoing[token] = allocate(outgoingCounts[token]);
+            incoming[token] = allocate(incomingCounts[token]);
+        }
+
+        // edges keep the order of the dependency graph; the counts are reused as fill cursors
+        for (var typedDependency : typedDependencies) {
+            var dependencyTag = getDependencyTag(typedDependency.reln().getShortName());
+            int governor = typedDependency.gov().index() - 1;
+            int dependent = typedDependency.dep().index() - 1;
+            if (dependencyTag != null && isToken(governor, tokenCount) && isToken(dependent, tokenCount)) {
+                int tag = dependencyTag.ordinal();
+                var outgoingEdges = outgoing[governor][tag];
+                outgoingEdges[outgoingEdges.length - outgoingCounts[governor][tag]--] = dependent;
+                var incomingEdges = incoming[dependent][tag];
+                incomingEdges[incomingEdges.length - incomingCounts[dependent][tag]--] = governor;
+                outgoingTags[governor] |= 1L << tag;
+                incomingTags[dependent] |= 1L << tag;
+            }
+        }
+    }
+
+    private static boolean isToken(int index, int tokenCount) {
+        return index >= 0 && index < tokenCount;
+    }
+
+    private static int[][] allocate(int[] counts) {
+        int[][] edges = new int[counts.length][];
+        for (int tag = 0; tag < counts.length; tag++) {
+            edges[tag] = counts[tag] == 0 ? NO_EDGES : new int[counts[tag]];
+        }
+        return edges;
+    }
+
+    /**
+     * Returns the {@link DependencyTag} with the given name (ignoring case) or <code>null</code> if there is none.
+     *
+     * @param name the name of the relation
+     * @return the tag or <code>null</code>
+     */
+    static DependencyTag getDependencyTag(String name) {
+        if (name == null) {
+            return null;
+        }
+        return dependencyTagsByName.get(name.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Returns the dependents of the outgoing edges of the given type.
+     *
+     * @param token         the index of the token in the sentence
+     * @param dependencyTag the type of the edges
+     * @return the indices of the dependents in the sentence. Must not be modified.
+     */
+    int[] getOutgoing(int token, DependencyTag dependencyTag) {
+        return outgoing[token][dependencyTag.ordinal()];
+    }
+
+    /**
+     * Returns the governors of the incoming edges of the given type.
+     *
+     * @param token         the index of the token in the sentence
+     * @param dependencyTag the type of the edges
+     * @return the indices of the governors in the sentence. Must not be modified.
+     */
+    int[] getIncoming(int token, DependencyTag dependencyTag) {
+        return incoming[token][dependencyTag.ordinal()];
+    }
+
+    boolean hasOutgoing(int token, DependencyTag dependencyTag) {
+        return (outgoingTags[token] & (1L << dependencyTag.ordinal())) != 0;
+    }
+
+    boolean hasIncoming(int token, DependencyTag dependencyTag) {
+        return (incomingTags[token] & (1L << dependencyTag.ordinal())) != 0;
+    }
+}
@@ -0,0 +1,175 @@
+/* Licensed under MIT 2022. */
+package edu.kit.kastel.mcse.ardoco.core.text.providers.corenlp;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+
+import org.eclipse.collections.api.list.primitive.MutableIntList;
+import org.eclipse.collections.impl.factory.primitive.IntLists;
+
+import edu.stanford.nlp.ling.CoreAnnotation;
+import edu.stanford.nlp.ling.CoreAnnotations;
+import edu.stanford.nlp.ling.CoreLabel;
+import edu.stanford.nlp.ling.StringLabel;
+import edu.stanford.nlp.pipeline.Annotation;
+import edu.stanford.nlp.pipeline.Annotator;
+import edu.stanford.nlp.semgraph.SemanticGraph;
+import edu.stanford.nlp.semgraph.SemanticGraphCoreAnnotations;
+import edu.stanford.nlp.trees.LabeledScoredTreeNode;
+import edu.stanford.nlp.trees.Tree;
+import edu.stanford.nlp.trees.TreeCoreAnnotations;
+
+/**
+ * Derives constituency trees from the basic dependencies of the sentences, so that phrases are available without
+ * running a constituency parser. Each word with dependents forms a phrase that spans its projection; the phrase of the
+ * root is a sentence, and the type of the other phrases is derived from the POS tag of their head. The trees are stored as {@link TreeCoreAnnotations.TreeAnnotation},
+ * so they are used like the trees of a constituency parser. If a dependency tree is not projective, the words of the
+ * sentence form a single flat phrase.
+ */
+public class DependencyPhraseAnnotator implements Annotator {
+    /**
+     * The name of the annotator in the configuration of the pipeline.
+     */
+    public static final String NAME = "depphrases";
+
+    /**
+     * Creates a new annotator. This constructor is called by CoreNLP.
+     *
+     * @param name       the name of the annotator
+     * @param properties the properties of the pipeline
+     */
+    public DependencyPhraseAnnotator(String name, Properties properties) {
+        // there is nothing to configure
+    }
+
+    @Override
+    public void annotate(Annotation annotation) {
+        for (var sentence : annotation.get(CoreAnnotations.SentencesAnnotation.class)) {
+            var tokens = sentence.get(CoreAnnotations.TokensAnnotation.class);
+            var dependencies = sentence.get(SemanticGraphCoreAnnotations.BasicDependenciesAnnotation.class);
+            sentence.set(TreeCoreAnnotations.TreeAnnotation.class, toTree(tokens, dependencies));
+        }
+    }
+
+    /**
+     * Creates the tree of the given tokens from their dependencies.
+     *
+     * @param tokens       the tokens of the sentence
+     * @param dependencies the basic dependencies of the sentence, can be null
+     * @return the tree
+     */
+    static Tree toTree(List<CoreLabel> tokens, SemanticGraph dependencies) {
+        int[] heads = new int[tokens.size()];
+        Arrays.fill(heads, -1);
+        if (dependencies != null) {
+            for (var edge : dependencies.edgeIterable()) {
+                heads[edge.getDependent().index() - 1] = edge.getGovernor().index() - 1;
+            }
+        }
+        MutableIntList[] dependents = new MutableIntList[tokens.size()];
+        for (int token = 0; token < tokens.size(); token++) {
+            dependents[token] = IntLists.mutable.empty();
+        }
+        MutableIntList roots = IntLists.mutable.empty();
+        for (int token = 0; token < tokens.size(); token++) {
+            if (heads[token] >= 0) {
+                dependents[heads[token]].add(token);
+            } else {
+                roots.add(token);
+            }
+        }
+        List<Tree> rootChildren = new ArrayList<>(roots.size());
+        roots.forEach(root -> rootChildren.add(toSubtree(root, tokens, dependents, true)));
+
+        var tree = new LabeledScoredTreeNode(new StringLabel("ROOT"), rootChildren);
+        if (!isInTokenOrder(tree, tokens)) {
+            return toFlatTree(tokens);
+        }
+        return tree;
+    }
+
+    private static Tree toSubtree(int head, List<CoreLabel> tokens, MutableIntList[] dependents, boolean isRoot) {
+        var headTree = toPreTerminal(tokens.get(head));
+        if (dependents[head].isEmpty()) {
+            return headTree;
+        }
+        List<Tree> children = new ArrayList<>();
+        boolean headAdded = false;
+        for (int i = 0; i < dependents[head].size(); i++) {
+            int dependent = dependents[head].get(i);
+            if (!headAdded && dependent > head) {
+                children.add(headTree);
+                headAdded = true;
+            }
+            children.add(toSubtree(dependent, tokens, dependents, false));
+        }
+        if (!headAdded) {
+            children.add(headTree);
+        }
+        return new LabeledScoredTreeNode(new StringLabel(getPhraseLabel(tokens.get(head).tag(), isRoot)), children);
+    }
+
+    private static Tree toPreTerminal(CoreLabel token) {
+        return new LabeledScoredTreeNode(new StringLabel(token.tag()), List.of(new LabeledScoredTreeNode(token)));
+    }
+
+    private static Tree toFlatTree(List<CoreLabel> tokens) {
+        List<Tree> children = new ArrayList<>(tokens.size());
+        for (var token : tokens) {
+            children.add(toPreTerminal(token));
+        }
+        var sentenceTree = new LabeledScoredTreeNode(new StringLabel("S"), children);
+        return new LabeledScoredTreeNode(new StringLabel("ROOT"), List.of(sentenceTree));
+    }
+
+    private static boolean isInTokenOrder(Tree tree, List<CoreLabel> tokens) {
+        var leaves = tree.getLeaves();
+        if (leaves.size() != tokens.size()) {
+            return false;
+        }
+        for (int i = 0; i < leaves.size(); i++) {
+            if (leaves.get(i).label() != tokens.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the phrase type of a phrase with a head with the given POS tag.
+     */
+    private static String getPhraseLabel(String headTag, boolean isRoot) {
+        if (isRoot) {
+            return "S";
+        } else if (headTag == null) {
+            return "X";
+        } else if (headTag.startsWith("VB") || headTag.equals("MD")) {
+            return "VP";
+        } else if (headTag.startsWith("NN") || headTag.startsWith("PRP") || headTag.equals("CD") || headTag.equals("DT")) {
+            return "NP";
+        } else if (headTag.startsWith("JJ")) {
+            return "ADJP";
+        } else if (headTag.startsWith("RB")) {
+            return "ADVP";
+        } else if (headTag.equals("IN") || headTag.equals("TO")) {
+            return "PP";
+        } else if (headTag.startsWith("W")) {
+            return "WHNP";
+        }
+        return "X";
+    }
+
+    @Override
+    public Set<Class<? extends CoreAnnotation>> requirementsSatisfied() {
+        return Set.of(TreeCoreAnnotations.TreeAnnotation.class);
+    }
+
+    @Override
+    public Set<Class<? extends CoreAnnotation>> requires() {
+        return Set.of(CoreAnnotations.TokensAnnotation.class, CoreAnnotations.SentencesAnnotation.class, CoreAnnotations.PartOfSpeechAnnotation.class,
+                SemanticGraphCoreAnnotations.BasicDependenciesAnnotation.class);
+    }
+}
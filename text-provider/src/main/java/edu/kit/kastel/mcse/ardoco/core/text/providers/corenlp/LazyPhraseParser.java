@@ -0,0 +1,68 @@
+/* Licensed under MIT 2022. */
+package edu.kit.kastel.mcse.ardoco.core.text.providers.corenlp;
+
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import edu.stanford.nlp.ling.CoreAnnotations;
+import edu.stanford.nlp.pipeline.Annotation;
+import edu.stanford.nlp.pipeline.StanfordCoreNLP;
+import edu.stanford.nlp.trees.Tree;
+import edu.stanford.nlp.trees.TreeCoreAnnotations;
+import edu.stanford.nlp.util.ArrayCoreMap;
+import edu.stanford.nlp.util.CoreMap;
+
+/**
+ * Parses the constituency trees of single sentences on demand with the pooled parsers of a {@link ParserTier}. The
+ * sentences have to be POS tagged already; for {@link ParserTier#DEPENDENCIES_ONLY}, they also have to be dependency
+ * parsed. The parser works on a copy of the sentence, so the annotations of the sentence are never modified and can be
+ * read concurrently. The parser is thread-safe.
+ */
+final class LazyPhraseParser {
+    private final Properties properties;
+    private final AtomicInteger parsedSentences = new AtomicInteger();
+
+    /**
+     * Creates a new parser.
+     *
+     * @param parserTier the parsers that produce the phrases
+     */
+    LazyPhraseParser(ParserTier parserTier) {
+        properties = CoreNLPProvider.getSentenceProperties(new Properties(), CoreNLPProvider.ALL_ANNOTATION_LAYERS, parserTier);
+        properties.setProperty("annotators", parserTier.getLazyPhraseAnnotators());
+        // the dependencies of the sentence were parsed eagerly and must not be replaced by the ones of the parser
+        properties.setProperty("parse.buildgraphs", "false");
+    }
+
+    /**
+     * Parses the constituency tree of the given sentence.
+     *
+     * @param sentence the annotated sentence
+     * @return the tree of the sentence
+     */
+    Tree parse(CoreMap sentence) {
+        CoreMap copy = new ArrayCoreMap(sentence);
+        var annotation = new Annotation(sentence.get(CoreAnnotations.TextAnnotation.class));
+        annotation.set(CoreAnnotations.SentencesAnnotation.class, List.of(copy));
+        annotation.set(CoreAnnotations.TokensAnnotation.class, copy.get(CoreAnnotations.TokensAnnotation.class));
+
+        StanfordCoreNLP pipeline = CoreNLPPipelinePool.borrow(properties);
+        try {
+            pipeline.annotate(annotation);
+        } finally {
+            CoreNLPPipelinePool.release(properties, pipeline);
+        }
+        parsedSentences.incrementAndGet();
+        return copy.get(TreeCoreAnnotations.TreeAnnotation.class);
+    }
+
+    /**
+     * Returns the number of sentences that were parsed so far.
+     *
+     * @return the number of parsed sentences
+     */
+    int getParsedSentences() {
+        return parsedSentences.get();
+    }
+}
@@ -0,0 +1,206 @@
+/* Licensed under MIT 2022. */
+package edu.kit.kastel.mcse.ardoco.core.text.providers.corenlp;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.set.ImmutableSet;
+import org.eclipse.collections.api.set.MutableSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.AnnotationLayer;
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.IText;
+import edu.kit.kastel.mcse.ardoco.core.common.util.SimilarTermIndex;
+import edu.kit.kastel.mcse.ardoco.core.common.util.SimilarityUtils;
+import edu.kit.kastel.mcse.ardoco.core.text.providers.ITextConnector;
+import edu.stanford.nlp.ling.CoreAnnotations;
+import edu.stanford.nlp.ling.CoreLabel;
+import edu.stanford.nlp.pipeline.Annotation;
+import edu.stanford.nlp.pipeline.CoreDocument;
+import edu.stanford.nlp.pipeline.StanfordCoreNLP;
+import edu.stanford.nlp.util.CoreMap;
+
+/**
+ * Annotates a text and only parses the sentences that are relevant for the model. The whole text is tokenized, POS
+ * tagged, and lemmatized first. A sentence is a candidate if one of its words or lemmas matches a term of the model,
+ * i.e., a part of the name or type of a model instance, or is similar to it like the recommendation and connection
+ * agents compare words with the model (see {@link SimilarityUtils}). Only the candidates are parsed into phrases and
+ * dependencies; the other sentences have neither phrases nor dependencies. Word positions and sentence numbers are the
+ * ones of the whole text.
+ */
+public class ModelGuidedCoreNLPProvider implements ITextConnector {
+    private static final Logger logger = LoggerFactory.getLogger(ModelGuidedCoreNLPProvider.class);
+
+    /**
+     * Minimal length of a term or word that may match as part of another one, e.g., "store" in "teastore".
+     */
+    static final int MIN_PARTIAL_MATCH_LENGTH = 4;
+
+    private final InputStream text;
+    private final ImmutableSet<String> candidateTerms;
+    private final SimilarTermIndex<String> candidateTermIndex;
+    private final int threads;
+    private final ImmutableSet<AnnotationLayer> annotationLayers;
+    private final ParserTier parserTier;
+    private IText annotatedText;
+
+    /**
+     * Creates a new provider that uses all annotation layers.
+     *
+     * @param text           the text
+     * @param candidateTerms the terms of the model, e.g., the name and type parts of its instances
+     */
+    public ModelGuidedCoreNLPProvider(InputStream text, Iterable<String> candidateTerms) {
+        this(text, candidateTerms, 1, CoreNLPProvider.ALL_ANNOTATION_LAYERS, ParserTier.DEFAULT);
+    }
+
+    /**
+     * Creates a new provider.
+     *
+     * @param text             the text
+     * @param candidateTerms   the terms of the model, e.g., the name and type parts of its instances
+     * @param threads          the maximum number of threads used for annotating
+     * @param annotationLayers the annotation layers that are used; the annotators for other layers are not run
+     * @param parserTier       the parsers that produce the phrases
+     */
+    public ModelGuidedCoreNLPProvider(InputStream text, Iterable<String> candidateTerms, int threads, ImmutableSet<AnnotationLayer> annotationLayers,
+            ParserTier parserTier) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Number of threads must be positive");
+        }
+        this.text = text;
+        this.candidateTerms = normalizeTerms(candidateTerms);
+        this.candidateTermIndex = SimilarTermIndex.of(this.candidateTerms.toList().toImmutable(), Lists.immutable::with);
+        this.threads = threads;
+        this.annotationLayers = annotationLayers;
+        this.parserTier = parserTier;
+        annotatedText = null;
+    }
+
+    @Override
+    public IText getAnnotatedText(String textName) {
+        logger.warn("Returning annotated text ignoring the provided name");
+        return getAnnotatedText();
+    }
+
+    @Override
+    public synchronized IText getAnnotatedText() {
+        if (annotatedText == null) {
+            annotatedText = CoreNLPProvider.toCompactText(annotateDocument());
+        }
+        return annotatedText;
+    }
+
+    private CoreDocument annotateDocument() {
+        String inputText;
+        try (text) {
+            inputText = new String(text.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read the input text", e);
+        }
+
+        var document = new Annotation(inputText);
+        annotateWith(getShallowProperties(annotationLayers), document);
+        var sentences = document.get(CoreAnnotations.SentencesAnnotation.class);
+
+        var parseAnnotators = CoreNLPProvider.getParseAnnotators(annotationLayers, parserTier);
+        if (!parseAnnotators.isEmpty()) {
+            List<CoreMap> candidates = new ArrayList<>();
+            for (var sentence : sentences) {
+                if (isCandidate(sentence)) {
+                    candidates.add(sentence);
+                }
+            }
+            logger.info("Parsing {} of {} sentences that mention the model", candidates.size(), sentences.size());
+
+            if (!candidates.isEmpty()) {
+                var parseProperties = CoreNLPProvider.getSentenceProperties(new Properties(), annotationLayers, parserTier);
+                parseProperties.setProperty("annotators", parseAnnotators);
+                new ParallelDocumentAnnotator(CoreNLPProvider.getTokenizationProperties(new Properties()), parseProperties, threads)
+                        .annotateSentences(inputText, candidates);
+            }
+        }
+        return new CoreDocument(document);
+    }
+
+    /**
+     * Returns the configuration for tokenizing, splitting sentences, POS tagging, and lemmatizing.
+     *
+     * @param annotationLayers the used annotation layers
+     * @return the configuration
+     */
+    static Properties getShallowProperties(ImmutableSet<AnnotationLayer> annotationLayers) {
+        var properties = CoreNLPProvider.getTokenizationProperties(new Properties());
+        var annotators = properties.getProperty("annotators") + ",pos";
+        if (annotationLayers.contains(AnnotationLayer.LEMMAS)) {
+            annotators += ",lemma";
+        }
+        properties.setProperty("annotators", annotators);
+        return properties;
+    }
+
+    /**
+     * Checks whether one of the words or lemmas of the given sentence matches one of the lower-case terms of the model.
+     * A word matches a term if they are equal, if one contains the other and the shorter one has at least
+     * {@value #MIN_PARTIAL_MATCH_LENGTH} characters, or if they are similar according to
+     * {@link SimilarityUtils#areWordsSimilar(String, String)}.
+     *
+     * @param sentence the tokenized sentence
+     * @return whether the sentence is a candidate for parsing
+     */
+    boolean isCandidate(CoreMap sentence) {
+        for (CoreLabel token : sentence.get(CoreAnnotations.TokensAnnotation.class)) {
+            if (matches(token.word()) || matches(token.lemma())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean matches(String word) {
+        if (word == null || word.isEmpty()) {
+            return false;
+        }
+        var lowerCaseWord = word.toLowerCase(Locale.ROOT);
+        if (candidateTerms.contains(lowerCaseWord)) {
+            return true;
+        }
+        for (var term : candidateTerms) {
+            if (Math.min(term.length(), lowerCaseWord.length()) >= MIN_PARTIAL_MATCH_LENGTH
+                    && (term.contains(lowerCaseWord) || lowerCaseWord.contains(term))) {
+                return true;
+            }
+        }
+        // the index only returns the terms that might be similar, so the check is done for few terms
+        return candidateTermIndex.getCandidates(lowerCaseWord).anySatisfy(term -> SimilarityUtils.areWordsSimilar(term, lowerCaseWord));
+    }
+
+    private static ImmutableSet<String> normalizeTerms(Iterable<String> candidateTerms) {
+        MutableSet<String> terms = Sets.mutable.empty();
+        for (var term : candidateTerms) {
+            for (var part : term.toLowerCase(Locale.ROOT).split("\\s+")) {
+                if (!part.isBlank()) {
+                    terms.add(part);
+                }
+            }
+        }
+        return terms.toImmutable();
+    }
+
+    private static void annotateWith(Properties properties, Annotation annotation) {
+        StanfordCoreNLP pipeline = CoreNLPPipelinePool.borrow(properties);
+        try {
+            pipeline.annotate(annotation);
+        } finally {
+            CoreNLPPipelinePool.release(properties, pipeline);
+        }
+    }
+}
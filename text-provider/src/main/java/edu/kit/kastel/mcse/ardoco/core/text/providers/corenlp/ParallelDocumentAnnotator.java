@@ -0,0 +1,132 @@
+/* Licensed under MIT 2022. */
+package edu.kit.kastel.mcse.ardoco.core.text.providers.corenlp;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import edu.stanford.nlp.ling.CoreAnnotations;
+import edu.stanford.nlp.ling.CoreLabel;
+import edu.stanford.nlp.pipeline.Annotation;
+import edu.stanford.nlp.pipeline.CoreDocument;
+import edu.stanford.nlp.pipeline.StanfordCoreNLP;
+import edu.stanford.nlp.util.CoreMap;
+
+/**
+ * Annotates a single document on several threads. The document is tokenized and split into sentences first. Afterwards,
+ * the sentence-level annotators (POS, parsing, dependency parsing, lemmatization) run on batches of sentences on a
+ * bounded worker pool. The annotators work on the sentence objects of the document itself, so word positions and
+ * sentence numbers stay the ones of the whole document, and the result is the same as annotating the document
+ * sequentially.
+ */
+final class ParallelDocumentAnnotator {
+    private static final Logger logger = LoggerFactory.getLogger(ParallelDocumentAnnotator.class);
+
+    /**
+     * Number of sentences that are annotated together by one worker.
+     */
+    static final int SENTENCE_BATCH_SIZE = 16;
+
+    private final Properties tokenizationProperties;
+    private final Properties sentenceProperties;
+    private final int threads;
+
+    /**
+     * Creates a new annotator.
+     *
+     * @param tokenizationProperties the configuration of the pipeline that tokenizes and splits sentences
+     * @param sentenceProperties     the configuration of the pipeline that runs the sentence-level annotators
+     * @param threads                the maximum number of worker threads
+     */
+    ParallelDocumentAnnotator(Properties tokenizationProperties, Properties sentenceProperties, int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Number of threads must be positive");
+        }
+        this.tokenizationProperties = tokenizationProperties;
+        this.sentenceProperties = sentenceProperties;
+        this.threads = threads;
+    }
+
+    /**
+     * Annotates the given text.
+     *
+     * @param inputText the text
+     * @return the annotated document
+     */
+    CoreDocument annotate(String inputText) {
+        var annotation = new Annotation(inputText);
+        annotateWith(tokenizationProperties, annotation);
+
+        annotateSentences(inputText, annotation.get(CoreAnnotations.SentencesAnnotation.class));
+        return new CoreDocument(annotation);
+    }
+
+    /**
+     * Runs the sentence-level annotators on the given already tokenized sentences of a text.
+     *
+     * @param inputText the text
+     * @param sentences the sentences to annotate
+     */
+    void annotateSentences(String inputText, List<CoreMap> sentences) {
+        var batches = createBatches(inputText, sentences);
+        logger.debug("Annotating {} sentences in {} batches on up to {} threads", sentences.size(), batches.size(), threads);
+
+        if (batches.size() <= 1 || threads == 1) {
+            batches.forEach(batch -> annotateWith(sentenceProperties, batch));
+        } else {
+            annotateInParallel(batches);
+        }
+    }
+
+    private void annotateInParallel(List<Annotation> batches) {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, batches.size()));
+        try {
+            List<Future<?>> results = new ArrayList<>(batches.size());
+            for (var batch : batches) {
+                results.add(executor.submit(() -> annotateWith(sentenceProperties, batch)));
+            }
+            for (var result : results) {
+                result.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while annotating the text", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Could not annotate the text", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static List<Annotation> createBatches(String inputText, List<CoreMap> sentences) {
+        List<Annotation> batches = new ArrayList<>();
+        for (int start = 0; start < sentences.size(); start += SENTENCE_BATCH_SIZE) {
+            var batchSentences = sentences.subList(start, Math.min(start + SENTENCE_BATCH_SIZE, sentences.size()));
+            List<CoreLabel> batchTokens = new ArrayList<>();
+            for (var sentence : batchSentences) {
+                batchTokens.addAll(sentence.get(CoreAnnotations.TokensAnnotation.class));
+            }
+            var batch = new Annotation(inputText);
+            batch.set(CoreAnnotations.SentencesAnnotation.class, new ArrayList<>(batchSentences));
+            batch.set(CoreAnnotations.TokensAnnotation.class, batchTokens);
+            batches.add(batch);
+        }
+        return batches;
+    }
+
+    private static void annotateWith(Properties properties, Annotation annotation) {
+        StanfordCoreNLP pipeline = CoreNLPPipelinePool.borrow(properties);
+        try {
+            pipeline.annotate(annotation);
+        } finally {
+            CoreNLPPipelinePool.release(properties, pipeline);
+        }
+    }
+}
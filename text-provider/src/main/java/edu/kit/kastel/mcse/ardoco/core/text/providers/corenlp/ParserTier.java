@@ -0,0 +1,82 @@
+/* Licensed under MIT 2022. */
+package edu.kit.kastel.mcse.ardoco.core.text.providers.corenlp;
+
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * The parsers that produce the phrases (constituency trees) of a text. The tiers trade accuracy of the phrases for
+ * throughput; POS tags, lemmas, and dependencies are the same in all tiers.
+ */
+public enum ParserTier {
+    /**
+     * The PCFG constituency parser. Most accurate, but slowest.
+     */
+    DEFAULT("parse", Map.of()),
+    /**
+     * The shift-reduce constituency parser. Considerably faster than the PCFG parser with similar accuracy, but needs
+     * the models of the CoreNLP English models jar (classifier <code>models-english</code>), which is not a dependency
+     * of this module.
+     */
+    SHIFT_REDUCE("parse", Map.of("parse.model", "edu/stanford/nlp/models/srparser/englishSR.ser.gz")),
+    /**
+     * No constituency parser. The phrases are derived from the neural dependency parse by the
+     * {@link DependencyPhraseAnnotator}. Fastest, but the phrases only approximate the constituency structure.
+     */
+    DEPENDENCIES_ONLY("depparse," + DependencyPhraseAnnotator.NAME,
+            Map.of("customAnnotatorClass." + DependencyPhraseAnnotator.NAME, DependencyPhraseAnnotator.class.getName()));
+
+    private static final String MODEL_PROPERTY_SUFFIX = ".model";
+
+    private final String phraseAnnotators;
+    private final Map<String, String> properties;
+
+    ParserTier(String phraseAnnotators, Map<String, String> properties) {
+        this.phraseAnnotators = phraseAnnotators;
+        this.properties = properties;
+    }
+
+    /**
+     * Returns the annotators that produce the phrases in this tier.
+     *
+     * @return the comma-separated annotators
+     */
+    String getPhraseAnnotators() {
+        return phraseAnnotators;
+    }
+
+    /**
+     * Returns the annotators that produce the phrases in this tier for sentences whose dependencies were already parsed.
+     *
+     * @return the comma-separated annotators
+     */
+    String getLazyPhraseAnnotators() {
+        return this == DEPENDENCIES_ONLY ? DependencyPhraseAnnotator.NAME : phraseAnnotators;
+    }
+
+    /**
+     * Adds the configuration of the parsers of this tier.
+     *
+     * @param stanfordProperties the properties of the pipeline
+     * @throws IllegalStateException if a model of the parsers is not on the classpath
+     */
+    void configure(Properties stanfordProperties) {
+        checkModels();
+        properties.forEach(stanfordProperties::setProperty);
+    }
+
+    /**
+     * Checks that the models of the parsers of this tier are on the classpath. Otherwise, CoreNLP would only fail when
+     * it loads the model with an unspecific error.
+     *
+     * @throws IllegalStateException if a model is missing
+     */
+    void checkModels() {
+        for (var property : properties.entrySet()) {
+            if (property.getKey().endsWith(MODEL_PROPERTY_SUFFIX) && ParserTier.class.getClassLoader().getResource(property.getValue()) == null) {
+                throw new IllegalStateException("The model " + property.getValue() + " of the parser tier " + this
+                        + " is not on the classpath; add edu.stanford.nlp:stanford-corenlp with classifier models-english to use this tier");
+            }
+        }
+    }
+}
@@ -4,37 +4,32 @@ package edu.kit.kastel.mcse.ardoco.core.text.providers.corenlp;
 import java.util.List;
 
 import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
 
 import edu.kit.kastel.mcse.ardoco.core.api.data.text.IPhrase;
 import edu.kit.kastel.mcse.ardoco.core.api.data.text.ISentence;
 import edu.kit.kastel.mcse.ardoco.core.api.data.text.IWord;
 import edu.kit.kastel.mcse.ardoco.core.api.data.text.PhraseType;
-import edu.stanford.nlp.trees.Tree;
 
+/**
+ * Lightweight view of a row of the {@link PhraseTable} of a sentence.
+ */
 class Phrase implements IPhrase {
-    private final Tree tree;
-    private final List<IWord> words;
-    private Sentence sentence;
+    private final Sentence sentence;
+    private final PhraseTable table;
+    private final int index;
 
-    private String text = null;
+    private volatile List<IWord> words = null;
 
-    public Phrase(Tree tree, List<IWord> words) {
-        this.tree = tree;
-        this.words = words;
-        this.sentence = retrieveSentence(words.get(0));
-    }
-
-    private Sentence retrieveSentence(IWord firstWord) {
-        ISentence iSentence = firstWord.getSentence();
-        if (iSentence instanceof Sentence cSentence) {
-            return cSentence;
-        }
-        throw new IllegalStateException("Words do not fit to sentence type");
+    Phrase(Sentence sentence, PhraseTable table, int index) {
+        this.sentence = sentence;
+        this.table = table;
+        this.index = index;
     }
 
     @Override
     public int getSentenceNo() {
-        return words.get(0).getSentenceNo();
+        return sentence.getSentenceNumber();
     }
 
     @Override
@@ -44,32 +39,36 @@ class Phrase implements IPhrase {
 
     @Override
     public String getText() {
-        if (text == null) {
-            text = tree.spanString();
-        }
-        return text;
+        return table.getText(index);
     }
 
     @Override
     public PhraseType getPhraseType() {
-        String type = tree.label().toString();
-        return PhraseType.get(type);
+        return table.getType(index);
     }
 
     @Override
     public List<IWord> getContainedWords() {
-        return words;
+        var currentWords = words;
+        if (currentWords == null) {
+            // the words are the canonical words of the text, so concurrently created lists are equal
+            var textWords = sentence.getParentText().getWords();
+            MutableList<IWord> phraseWords = Lists.mutable.withInitialCapacity(table.getEnd(index) - table.getStart(index));
+            for (int position = table.getStart(index); position < table.getEnd(index); position++) {
+                phraseWords.add(textWords.get(position));
+            }
+            currentWords = phraseWords.toImmutable().castToList();
+            words = currentWords;
+        }
+        return currentWords;
     }
 
     @Override
     public List<IPhrase> getSubPhrases() {
+        var sentencePhrases = sentence.getPhrases();
         List<IPhrase> subPhrases = Lists.mutable.empty();
-        for (var subTree : tree) {
-            if (subTree.isPhrasal() && tree.dominates(subTree)) {
-                var wordsForPhrase = Sentence.getWordsForPhrase(subTree, this.sentence);
-                Phrase currPhrase = new Phrase(subTree, wordsForPhrase);
-                subPhrases.add(currPhrase);
-            }
+        for (int phrase = index + 1; phrase < table.getSubtreeEnd(index); phrase++) {
+            subPhrases.add(sentencePhrases.get(phrase));
         }
         return subPhrases;
     }
@@ -77,7 +76,7 @@ class Phrase implements IPhrase {
     @Override
     public boolean isSuperPhraseOf(IPhrase other) {
         if (other instanceof Phrase otherPhrase) {
-            return tree.dominates(otherPhrase.tree);
+            return table == otherPhrase.table && table.contains(index, otherPhrase.index);
         } else {
             var currText = getText();
             var otherText = other.getText();
@@ -88,7 +87,7 @@ class Phrase implements IPhrase {
     @Override
     public boolean isSubPhraseOf(IPhrase other) {
         if (other instanceof Phrase otherPhrase) {
-            return otherPhrase.tree.dominates(this.tree);
+            return table == otherPhrase.table && table.contains(otherPhrase.index, index);
         } else {
             var currText = getText();
             var otherText = other.getText();
@@ -0,0 +1,163 @@
+/* Licensed under MIT 2022. */
+package edu.kit.kastel.mcse.ardoco.core.text.providers.corenlp;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.list.primitive.MutableIntList;
+import org.eclipse.collections.impl.factory.primitive.IntLists;
+
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.PhraseType;
+import edu.stanford.nlp.trees.Tree;
+
+/**
+ * Flat table of the phrases of a constituency tree. The table is computed once per sentence in a single traversal of
+ * the tree. Phrases are numbered in pre-order, so the sub-phrases of a phrase are the phrases between its index and the
+ * end of its subtree, and containment of phrases is a comparison of indices. Word spans are positions in the text.
+ */
+final class PhraseTable {
+    private static final int NO_PARENT = -1;
+
+    private final Tree[] trees;
+    private final PhraseType[] types;
+    private final int[] starts;
+    private final int[] ends;
+    private final int[] parents;
+    private final int[] subtreeEnds;
+    private final int[][] children;
+    private final String[] texts;
+
+    /**
+     * Creates the table for the given constituency tree.
+     *
+     * @param root              the constituency tree of the sentence
+     * @param firstWordPosition the position of the first word (leaf) of the tree in the text
+     */
+    PhraseTable(Tree root, int firstWordPosition) {
+        MutableList<Tree> phraseTrees = Lists.mutable.empty();
+        MutableIntList phraseStarts = IntLists.mutable.empty();
+        MutableIntList phraseEnds = IntLists.mutable.empty();
+        MutableIntList phraseParents = IntLists.mutable.empty();
+        MutableIntList phraseSubtreeEnds = IntLists.mutable.empty();
+        collect(root, firstWordPosition, NO_PARENT, phraseTrees, phraseStarts, phraseEnds, phraseParents, phraseSubtreeEnds);
+
+        int size = phraseTrees.size();
+        trees = phraseTrees.toArray(new Tree[size]);
+        starts = phraseStarts.toArray();
+        ends = phraseEnds.toArray();
+        parents = phraseParents.toArray();
+        subtreeEnds = phraseSubtreeEnds.toArray();
+        types = new PhraseType[size];
+        texts = new String[size];
+
+        int[] childCounts = new int[size];
+        for (int phrase = 0; phrase < size; phrase++) {
+            types[phrase] = PhraseType.get(trees[phrase].label().toString());
+            if (parents[phrase] != NO_PARENT) {
+                childCounts[parents[phrase]]++;
+            }
+        }
+        children = new int[size][];
+        for (int phrase = 0; phrase < size; phrase++) {
+            children[phrase] = new int[childCounts[phrase]];
+            childCounts[phrase] = 0;
+        }
+        for (int phrase = 0; phrase < size; phrase++) {
+            int parent = parents[phrase];
+            if (parent != NO_PARENT) {
+                children[parent][childCounts[parent]++] = phrase;
+            }
+        }
+    }
+
+    /**
+     * Visits the tree in pre-order and adds its phrases.
+     *
+     * @return the number of leaves of the tree
+     */
+    private static int collect(Tree tree, int firstWordPosition, int parent, MutableList<Tree> phraseTrees, MutableIntList phraseStarts,
+            MutableIntList phraseEnds, MutableIntList phraseParents, MutableIntList phraseSubtreeEnds) {
+        if (tree.isLeaf()) {
+            return 1;
+        }
+        int phrase = NO_PARENT;
+        if (tree.isPhrasal()) {
+            // reserve the row to keep pre-order; the end of the span is known after visiting the children
+            phrase = phraseTrees.size();
+            phraseTrees.add(tree);
+            phraseStarts.add(firstWordPosition);
+            phraseEnds.add(firstWordPosition);
+            phraseParents.add(parent);
+            phraseSubtreeEnds.add(phrase + 1);
+        }
+        int childParent = phrase == NO_PARENT ? parent : phrase;
+        int leaves = 0;
+        for (var child : tree.children()) {
+            leaves += collect(child, firstWordPosition + leaves, childParent, phraseTrees, phraseStarts, phraseEnds, phraseParents, phraseSubtreeEnds);
+        }
+        if (phrase != NO_PARENT) {
+            phraseEnds.set(phrase, firstWordPosition + leaves);
+            phraseSubtreeEnds.set(phrase, phraseTrees.size());
+        }
+        return leaves;
+    }
+
+    int size() {
+        return trees.length;
+    }
+
+    PhraseType getType(int phrase) {
+        return types[phrase];
+    }
+
+    String getText(int phrase) {
+        // racing threads compute equal strings; as strings are immutable, either of them can be published
+        var text = texts[phrase];
+        if (text == null) {
+            text = trees[phrase].spanString();
+            texts[phrase] = text;
+        }
+        return text;
+    }
+
+    /**
+     * @return the position of the first word of the phrase
+     */
+    int getStart(int phrase) {
+        return starts[phrase];
+    }
+
+    /**
+     * @return the position after the last word of the phrase
+     */
+    int getEnd(int phrase) {
+        return ends[phrase];
+    }
+
+    /**
+     * @return the index of the parent phrase or a negative value for the root
+     */
+    int getParent(int phrase) {
+        return parents[phrase];
+    }
+
+    /**
+     * @return the indices of the direct child phrases. Must not be modified.
+     */
+    int[] getChildren(int phrase) {
+        return children[phrase];
+    }
+
+    /**
+     * @return the index after the last (transitive) sub-phrase of the phrase
+     */
+    int getSubtreeEnd(int phrase) {
+        return subtreeEnds[phrase];
+    }
+
+    /**
+     * Checks whether the first phrase is a proper super-phrase of the second one.
+     */
+    boolean contains(int phrase, int otherPhrase) {
+        return phrase < otherPhrase && otherPhrase < subtreeEnds[phrase];
+    }
+}
@@ -1,34 +1,30 @@
 /* Licensed under MIT 2022. */
 package edu.kit.kastel.mcse.ardoco.core.text.providers.corenlp;
 
-import java.util.List;
 import java.util.Objects;
 
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.list.ImmutableList;
 import org.eclipse.collections.api.list.MutableList;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import edu.kit.kastel.mcse.ardoco.core.api.data.text.IPhrase;
 import edu.kit.kastel.mcse.ardoco.core.api.data.text.ISentence;
 import edu.kit.kastel.mcse.ardoco.core.api.data.text.IWord;
-import edu.stanford.nlp.ling.CoreLabel;
 import edu.stanford.nlp.pipeline.CoreSentence;
-import edu.stanford.nlp.trees.Tree;
 
 class Sentence implements ISentence {
-    private static final Logger logger = LoggerFactory.getLogger(Sentence.class);
-
-    private ImmutableList<IWord> words = Lists.immutable.empty();
-    private ImmutableList<IPhrase> phrases = Lists.immutable.empty();
+    private volatile ImmutableList<IWord> words = Lists.immutable.empty();
+    private volatile ImmutableList<IPhrase> phrases = null;
 
     private final CoreSentence coreSentence;
     private final int sentenceNumber;
+    private final Text text;
+    private volatile DependencyIndex dependencyIndex = null;
 
-    public Sentence(CoreSentence coreSentence, int sentenceNumber) {
+    public Sentence(CoreSentence coreSentence, int sentenceNumber, Text text) {
         this.coreSentence = coreSentence;
         this.sentenceNumber = sentenceNumber;
+        this.text = text;
     }
 
     @Override
@@ -38,22 +34,46 @@ class Sentence implements ISentence {
 
     @Override
     public ImmutableList<IWord> getWords() {
-        if (words.isEmpty()) {
-            final MutableList<IWord> wordsList = Lists.mutable.empty();
-            var coreDocument = coreSentence.document();
-            var wordIndex = 0;
-            for (var token : coreDocument.tokens()) {
-                var currSentenceNo = token.sentIndex();
-                if (currSentenceNo == sentenceNumber) {
-                    wordsList.add(new Word(token, wordIndex, coreDocument));
-                } else if (currSentenceNo > sentenceNumber) {
-                    break;
+        var currentWords = words;
+        if (currentWords.isEmpty()) {
+            // the words are the canonical words of the text, so concurrently created lists are equal
+            currentWords = text.getWordsOfSentence(sentenceNumber);
+            words = currentWords;
+        }
+        return currentWords;
+    }
+
+    Text getParentText() {
+        return text;
+    }
+
+    DependencyIndex getDependencyIndex() {
+        var currentIndex = dependencyIndex;
+        if (currentIndex == null) {
+            synchronized (this) {
+                if (dependencyIndex == null) {
+                    dependencyIndex = new DependencyIndex(coreSentence.dependencyParse(), coreSentence.tokens().size());
                 }
-                wordIndex++;
+                currentIndex = dependencyIndex;
             }
-            this.words = wordsList.toImmutable();
         }
-        return words;
+        return currentIndex;
+    }
+
+    /**
+     * Computes the words, the dependency index, and the phrases (including their words and texts) of this sentence.
+     * Phrases that would have to be parsed on demand are not computed; their computation is synchronized anyway.
+     */
+    void freeze() {
+        getWords();
+        getDependencyIndex();
+        if (coreSentence.constituencyParse() == null && text.getPhraseParser() != null) {
+            return;
+        }
+        for (var phrase : getPhrases()) {
+            phrase.getText();
+            phrase.getContainedWords();
+        }
     }
 
     @Override
@@ -63,45 +83,33 @@ class Sentence implements ISentence {
 
     @Override
     public ImmutableList<IPhrase> getPhrases() {
-        if (phrases.isEmpty()) {
-            MutableList<IPhrase> newPhrases = Lists.mutable.empty();
-            var constituencyParse = this.coreSentence.constituencyParse();
-            for (var phrase : constituencyParse) {
-                if (phrase.isPhrasal()) {
-                    var wordsForPhrase = getWordsForPhrase(phrase, this);
-                    Phrase currPhrase = new Phrase(phrase, wordsForPhrase);
-                    newPhrases.add(currPhrase);
+        var currentPhrases = phrases;
+        if (currentPhrases == null) {
+            synchronized (this) {
+                if (phrases == null) {
+                    phrases = createPhrases();
                 }
+                currentPhrases = phrases;
             }
-            phrases = newPhrases.toImmutable();
         }
-
-        return phrases;
+        return currentPhrases;
     }
 
-    protected static List<IWord> getWordsForPhrase(Tree phrase, Sentence sentence) {
-        List<IWord> phraseWords = Lists.mutable.empty();
-        var coreLabels = phrase.taggedLabeledYield();
-        var index = findIndexOfFirstWordInPhrase(coreLabels.get(0), sentence);
-        logger.debug("phrase starting position: {}", index);
-        for (var word : coreLabels) {
-            var phraseWord = new Word(word, index++, sentence.coreSentence.document());
-            phraseWords.add(phraseWord);
+    private ImmutableList<IPhrase> createPhrases() {
+        var constituencyParse = this.coreSentence.constituencyParse();
+        if (constituencyParse == null && text.getPhraseParser() != null) {
+            constituencyParse = text.getPhraseParser().parse(coreSentence.coreMap());
         }
-        return phraseWords;
-    }
-
-    private static int findIndexOfFirstWordInPhrase(CoreLabel firstWordLabel, Sentence sentence) {
-        for (var word : sentence.getWords()) {
-            if (word instanceof Word sentenceWord) {
-                var wordBegin = sentenceWord.getBeginCharPosition();
-                int firstWordLabelBegin = firstWordLabel.beginPosition();
-                if (wordBegin == firstWordLabelBegin) {
-                    return sentenceWord.getPosition();
-                }
-            }
+        if (constituencyParse == null) {
+            // the constituency parser did not run, as no phrases were requested
+            return Lists.immutable.empty();
+        }
+        var phraseTable = new PhraseTable(constituencyParse, text.getFirstWordPositionOfSentence(sentenceNumber));
+        MutableList<IPhrase> newPhrases = Lists.mutable.withInitialCapacity(phraseTable.size());
+        for (int phrase = 0; phrase < phraseTable.size(); phrase++) {
+            newPhrases.add(new Phrase(this, phraseTable, phrase));
         }
-        return -1;
+        return newPhrases.toImmutable();
     }
 
     @Override
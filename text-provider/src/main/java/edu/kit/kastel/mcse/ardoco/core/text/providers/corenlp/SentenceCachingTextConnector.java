@@ -0,0 +1,249 @@
+/* Licensed under MIT 2022. */
+package edu.kit.kastel.mcse.ardoco.core.text.providers.corenlp;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Properties;
+
+import org.eclipse.collections.api.set.ImmutableSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.AnnotationLayer;
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.IText;
+import edu.kit.kastel.mcse.ardoco.core.text.providers.ITextConnector;
+import edu.kit.kastel.mcse.ardoco.core.text.providers.binary.BinaryTextBuilder;
+import edu.kit.kastel.mcse.ardoco.core.text.providers.binary.BinaryTextConnector;
+import edu.stanford.nlp.ling.CoreAnnotations;
+import edu.stanford.nlp.pipeline.Annotation;
+import edu.stanford.nlp.pipeline.CoreDocument;
+import edu.stanford.nlp.pipeline.StanfordCoreNLP;
+import edu.stanford.nlp.util.CoreMap;
+
+/**
+ * Decorates the {@link CoreNLPProvider} with a cache of annotated sentences on disk, so that a new version of a
+ * document only needs to annotate its changed or new sentences. The document is tokenized and split into sentences
+ * first. Each sentence is looked up under the hash of its text, its tokens, the used annotation layers, and the
+ * annotator configuration; the position of the sentence in the document is not part of the key. The text is hashed as
+ * it is, as the annotated sentence and its phrases keep their original text, so a sentence that is wrapped or indented
+ * differently is annotated again. Only the sentences that are not in the cache are annotated by CoreNLP, in parallel batches if several threads
+ * are used, and stored in the {@link BinaryTextBuilder binary format}. Afterwards, all sentences are
+ * appended in document order, which rebases word positions and sentence numbers. As the sentence-level annotators only
+ * consider the sentence itself, the result is the same as annotating the whole document. The cache directory is bounded
+ * in size; if it grows beyond the bound, the least recently used sentences are evicted.
+ */
+public class SentenceCachingTextConnector implements ITextConnector {
+    private static final Logger logger = LoggerFactory.getLogger(SentenceCachingTextConnector.class);
+
+    /**
+     * The default maximal size of the cached sentences in bytes (1 GiB).
+     */
+    public static final long DEFAULT_MAX_CACHE_SIZE = 1L << 30;
+    private static final String CACHE_FILE_ENDING = ".sentence.bin";
+
+    private final InputStream text;
+    private final Path cacheDirectory;
+    private final long maxCacheSize;
+    private final int threads;
+    private final ImmutableSet<AnnotationLayer> annotationLayers;
+    private final ParserTier parserTier;
+    private IText annotatedText;
+
+    /**
+     * Creates a new caching connector with the {@link #DEFAULT_MAX_CACHE_SIZE default maximal cache size}.
+     *
+     * @param text           the input text
+     * @param cacheDirectory the directory of the cache
+     */
+    public SentenceCachingTextConnector(InputStream text, Path cacheDirectory) {
+        this(text, cacheDirectory, DEFAULT_MAX_CACHE_SIZE);
+    }
+
+    /**
+     * Creates a new caching connector.
+     *
+     * @param text           the input text
+     * @param cacheDirectory the directory of the cache
+     * @param maxCacheSize   the maximal size of the cached sentences in bytes
+     */
+    public SentenceCachingTextConnector(InputStream text, Path cacheDirectory, long maxCacheSize) {
+        this(text, cacheDirectory, maxCacheSize, ParserTier.DEFAULT);
+    }
+
+    /**
+     * Creates a new caching connector. Sentences that were annotated with another parser tier are not reused.
+     *
+     * @param text           the input text
+     * @param cacheDirectory the directory of the cache
+     * @param maxCacheSize   the maximal size of the cached sentences in bytes
+     * @param parserTier     the parsers that produce the phrases
+     */
+    public SentenceCachingTextConnector(InputStream text, Path cacheDirectory, long maxCacheSize, ParserTier parserTier) {
+        this(text, cacheDirectory, maxCacheSize, 1, CoreNLPProvider.ALL_ANNOTATION_LAYERS, parserTier);
+    }
+
+    /**
+     * Creates a new caching connector. Sentences that were annotated for other annotation layers or with another parser
+     * tier are not reused.
+     *
+     * @param text             the input text
+     * @param cacheDirectory   the directory of the cache
+     * @param maxCacheSize     the maximal size of the cached sentences in bytes
+     * @param threads          the maximum number of threads used for annotating the sentences that are not cached
+     * @param annotationLayers the annotation layers that are used; the annotators for other layers are not run
+     * @param parserTier       the parsers that produce the phrases
+     */
+    public SentenceCachingTextConnector(InputStream text, Path cacheDirectory, long maxCacheSize, int threads, ImmutableSet<AnnotationLayer> annotationLayers,
+            ParserTier parserTier) {
+        if (maxCacheSize <= 0) {
+            throw new IllegalArgumentException("Maximal cache size has to be positive");
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException("Number of threads must be positive");
+        }
+        this.text = text;
+        this.cacheDirectory = cacheDirectory;
+        this.maxCacheSize = maxCacheSize;
+        this.threads = threads;
+        this.annotationLayers = annotationLayers;
+        this.parserTier = parserTier;
+        annotatedText = null;
+    }
+
+    @Override
+    public IText getAnnotatedText(String textName) {
+        logger.warn("Returning annotated text ignoring the provided name");
+        return getAnnotatedText();
+    }
+
+    @Override
+    public synchronized IText getAnnotatedText() {
+        if (annotatedText == null) {
+            annotatedText = loadOrAnnotate();
+        }
+        return annotatedText;
+    }
+
+    private IText loadOrAnnotate() {
+        String inputText;
+        try (text) {
+            inputText = new String(text.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read input text", e);
+        }
+
+        var tokenizationProperties = CoreNLPProvider.getTokenizationProperties(new Properties());
+        var sentenceProperties = CoreNLPProvider.getSentenceProperties(new Properties(), annotationLayers, parserTier);
+        var configuration = getConfiguration(sentenceProperties);
+
+        var document = new Annotation(inputText);
+        annotateWith(tokenizationProperties, document);
+        var sentences = document.get(CoreAnnotations.SentencesAnnotation.class);
+
+        IText[] sentenceTexts = new IText[sentences.size()];
+        Path[] cacheFiles = new Path[sentences.size()];
+        List<CoreMap> missingSentences = new ArrayList<>();
+        for (int i = 0; i < sentences.size(); i++) {
+            cacheFiles[i] = cacheDirectory.resolve(calculateKey(sentences.get(i), configuration) + CACHE_FILE_ENDING);
+            sentenceTexts[i] = load(cacheFiles[i]);
+            if (sentenceTexts[i] == null) {
+                missingSentences.add(sentences.get(i));
+            }
+        }
+        logger.info("Found {} of {} sentences in the sentence cache", sentences.size() - missingSentences.size(), sentences.size());
+
+        if (!missingSentences.isEmpty()) {
+            new ParallelDocumentAnnotator(tokenizationProperties, sentenceProperties, threads).annotateSentences(inputText, missingSentences);
+            for (int i = 0; i < sentences.size(); i++) {
+                if (sentenceTexts[i] == null) {
+                    var sentenceBuilder = new BinaryTextBuilder().add(new Text(createSingleSentenceDocument(sentences.get(i))));
+                    store(cacheFiles[i], sentenceBuilder);
+                    sentenceTexts[i] = sentenceBuilder.build();
+                }
+            }
+            CacheEviction.evict(cacheDirectory, CACHE_FILE_ENDING, maxCacheSize);
+        }
+
+        var builder = new BinaryTextBuilder();
+        for (var sentenceText : sentenceTexts) {
+            builder.add(sentenceText);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns the configuration that is part of the key of each sentence: the used annotation layers in a fixed order
+     * and the configuration of the sentence-level annotators.
+     */
+    private String getConfiguration(Properties sentenceProperties) {
+        var layers = annotationLayers.toSortedList().collect(AnnotationLayer::name).makeString(",");
+        return layers + "|" + CoreNLPPipelinePool.createKey(sentenceProperties);
+    }
+
+    private static String calculateKey(CoreMap sentence, String configuration) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256");
+            digest.update(configuration.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(sentence.get(CoreAnnotations.TextAnnotation.class).getBytes(StandardCharsets.UTF_8));
+            for (var token : sentence.get(CoreAnnotations.TokensAnnotation.class)) {
+                digest.update((byte) 0);
+                digest.update(token.word().getBytes(StandardCharsets.UTF_8));
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static CoreDocument createSingleSentenceDocument(CoreMap sentence) {
+        var annotation = new Annotation(sentence.get(CoreAnnotations.TextAnnotation.class));
+        annotation.set(CoreAnnotations.SentencesAnnotation.class, List.of(sentence));
+        annotation.set(CoreAnnotations.TokensAnnotation.class, sentence.get(CoreAnnotations.TokensAnnotation.class));
+        return new CoreDocument(annotation);
+    }
+
+    private static void annotateWith(Properties properties, Annotation annotation) {
+        StanfordCoreNLP pipeline = CoreNLPPipelinePool.borrow(properties);
+        try {
+            pipeline.annotate(annotation);
+        } finally {
+            CoreNLPPipelinePool.release(properties, pipeline);
+        }
+    }
+
+    private static IText load(Path cacheFile) {
+        if (!Files.isRegularFile(cacheFile)) {
+            return null;
+        }
+        try {
+            var sentenceText = new BinaryTextConnector(cacheFile).getAnnotatedText();
+            Files.setLastModifiedTime(cacheFile, FileTime.fromMillis(System.currentTimeMillis()));
+            return sentenceText;
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Could not load cached sentence {}: {}", cacheFile, e.getMessage());
+            return null;
+        }
+    }
+
+    private void store(Path cacheFile, BinaryTextBuilder sentenceBuilder) {
+        try {
+            Files.createDirectories(cacheDirectory);
+            var temporaryFile = Files.createTempFile(cacheDirectory, "annotated-sentence", ".tmp");
+            sentenceBuilder.write(temporaryFile);
+            Files.move(temporaryFile, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            logger.warn("Could not store annotated sentence in cache {}: {}", cacheFile, e.getMessage());
+        }
+    }
+}
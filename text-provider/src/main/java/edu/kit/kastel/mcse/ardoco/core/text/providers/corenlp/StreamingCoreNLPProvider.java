@@ -0,0 +1,125 @@
+/* Licensed under MIT 2022. */
+package edu.kit.kastel.mcse.ardoco.core.text.providers.corenlp;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+
+import org.eclipse.collections.api.set.ImmutableSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.AnnotationLayer;
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.IText;
+import edu.kit.kastel.mcse.ardoco.core.text.providers.ITextConnector;
+import edu.kit.kastel.mcse.ardoco.core.text.providers.binary.BinaryTextBuilder;
+import edu.stanford.nlp.pipeline.CoreDocument;
+import edu.stanford.nlp.pipeline.StanfordCoreNLP;
+
+/**
+ * Annotates large texts with bounded memory. The input is read in chunks of paragraphs (separated by blank lines, which
+ * CoreNLP treats as sentence breaks anyway). Each chunk is annotated on its own and immediately converted to the
+ * compact {@link BinaryTextBuilder binary representation}, so only the CoreNLP objects of a single chunk are alive at a
+ * time. The resulting text holds per-token and per-phrase columns and deduplicated strings.
+ */
+public class StreamingCoreNLPProvider implements ITextConnector {
+    private static final Logger logger = LoggerFactory.getLogger(StreamingCoreNLPProvider.class);
+
+    /**
+     * Default minimal number of characters of a chunk.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 16;
+
+    private final InputStream text;
+    private final int chunkSize;
+    private final ImmutableSet<AnnotationLayer> annotationLayers;
+    private final ParserTier parserTier;
+    private IText annotatedText;
+
+    public StreamingCoreNLPProvider(InputStream text) {
+        this(text, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a new provider.
+     *
+     * @param text      the text
+     * @param chunkSize the number of characters after which a chunk is closed at the next paragraph break
+     */
+    public StreamingCoreNLPProvider(InputStream text, int chunkSize) {
+        this(text, chunkSize, CoreNLPProvider.ALL_ANNOTATION_LAYERS, ParserTier.DEFAULT);
+    }
+
+    /**
+     * Creates a new provider that only runs the annotators for the given annotation layers, as the
+     * {@link CoreNLPProvider} does.
+     *
+     * @param text             the text
+     * @param chunkSize        the number of characters after which a chunk is closed at the next paragraph break
+     * @param annotationLayers the annotation layers that are used; the annotators for other layers are not run
+     * @param parserTier       the parsers that produce the phrases
+     */
+    public StreamingCoreNLPProvider(InputStream text, int chunkSize, ImmutableSet<AnnotationLayer> annotationLayers, ParserTier parserTier) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        this.text = text;
+        this.chunkSize = chunkSize;
+        this.annotationLayers = annotationLayers;
+        this.parserTier = parserTier;
+        annotatedText = null;
+    }
+
+    @Override
+    public IText getAnnotatedText(String textName) {
+        logger.warn("Returning annotated text ignoring the provided name");
+        return getAnnotatedText();
+    }
+
+    @Override
+    public synchronized IText getAnnotatedText() {
+        if (annotatedText == null) {
+            try {
+                annotatedText = processText(text);
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not read the input text", e);
+            }
+        }
+        return annotatedText;
+    }
+
+    private IText processText(InputStream text) throws IOException {
+        var builder = new BinaryTextBuilder();
+        Properties props = CoreNLPProvider.getStanfordProperties(new Properties(), annotationLayers, parserTier);
+        StanfordCoreNLP pipeline = CoreNLPPipelinePool.borrow(props);
+        try (var reader = new BufferedReader(new InputStreamReader(text, StandardCharsets.UTF_8))) {
+            var chunk = new StringBuilder();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                chunk.append(line).append('\n');
+                if (line.isBlank() && chunk.length() >= chunkSize) {
+                    annotateChunk(chunk, pipeline, builder);
+                }
+            }
+            annotateChunk(chunk, pipeline, builder);
+        } finally {
+            CoreNLPPipelinePool.release(props, pipeline);
+        }
+        return builder.build();
+    }
+
+    private static void annotateChunk(StringBuilder chunk, StanfordCoreNLP pipeline, BinaryTextBuilder builder) {
+        if (chunk.toString().isBlank()) {
+            chunk.setLength(0);
+            return;
+        }
+        var document = new CoreDocument(chunk.toString());
+        chunk.setLength(0);
+        pipeline.annotate(document);
+        builder.add(new Text(document));
+        logger.debug("Annotated chunk, {} words so far", builder.getLength());
+    }
+}
@@ -2,22 +2,49 @@
 package edu.kit.kastel.mcse.ardoco.core.text.providers.corenlp;
 
 import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.list.ImmutableList;
 import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
 
 import edu.kit.kastel.mcse.ardoco.core.api.data.text.ISentence;
 import edu.kit.kastel.mcse.ardoco.core.api.data.text.IText;
 import edu.kit.kastel.mcse.ardoco.core.api.data.text.IWord;
 import edu.stanford.nlp.pipeline.CoreDocument;
 
+/**
+ * Text based on a {@link CoreDocument}. The text owns the canonical {@link Word} and {@link Sentence} instances; all
+ * navigation (neighbours, dependencies, sentences, phrases) returns these shared instances. Lazily computed state is
+ * published safely, so the text can be read concurrently; {@link #freeze()} computes all of it upfront. If the text has
+ * a {@link LazyPhraseParser}, the phrases of a sentence without constituency tree are parsed when they are first
+ * requested; {@link #freeze()} does not parse them.
+ */
 class Text implements IText {
 
     private final CoreDocument coreDocument;
-    private ImmutableList<ISentence> sentences = Lists.immutable.empty();
-    private ImmutableList<IWord> words = Lists.immutable.empty();
+    private final LazyPhraseParser phraseParser;
+    private volatile ImmutableList<ISentence> sentences = Lists.immutable.empty();
+    private volatile ImmutableList<IWord> words = Lists.immutable.empty();
+    private int[] sentenceStarts = new int[0];
 
     Text(CoreDocument coreDocument) {
+        this(coreDocument, null);
+    }
+
+    /**
+     * Creates a new text that parses the phrases of its sentences on demand.
+     *
+     * @param coreDocument the annotated document
+     * @param phraseParser the parser for sentences without constituency tree, or <code>null</code> if these sentences
+     *                     have no phrases
+     */
+    Text(CoreDocument coreDocument, LazyPhraseParser phraseParser) {
         this.coreDocument = coreDocument;
+        this.phraseParser = phraseParser;
+    }
+
+    LazyPhraseParser getPhraseParser() {
+        return phraseParser;
     }
 
     @Override
@@ -33,6 +60,39 @@ class Text implements IText {
         return words;
     }
 
+    Sentence getSentence(int sentenceNumber) {
+        return (Sentence) getSentences().get(sentenceNumber);
+    }
+
+    /**
+     * Returns the words of the given sentence. The words are looked up in the offset table of the sentences, so no
+     * tokens of other sentences are visited.
+     *
+     * @param sentenceNumber the number of the sentence
+     * @return the words of the sentence
+     */
+    ImmutableList<IWord> getWordsOfSentence(int sentenceNumber) {
+        var textWords = getWords();
+        int start = sentenceStarts[sentenceNumber];
+        int end = sentenceStarts[sentenceNumber + 1];
+        MutableList<IWord> sentenceWords = Lists.mutable.withInitialCapacity(end - start);
+        for (int position = start; position < end; position++) {
+            sentenceWords.add(textWords.get(position));
+        }
+        return sentenceWords.toImmutable();
+    }
+
+    /**
+     * Returns the position of the first word of the given sentence in the text.
+     *
+     * @param sentenceNumber the number of the sentence
+     * @return the position of the first word of the sentence
+     */
+    int getFirstWordPositionOfSentence(int sentenceNumber) {
+        getWords();
+        return sentenceStarts[sentenceNumber];
+    }
+
     @Override
     public ImmutableList<ISentence> getSentences() {
         if (sentences.isEmpty()) {
@@ -41,24 +101,42 @@ class Text implements IText {
         return sentences;
     }
 
-    private void iterateDocumentForWordsAndSentences() {
+    @Override
+    public IText freeze() {
+        for (var sentence : getSentences()) {
+            ((Sentence) sentence).freeze();
+        }
+        return this;
+    }
+
+    private synchronized void iterateDocumentForWordsAndSentences() {
+        if (!words.isEmpty()) {
+            return;
+        }
         MutableList<ISentence> sentenceList = Lists.mutable.empty();
         MutableList<IWord> wordList = Lists.mutable.empty();
+        // dictionary of the word texts and lemmas, so equal strings are shared by all words
+        MutableMap<String, String> strings = Maps.mutable.empty();
 
         var coreSentences = coreDocument.sentences();
+        int[] starts = new int[coreSentences.size() + 1];
         int wordIndex = 0;
         for (int i = 0; i < coreSentences.size(); i++) {
             var coreSentence = coreSentences.get(i);
-            var sentence = new Sentence(coreSentence, i);
+            var sentence = new Sentence(coreSentence, i, this);
             sentenceList.add(sentence);
+            starts[i] = wordIndex;
 
             for (var token : coreSentence.tokens()) {
-                var word = new Word(token, wordIndex, coreDocument);
+                var word = new Word(token, wordIndex, i, this, strings);
                 wordList.add(word);
                 wordIndex++;
             }
         }
+        starts[coreSentences.size()] = wordIndex;
 
+        // words are assigned last, as their non-emptiness marks the completed iteration and publishes the other fields
+        sentenceStarts = starts;
         sentences = sentenceList.toImmutable();
         words = wordList.toImmutable();
     }
@@ -1,84 +1,96 @@
 /* Licensed under MIT 2022. */
 package edu.kit.kastel.mcse.ardoco.core.text.providers.corenlp;
 
-import java.util.List;
-import java.util.Objects;
-
 import org.eclipse.collections.api.list.ImmutableList;
 import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.impl.factory.Lists;
 
 import edu.kit.kastel.mcse.ardoco.core.api.data.text.DependencyTag;
 import edu.kit.kastel.mcse.ardoco.core.api.data.text.ISentence;
 import edu.kit.kastel.mcse.ardoco.core.api.data.text.IWord;
 import edu.kit.kastel.mcse.ardoco.core.api.data.text.POSTag;
+import edu.kit.kastel.mcse.ardoco.core.common.util.NormalizedTerm;
 import edu.stanford.nlp.ling.CoreAnnotations;
 import edu.stanford.nlp.ling.CoreLabel;
-import edu.stanford.nlp.pipeline.CoreDocument;
-import edu.stanford.nlp.semgraph.SemanticGraph;
-import edu.stanford.nlp.trees.GrammaticalRelation;
-import edu.stanford.nlp.trees.TypedDependency;
 
+/**
+ * Word of a {@link Text}. The text, lemma, and POS tag are decoded from the token once when the word is created; the
+ * strings are interned in the dictionary of the text.
+ */
 class Word implements IWord {
 
     private final CoreLabel token;
-    private final CoreDocument coreDocument;
+    private final Text text;
     private final int index;
-    private ISentence sentence = null;
-    private IWord preWord = null;
-    private IWord nextWord = null;
+    private final int sentenceNo;
+    private final String wordText;
+    private final String lemma;
+    private final POSTag posTag;
+    private volatile NormalizedTerm normalizedText;
 
-    Word(CoreLabel token, int index, CoreDocument coreDocument) {
+    Word(CoreLabel token, int index, int sentenceNo, Text text, MutableMap<String, String> strings) {
         this.token = token;
         this.index = index;
-        this.coreDocument = coreDocument;
+        this.sentenceNo = sentenceNo;
+        this.text = text;
+        this.wordText = intern(token.get(CoreAnnotations.TextAnnotation.class), strings);
+        this.lemma = intern(token.get(CoreAnnotations.LemmaAnnotation.class), strings);
+        this.posTag = POSTag.get(token.get(CoreAnnotations.PartOfSpeechAnnotation.class));
+    }
+
+    private static String intern(String string, MutableMap<String, String> strings) {
+        return string == null ? null : strings.getIfAbsentPut(string, string);
     }
 
     @Override
     public int getSentenceNo() {
-        return token.sentIndex();
+        return sentenceNo;
     }
 
     @Override
     public ISentence getSentence() {
-        if (this.sentence == null) {
-            int sentenceNo = getSentenceNo();
-            var coreSentence = coreDocument.sentences().get(sentenceNo);
-            sentence = new Sentence(coreSentence, sentenceNo);
-        }
-        return sentence;
+        return text.getSentences().get(getSentenceNo());
     }
 
     @Override
     public String getText() {
-        return token.get(CoreAnnotations.TextAnnotation.class);
+        return wordText;
+    }
+
+    @Override
+    public NormalizedTerm getNormalizedText() {
+        var currentText = normalizedText;
+        if (currentText == null) {
+            // the normalized forms only depend on the immutable text, so racing threads create equal terms
+            currentText = NormalizedTerm.of(getText());
+            normalizedText = currentText;
+        }
+        return currentText;
     }
 
     @Override
     public POSTag getPosTag() {
-        String posString = token.get(CoreAnnotations.PartOfSpeechAnnotation.class);
-        return POSTag.get(posString);
+        return posTag;
     }
 
     @Override
     public IWord getPreWord() {
         int preWordIndex = index - 1;
-        if (preWord == null && preWordIndex > 0) {
-            var coreDocumentToken = coreDocument.tokens().get(preWordIndex);
-            preWord = new Word(coreDocumentToken, preWordIndex, coreDocument);
+        if (preWordIndex >= 0) {
+            return text.getWords().get(preWordIndex);
         }
-        return preWord;
+        return null;
     }
 
     @Override
     public IWord getNextWord() {
         int nextWordIndex = index + 1;
-        var tokens = coreDocument.tokens();
-        if (nextWord == null && nextWordIndex < tokens.size()) {
-            var coreDocumentToken = tokens.get(nextWordIndex);
-            nextWord = new Word(coreDocumentToken, nextWordIndex, coreDocument);
+        var words = text.getWords();
+        if (nextWordIndex < words.size()) {
+            return words.get(nextWordIndex);
         }
-        return nextWord;
+        return null;
     }
 
     @Override
@@ -96,71 +108,66 @@ class Word implements IWord {
 
     @Override
     public String getLemma() {
-        return token.get(CoreAnnotations.LemmaAnnotation.class);
+        return lemma;
     }
 
     @Override
     public ImmutableList<IWord> getOutgoingDependencyWordsWithType(DependencyTag dependencyTag) {
-        MutableList<IWord> dependencyWords = Lists.mutable.empty();
-        List<TypedDependency> dependencies = getDependenciesOfType(dependencyTag);
-        for (var typedDependency : dependencies) {
-            var target = typedDependency.dep().backingLabel();
-            var source = typedDependency.gov().backingLabel();
-            if (source.beginPosition() == token.beginPosition()) {
-                var targetWord = getCorrespondingWordForFirstTokenBasedOnSecondToken(target, source);
-                dependencyWords.add(targetWord);
-            }
-        }
-        return dependencyWords.toImmutable();
+        return getWordsInSentence(getDependencyIndex().getOutgoing(getTokenIndexInSentence(), dependencyTag));
     }
 
     @Override
     public ImmutableList<IWord> getIncomingDependencyWordsWithType(DependencyTag dependencyTag) {
-        MutableList<IWord> dependencyWords = Lists.mutable.empty();
-        List<TypedDependency> dependencies = getDependenciesOfType(dependencyTag);
-        for (var typedDependency : dependencies) {
-            var target = typedDependency.dep().backingLabel();
-            var source = typedDependency.gov().backingLabel();
-            if (target.beginPosition() == token.beginPosition()) {
-                var word = getCorrespondingWordForFirstTokenBasedOnSecondToken(source, target);
-                dependencyWords.add(word);
-            }
-        }
-        return dependencyWords.toImmutable();
+        return getWordsInSentence(getDependencyIndex().getIncoming(getTokenIndexInSentence(), dependencyTag));
     }
 
-    private IWord getCorrespondingWordForFirstTokenBasedOnSecondToken(CoreLabel firstToken, CoreLabel secondToken) {
-        var firstTokenIndex = (firstToken.index() - secondToken.index()) + index;
-        return new Word(firstToken, firstTokenIndex, coreDocument);
+    @Override
+    public boolean hasOutgoingDependencyWithType(DependencyTag dependencyTag) {
+        return getDependencyIndex().hasOutgoing(getTokenIndexInSentence(), dependencyTag);
     }
 
-    private List<TypedDependency> getDependenciesOfType(DependencyTag dependencyTag) {
-        List<TypedDependency> typedDependencies = Lists.mutable.empty();
-        var coreSentence = coreDocument.sentences().get(getSentenceNo());
-        SemanticGraph dependencies = coreSentence.dependencyParse();
-        for (var typedDependency : dependencies.typedDependencies()) {
-            GrammaticalRelation rel = typedDependency.reln();
-            if (dependencyTag.name().equalsIgnoreCase(rel.getShortName())) {
-                typedDependencies.add(typedDependency);
-            }
+    @Override
+    public boolean hasIncomingDependencyWithType(DependencyTag dependencyTag) {
+        return getDependencyIndex().hasIncoming(getTokenIndexInSentence(), dependencyTag);
+    }
+
+    private int getTokenIndexInSentence() {
+        return getPositionInSentence() - 1;
+    }
+
+    private DependencyIndex getDependencyIndex() {
+        return text.getSentence(getSentenceNo()).getDependencyIndex();
+    }
+
+    private ImmutableList<IWord> getWordsInSentence(int[] tokenIndicesInSentence) {
+        if (tokenIndicesInSentence.length == 0) {
+            return Lists.immutable.empty();
         }
-        return typedDependencies;
+        var words = text.getWords();
+        int sentenceStart = index - getTokenIndexInSentence();
+        MutableList<IWord> dependencyWords = Lists.mutable.withInitialCapacity(tokenIndicesInSentence.length);
+        for (var tokenIndex : tokenIndicesInSentence) {
+            dependencyWords.add(words.get(sentenceStart + tokenIndex));
+        }
+        return dependencyWords.toImmutable();
     }
 
     @Override
     public boolean equals(Object o) {
         if (this == o)
             return true;
-        if (o == null || !(o instanceof Word))
-            return false;
         if (o instanceof Word word) {
-            return word.getText().equals(this.getText()) && getPosition() == word.getPosition() && getPosTag() == word.getPosTag();
+            if (text == word.text) {
+                // words are canonical per text
+                return false;
+            }
+            return getPosition() == word.getPosition() && getPosTag() == word.getPosTag() && word.getText().equals(this.getText());
         }
         return false;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(getPosition(), getPosTag(), getText());
+        return Integer.hashCode(index);
     }
 }
@@ -0,0 +1,62 @@
+/* Licensed under MIT 2022. */
+package edu.kit.kastel.mcse.ardoco.core.text.providers.json;
+
+import java.util.Objects;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
+
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.IPhrase;
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.ISentence;
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.IWord;
+
+/**
+ * Sentence of the preprocessed text format. The format does not contain constituency information, so a sentence has no
+ * phrases.
+ */
+class JsonSentence implements ISentence {
+    private final int sentenceNumber;
+    private final String text;
+    private final ImmutableList<IWord> words;
+
+    JsonSentence(int sentenceNumber, String text, ImmutableList<IWord> words) {
+        this.sentenceNumber = sentenceNumber;
+        this.text = text;
+        this.words = words;
+    }
+
+    @Override
+    public int getSentenceNumber() {
+        return sentenceNumber;
+    }
+
+    @Override
+    public ImmutableList<IWord> getWords() {
+        return words;
+    }
+
+    @Override
+    public String getText() {
+        return text;
+    }
+
+    @Override
+    public ImmutableList<IPhrase> getPhrases() {
+        return Lists.immutable.empty();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o instanceof ISentence sentence) {
+            return isEqualTo(sentence);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sentenceNumber, text);
+    }
+}
@@ -0,0 +1,38 @@
+/* Licensed under MIT 2022. */
+package edu.kit.kastel.mcse.ardoco.core.text.providers.json;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
+
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.ISentence;
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.IText;
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.IWord;
+
+class JsonText implements IText {
+    private ImmutableList<IWord> words = Lists.immutable.empty();
+    private ImmutableList<ISentence> sentences = Lists.immutable.empty();
+
+    void setContent(ImmutableList<IWord> words, ImmutableList<ISentence> sentences) {
+        this.words = words;
+        this.sentences = sentences;
+    }
+
+    ISentence getSentence(int sentenceNumber) {
+        return sentences.get(sentenceNumber);
+    }
+
+    @Override
+    public IWord getFirstWord() {
+        return words.get(0);
+    }
+
+    @Override
+    public ImmutableList<IWord> getWords() {
+        return words;
+    }
+
+    @Override
+    public ImmutableList<ISentence> getSentences() {
+        return sentences;
+    }
+}
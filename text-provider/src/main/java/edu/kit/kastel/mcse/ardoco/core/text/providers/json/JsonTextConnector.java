@@ -0,0 +1,364 @@
+/* Licensed under MIT 2022. */
+package edu.kit.kastel.mcse.ardoco.core.text.providers.json;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.list.primitive.MutableIntList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.impl.factory.primitive.IntLists;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.DependencyTag;
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.ISentence;
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.IText;
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.IWord;
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.POSTag;
+import edu.kit.kastel.mcse.ardoco.core.text.providers.ITextConnector;
+
+/**
+ * Provides annotated texts from the preprocessed text format (<code>*.txt.json</code>), e.g., as contained in the
+ * benchmark. The format contains the words with their POS tags, lemmas, sentence numbers and dependencies, but no
+ * constituency information. A file can contain multiple texts that are identified by their name. The input is read with
+ * a streaming parser.
+ */
+public class JsonTextConnector implements ITextConnector {
+    private static final Logger logger = LoggerFactory.getLogger(JsonTextConnector.class);
+
+    private static final JsonFactory jsonFactory = new JsonFactory();
+
+    private static final String TEXTS = "texts";
+    private static final String WORDS = "words";
+    private static final String SENTENCES = "sentences";
+    private static final String COREF_CLUSTERS = "corefClusters";
+    private static final String SENTENCE_NO = "sentenceNo";
+    private static final String TEXT = "text";
+    private static final String POS_TAG = "posTag";
+    private static final String POSITION = "position";
+    private static final String LEMMA = "lemma";
+    private static final String OUTGOING_DEPENDENCY_WORDS = "outgoingDependencyWords";
+    private static final String INCOMING_DEPENDENCY_WORDS = "incomingDependencyWords";
+    private static final String SENTENCE_NUMBER = "sentenceNumber";
+    private static final String START_INDEX_INCLUDE = "startIndexInclude";
+    private static final String END_INDEX_INCLUDE = "endIndexInclude";
+
+    private final InputStream input;
+    private Map<String, IText> texts;
+
+    public JsonTextConnector(File file) throws IOException {
+        this(new FileInputStream(file));
+    }
+
+    public JsonTextConnector(InputStream input) {
+        this.input = input;
+        texts = null;
+    }
+
+    @Override
+    public IText getAnnotatedText() {
+        var allTexts = getTexts();
+        if (allTexts.isEmpty()) {
+            return null;
+        }
+        return allTexts.values().iterator().next();
+    }
+
+    @Override
+    public IText getAnnotatedText(String textName) {
+        var allTexts = getTexts();
+        var text = allTexts.get(textName);
+        if (text == null) {
+            text = allTexts.entrySet().stream().filter(e -> e.getKey().equalsIgnoreCase(textName)).map(Map.Entry::getValue).findFirst().orElse(null);
+        }
+        return text;
+    }
+
+    private synchronized Map<String, IText> getTexts() {
+        if (texts == null) {
+            try (var inputStream = input) {
+                texts = read(inputStream);
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not read preprocessed text", e);
+            }
+        }
+        return texts;
+    }
+
+    /**
+     * Writes the given text in the preprocessed text format.
+     *
+     * @param textName     the name of the text
+     * @param text         the text to write
+     * @param outputStream the stream to write to
+     * @throws IOException if the text could not be written
+     */
+    public static void write(String textName, IText text, OutputStream outputStream) throws IOException {
+        Map<String, IText> singleText = new LinkedHashMap<>();
+        singleText.put(textName, text);
+        write(singleText, outputStream);
+    }
+
+    /**
+     * Writes the given texts in the preprocessed text format.
+     *
+     * @param textsToWrite the texts to write identified by their names
+     * @param outputStream the stream to write to
+     * @throws IOException if the texts could not be written
+     */
+    public static void write(Map<String, IText> textsToWrite, OutputStream outputStream) throws IOException {
+        try (var generator = jsonFactory.createGenerator(outputStream, JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            generator.writeObjectFieldStart(TEXTS);
+            for (var entry : textsToWrite.entrySet()) {
+                generator.writeObjectFieldStart(entry.getKey());
+                writeText(generator, entry.getValue());
+                generator.writeEndObject();
+            }
+            generator.writeEndObject();
+            generator.writeEndObject();
+        }
+    }
+
+    private static void writeText(JsonGenerator generator, IText text) throws IOException {
+        generator.writeArrayFieldStart(WORDS);
+        for (var word : text.getWords()) {
+            generator.writeStartObject();
+            generator.writeNumberField(SENTENCE_NO, word.getSentenceNo());
+            generator.writeStringField(TEXT, word.getText());
+            generator.writeStringField(POS_TAG, word.getPosTag().name());
+            generator.writeNumberField(POSITION, word.getPosition());
+            generator.writeStringField(LEMMA, word.getLemma());
+            generator.writeObjectFieldStart(OUTGOING_DEPENDENCY_WORDS);
+            for (var dependencyTag : DependencyTag.values()) {
+                writeDependencies(generator, dependencyTag, word.getOutgoingDependencyWordsWithType(dependencyTag));
+            }
+            generator.writeEndObject();
+            generator.writeObjectFieldStart(INCOMING_DEPENDENCY_WORDS);
+            for (var dependencyTag : DependencyTag.values()) {
+                writeDependencies(generator, dependencyTag, word.getIncomingDependencyWordsWithType(dependencyTag));
+            }
+            generator.writeEndObject();
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+
+        generator.writeArrayFieldStart(SENTENCES);
+        for (var sentence : text.getSentences()) {
+            var sentenceWords = sentence.getWords();
+            generator.writeStartObject();
+            generator.writeNumberField(SENTENCE_NUMBER, sentence.getSentenceNumber());
+            generator.writeStringField(TEXT, sentence.getText());
+            generator.writeNumberField(START_INDEX_INCLUDE, sentenceWords.isEmpty() ? -1 : sentenceWords.getFirst().getPosition());
+            generator.writeNumberField(END_INDEX_INCLUDE, sentenceWords.isEmpty() ? -1 : sentenceWords.getLast().getPosition());
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+
+        generator.writeArrayFieldStart(COREF_CLUSTERS);
+        generator.writeEndArray();
+    }
+
+    private static void writeDependencies(JsonGenerator generator, DependencyTag dependencyTag, ImmutableList<IWord> dependencyWords) throws IOException {
+        if (dependencyWords.isEmpty()) {
+            return;
+        }
+        generator.writeArrayFieldStart(dependencyTag.name());
+        for (var dependencyWord : dependencyWords) {
+            generator.writeNumber(dependencyWord.getPosition());
+        }
+        generator.writeEndArray();
+    }
+
+    private static Map<String, IText> read(InputStream inputStream) throws IOException {
+        Map<String, IText> readTexts = new LinkedHashMap<>();
+        try (var parser = jsonFactory.createParser(inputStream)) {
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                var fieldName = parser.getCurrentName();
+                var valueToken = parser.nextToken();
+                if (TEXTS.equals(fieldName)) {
+                    expect(parser, valueToken, JsonToken.START_OBJECT);
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        var textName = parser.getCurrentName();
+                        expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+                        readTexts.put(textName, readText(parser));
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return readTexts;
+    }
+
+    private static IText readText(JsonParser parser) throws IOException {
+        var text = new JsonText();
+        MutableList<IWord> words = Lists.mutable.empty();
+        MutableList<SentenceEntry> sentenceEntries = Lists.mutable.empty();
+        // dictionary of the word texts and lemmas, so equal strings are shared by all words
+        MutableMap<String, String> strings = Maps.mutable.empty();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            var fieldName = parser.getCurrentName();
+            var valueToken = parser.nextToken();
+            if (WORDS.equals(fieldName)) {
+                expect(parser, valueToken, JsonToken.START_ARRAY);
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    words.add(readWord(parser, text, strings));
+                }
+            } else if (SENTENCES.equals(fieldName)) {
+                expect(parser, valueToken, JsonToken.START_ARRAY);
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    sentenceEntries.add(readSentence(parser));
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        words.sortThisByInt(IWord::getPosition);
+        checkPositions(parser, words);
+        var immutableWords = words.toImmutable();
+        text.setContent(immutableWords, createSentences(immutableWords, sentenceEntries));
+        return text;
+    }
+
+    /**
+     * Checks that the positions of the sorted words are contiguous from 0 and that the dependencies refer to words of
+     * the text, as words and their dependencies are looked up by their position.
+     */
+    private static void checkPositions(JsonParser parser, MutableList<IWord> words) throws IOException {
+        for (int i = 0; i < words.size(); i++) {
+            var word = (JsonWord) words.get(i);
+            if (word.getPosition() != i) {
+                throw new IOException("Expected a word at position " + i + " but found position " + word.getPosition() + " in the text ending at "
+                        + parser.getCurrentLocation());
+            }
+            if (!word.hasDependenciesWithin(words.size())) {
+                throw new IOException("The dependencies of the word at position " + i + " refer to words outside of the text ending at "
+                        + parser.getCurrentLocation());
+            }
+        }
+    }
+
+    private static ImmutableList<ISentence> createSentences(ImmutableList<IWord> words, MutableList<SentenceEntry> sentenceEntries) {
+        MutableList<MutableList<IWord>> wordsPerSentence = Lists.mutable.empty();
+        for (var word : words) {
+            while (wordsPerSentence.size() <= word.getSentenceNo()) {
+                wordsPerSentence.add(Lists.mutable.empty());
+            }
+            wordsPerSentence.get(word.getSentenceNo()).add(word);
+        }
+
+        Map<Integer, String> sentenceTexts = new LinkedHashMap<>();
+        for (var sentenceEntry : sentenceEntries) {
+            sentenceTexts.put(sentenceEntry.sentenceNumber(), sentenceEntry.text());
+        }
+
+        MutableList<ISentence> sentences = Lists.mutable.withInitialCapacity(wordsPerSentence.size());
+        for (int sentenceNumber = 0; sentenceNumber < wordsPerSentence.size(); sentenceNumber++) {
+            var sentenceWords = wordsPerSentence.get(sentenceNumber);
+            var sentenceText = sentenceTexts.get(sentenceNumber);
+            if (sentenceText == null) {
+                var joiner = new StringJoiner(" ");
+                sentenceWords.forEach(w -> joiner.add(w.getText()));
+                sentenceText = joiner.toString();
+            }
+            sentences.add(new JsonSentence(sentenceNumber, sentenceText, sentenceWords.toImmutable()));
+        }
+        return sentences.toImmutable();
+    }
+
+    private static IWord readWord(JsonParser parser, JsonText text, MutableMap<String, String> strings) throws IOException {
+        int sentenceNo = -1;
+        String wordText = null;
+        POSTag posTag = null;
+        int position = -1;
+        String lemma = null;
+        Map<DependencyTag, int[]> outgoingDependencies = new EnumMap<>(DependencyTag.class);
+        Map<DependencyTag, int[]> incomingDependencies = new EnumMap<>(DependencyTag.class);
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            var fieldName = parser.getCurrentName();
+            parser.nextToken();
+            switch (fieldName) {
+            case SENTENCE_NO -> sentenceNo = parser.getIntValue();
+            case TEXT -> wordText = intern(parser.getText(), strings);
+            case POS_TAG -> posTag = POSTag.valueOf(parser.getText());
+            case POSITION -> position = parser.getIntValue();
+            case LEMMA -> lemma = intern(parser.getText(), strings);
+            case OUTGOING_DEPENDENCY_WORDS -> readDependencies(parser, outgoingDependencies);
+            case INCOMING_DEPENDENCY_WORDS -> readDependencies(parser, incomingDependencies);
+            default -> parser.skipChildren();
+            }
+        }
+        if (sentenceNo < 0 || position < 0) {
+            throw new IOException("Word without valid " + SENTENCE_NO + " and " + POSITION + " at " + parser.getCurrentLocation());
+        }
+        return new JsonWord(text, sentenceNo, wordText, posTag, position, lemma, outgoingDependencies, incomingDependencies);
+    }
+
+    private static String intern(String string, MutableMap<String, String> strings) {
+        return string == null ? null : strings.getIfAbsentPut(string, string);
+    }
+
+    private static void readDependencies(JsonParser parser, Map<DependencyTag, int[]> dependencies) throws IOException {
+        expect(parser, parser.currentToken(), JsonToken.START_OBJECT);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            var tagName = parser.getCurrentName();
+            expect(parser, parser.nextToken(), JsonToken.START_ARRAY);
+            MutableIntList positions = IntLists.mutable.empty();
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                positions.add(parser.getIntValue());
+            }
+            try {
+                dependencies.put(DependencyTag.valueOf(tagName), positions.toArray());
+            } catch (IllegalArgumentException e) {
+                logger.warn("Unknown dependency tag: {}", tagName);
+            }
+        }
+    }
+
+    private static SentenceEntry readSentence(JsonParser parser) throws IOException {
+        int sentenceNumber = -1;
+        String text = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            var fieldName = parser.getCurrentName();
+            parser.nextToken();
+            if (SENTENCE_NUMBER.equals(fieldName)) {
+                sentenceNumber = parser.getIntValue();
+            } else if (TEXT.equals(fieldName)) {
+                text = parser.getText();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new SentenceEntry(sentenceNumber, text);
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws IOException {
+        if (actual != expected) {
+            throw new IOException("Expected " + expected + " but found " + actual + " at " + parser.getCurrentLocation());
+        }
+    }
+
+    private record SentenceEntry(int sentenceNumber, String text) {
+    }
+}
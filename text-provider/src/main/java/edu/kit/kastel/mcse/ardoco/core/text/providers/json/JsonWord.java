@@ -0,0 +1,167 @@
+/* Licensed under MIT 2022. */
+package edu.kit.kastel.mcse.ardoco.core.text.providers.json;
+
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.DependencyTag;
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.ISentence;
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.IWord;
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.POSTag;
+import edu.kit.kastel.mcse.ardoco.core.common.util.NormalizedTerm;
+
+class JsonWord implements IWord {
+    private final JsonText text;
+    private final int sentenceNo;
+    private final String wordText;
+    private final POSTag posTag;
+    private final int position;
+    private final String lemma;
+    private final Map<DependencyTag, int[]> outgoingDependencies;
+    private final Map<DependencyTag, int[]> incomingDependencies;
+    private volatile NormalizedTerm normalizedText;
+
+    JsonWord(JsonText text, int sentenceNo, String wordText, POSTag posTag, int position, String lemma, Map<DependencyTag, int[]> outgoingDependencies,
+            Map<DependencyTag, int[]> incomingDependencies) {
+        this.text = text;
+        this.sentenceNo = sentenceNo;
+        this.wordText = wordText;
+        this.posTag = posTag;
+        this.position = position;
+        this.lemma = lemma;
+        this.outgoingDependencies = outgoingDependencies;
+        this.incomingDependencies = incomingDependencies;
+    }
+
+    @Override
+    public int getSentenceNo() {
+        return sentenceNo;
+    }
+
+    @Override
+    public ISentence getSentence() {
+        return text.getSentence(sentenceNo);
+    }
+
+    @Override
+    public String getText() {
+        return wordText;
+    }
+
+    @Override
+    public NormalizedTerm getNormalizedText() {
+        var currentText = normalizedText;
+        if (currentText == null) {
+            // the normalized forms only depend on the immutable text, so racing threads create equal terms
+            currentText = NormalizedTerm.of(getText());
+            normalizedText = currentText;
+        }
+        return currentText;
+    }
+
+    @Override
+    public POSTag getPosTag() {
+        return posTag;
+    }
+
+    @Override
+    public IWord getPreWord() {
+        if (position <= 0) {
+            return null;
+        }
+        return text.getWords().get(position - 1);
+    }
+
+    @Override
+    public IWord getNextWord() {
+        var words = text.getWords();
+        if (position + 1 >= words.size()) {
+            return null;
+        }
+        return words.get(position + 1);
+    }
+
+    @Override
+    public int getPosition() {
+        return position;
+    }
+
+    @Override
+    public String getLemma() {
+        return lemma;
+    }
+
+    @Override
+    public ImmutableList<IWord> getOutgoingDependencyWordsWithType(DependencyTag dependencyTag) {
+        return getWordsAt(outgoingDependencies.get(dependencyTag));
+    }
+
+    @Override
+    public ImmutableList<IWord> getIncomingDependencyWordsWithType(DependencyTag dependencyTag) {
+        return getWordsAt(incomingDependencies.get(dependencyTag));
+    }
+
+    @Override
+    public boolean hasOutgoingDependencyWithType(DependencyTag dependencyTag) {
+        var positions = outgoingDependencies.get(dependencyTag);
+        return positions != null && positions.length > 0;
+    }
+
+    @Override
+    public boolean hasIncomingDependencyWithType(DependencyTag dependencyTag) {
+        var positions = incomingDependencies.get(dependencyTag);
+        return positions != null && positions.length > 0;
+    }
+
+    /**
+     * Checks whether all dependencies of this word refer to positions of a text with the given number of words.
+     *
+     * @param wordCount the number of words of the text
+     * @return whether all dependency positions are within the text
+     */
+    boolean hasDependenciesWithin(int wordCount) {
+        return hasPositionsWithin(outgoingDependencies, wordCount) && hasPositionsWithin(incomingDependencies, wordCount);
+    }
+
+    private static boolean hasPositionsWithin(Map<DependencyTag, int[]> dependencies, int wordCount) {
+        for (var positions : dependencies.values()) {
+            for (var dependencyPosition : positions) {
+                if (dependencyPosition < 0 || dependencyPosition >= wordCount) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private ImmutableList<IWord> getWordsAt(int[] positions) {
+        if (positions == null) {
+            return Lists.immutable.empty();
+        }
+        var words = text.getWords();
+        MutableList<IWord> dependencyWords = Lists.mutable.withInitialCapacity(positions.length);
+        for (var dependencyPosition : positions) {
+            dependencyWords.add(words.get(dependencyPosition));
+        }
+        return dependencyWords.toImmutable();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o instanceof JsonWord word) {
+            return position == word.position && posTag == word.posTag && wordText.equals(word.wordText);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(position, posTag, wordText);
+    }
+}
@@ -0,0 +1,41 @@
+/* Licensed under MIT 2022. */
+package edu.kit.kastel.mcse.ardoco.core.text.providers;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import edu.kit.kastel.mcse.ardoco.core.text.providers.corenlp.CoreNLPProvider;
+
+class MultiDocumentTextConnectorTest {
+
+    private static CoreNLPProvider createProvider(String text) {
+        return new CoreNLPProvider(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void mergeDocumentsTest() {
+        Map<String, ITextConnector> documents = new LinkedHashMap<>();
+        documents.put("overview.txt", createProvider("The TeaStore is a test application."));
+        documents.put("services.txt", createProvider("It consists of five services. The services communicate via REST."));
+        var text = new MultiDocumentTextConnector(documents, 2).getAnnotatedText();
+
+        var sentences = text.getSentences();
+        Assertions.assertEquals(3, sentences.size());
+        for (int position = 0; position < text.getLength(); position++) {
+            Assertions.assertEquals(position, text.getWords().get(position).getPosition());
+        }
+        Assertions.assertAll(//
+                () -> Assertions.assertEquals("overview.txt", sentences.get(0).getDocumentName()), //
+                () -> Assertions.assertEquals("services.txt", sentences.get(1).getDocumentName()), //
+                () -> Assertions.assertEquals("services.txt", sentences.get(2).getDocumentName()), //
+                () -> Assertions.assertEquals(2, sentences.get(2).getSentenceNumber()), //
+                () -> Assertions.assertEquals(2, sentences.get(2).getWords().get(0).getSentenceNo()), //
+                () -> Assertions.assertEquals("It", sentences.get(1).getWords().get(0).getText()), //
+                () -> Assertions.assertEquals(7, sentences.get(1).getWords().get(0).getPosition()));
+    }
+}
@@ -1,6 +1,10 @@
 /* Licensed under MIT 2022. */
 package edu.kit.kastel.mcse.ardoco.core.text.providers.base;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -47,4 +51,31 @@ public abstract class TextTest {
                 () -> Assertions.assertEquals(7, words.size()), //
                 () -> Assertions.assertEquals(text.getWords().get(739), words.get(4)));
     }
+
+    @Test
+    void concurrentReadersTest() {
+        var frozenText = getProvider().getAnnotatedText().freeze();
+        var expected = describeSentences(frozenText);
+        var results = IntStream.range(0, 8).parallel().mapToObj(run -> describeSentences(frozenText)).toList();
+        for (var result : results) {
+            Assertions.assertEquals(expected, result);
+        }
+    }
+
+    private static List<String> describeSentences(IText text) {
+        List<String> descriptions = new ArrayList<>();
+        for (var sentence : text.getSentences()) {
+            var description = new StringBuilder(sentence.getText());
+            for (var word : sentence.getWords()) {
+                var preWord = word.getPreWord();
+                description.append('|').append(word.getLemma()).append('/').append(word.getSentence().getSentenceNumber());
+                description.append('/').append(preWord == null ? -1 : preWord.getPosition());
+            }
+            for (var phrase : sentence.getPhrases()) {
+                description.append('|').append(phrase.getText()).append('/').append(phrase.getContainedWords().size());
+            }
+            descriptions.add(description.toString());
+        }
+        return descriptions;
+    }
 }
@@ -48,6 +48,17 @@ public abstract class WordTest {
         Assertions.assertEquals(41, word.getSentenceNo());
     }
 
+    @Test
+    void getPreAndNextWordTest() {
+        var words = getProvider().getAnnotatedText().getWords();
+        Assertions.assertAll(//
+                () -> Assertions.assertNull(words.get(0).getPreWord()), //
+                () -> Assertions.assertEquals(0, words.get(1).getPreWord().getPosition()), //
+                () -> Assertions.assertEquals(1, words.get(0).getNextWord().getPosition()), //
+                () -> Assertions.assertEquals(WORD_INDEX - 1, word.getPreWord().getPosition()), //
+                () -> Assertions.assertNull(words.get(words.size() - 1).getNextWord()));
+    }
+
     @Test
     void getIncomingDependencyWordsWithTypeTest() {
         var dependencies = word.getIncomingDependencyWordsWithType(DependencyTag.COMPOUND);
@@ -64,4 +75,16 @@ public abstract class WordTest {
                 () -> Assertions.assertEquals("test", dependencies.get(0).getText()));
     }
 
+    @Test
+    void hasDependencyWithTypeTest() {
+        for (var dependencyTag : DependencyTag.values()) {
+            Assertions.assertAll(//
+                    () -> Assertions.assertEquals(!word.getIncomingDependencyWordsWithType(dependencyTag).isEmpty(),
+                            word.hasIncomingDependencyWithType(dependencyTag)), //
+                    () -> Assertions.assertEquals(!word.getOutgoingDependencyWordsWithType(dependencyTag).isEmpty(),
+                            word.hasOutgoingDependencyWithType(dependencyTag)));
+        }
+        Assertions.assertTrue(word.hasIncomingDependencyWithType(DependencyTag.COMPOUND));
+    }
+
 }
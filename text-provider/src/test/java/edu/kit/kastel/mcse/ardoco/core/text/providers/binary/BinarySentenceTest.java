@@ -0,0 +1,29 @@
+/* Licensed under MIT 2022. */
+package edu.kit.kastel.mcse.ardoco.core.text.providers.binary;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import edu.kit.kastel.mcse.ardoco.core.text.providers.ITextConnector;
+import edu.kit.kastel.mcse.ardoco.core.text.providers.base.SentenceTest;
+
+class BinarySentenceTest extends SentenceTest {
+    @Override
+    protected ITextConnector getProvider() {
+        return BinaryTextConnectorTest.getBinaryTextConnector();
+    }
+
+    @Test
+    void sentenceWordsCoverTextTest() {
+        var text = getProvider().getAnnotatedText();
+        var position = 0;
+        for (var sentence : text.getSentences()) {
+            for (var word : sentence.getWords()) {
+                Assertions.assertSame(text.getWords().get(position), word);
+                Assertions.assertEquals(sentence.getSentenceNumber(), word.getSentenceNo());
+                position++;
+            }
+        }
+        Assertions.assertEquals(text.getLength(), position);
+    }
+}
@@ -0,0 +1,110 @@
+/* Licensed under MIT 2022. */
+package edu.kit.kastel.mcse.ardoco.core.text.providers.binary;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.DependencyTag;
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.IText;
+import edu.kit.kastel.mcse.ardoco.core.text.providers.corenlp.CoreNLPProvider;
+import edu.kit.kastel.mcse.ardoco.core.text.providers.json.JsonTextConnector;
+
+class BinaryTextConnectorTest {
+    private static final String inputText = "../tests/src/test/resources/benchmark/teastore/teastore.txt.json";
+    private static final String PLAIN_INPUT_TEXT = "src/test/resources/teastore.txt";
+
+    @TempDir
+    static Path directory;
+
+    private static IText originalText;
+    private static IText binaryText;
+    private static BinaryTextConnector binaryTextConnector = null;
+
+    /**
+     * Returns a connector for the text of the CoreNLP provider that is written in the binary format and mapped from the
+     * file.
+     *
+     * @return the connector for the binary text
+     */
+    public synchronized static BinaryTextConnector getBinaryTextConnector() {
+        if (binaryTextConnector == null) {
+            try {
+                var file = Files.createTempFile("teastore", ".bin");
+                file.toFile().deleteOnExit();
+                BinaryTextConnector.write(new CoreNLPProvider(new FileInputStream(PLAIN_INPUT_TEXT)).getAnnotatedText(), file);
+                binaryTextConnector = new BinaryTextConnector(file);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return binaryTextConnector;
+    }
+
+    @BeforeAll
+    static void beforeAll() throws IOException {
+        originalText = new JsonTextConnector(new File(inputText)).getAnnotatedText();
+        var file = directory.resolve("teastore.bin");
+        BinaryTextConnector.write(originalText, file);
+        binaryText = new BinaryTextConnector(file).getAnnotatedText();
+    }
+
+    @Test
+    void getWordsTest() {
+        Assertions.assertEquals(originalText.getLength(), binaryText.getLength());
+        for (int i = 0; i < originalText.getLength(); i++) {
+            var word = originalText.getWords().get(i);
+            var binaryWord = binaryText.getWords().get(i);
+            Assertions.assertAll(//
+                    () -> Assertions.assertEquals(word.getText(), binaryWord.getText()), //
+                    () -> Assertions.assertEquals(word.getLemma(), binaryWord.getLemma()), //
+                    () -> Assertions.assertEquals(word.getPosTag(), binaryWord.getPosTag()), //
+                    () -> Assertions.assertEquals(word.getPosition(), binaryWord.getPosition()), //
+                    () -> Assertions.assertEquals(word.getSentenceNo(), binaryWord.getSentenceNo()));
+        }
+    }
+
+    @Test
+    void getDependenciesTest() {
+        for (int i = 0; i < originalText.getLength(); i++) {
+            var word = originalText.getWords().get(i);
+            var binaryWord = binaryText.getWords().get(i);
+            for (var dependencyTag : DependencyTag.values()) {
+                Assertions.assertEquals(word.getOutgoingDependencyWordsWithType(dependencyTag).collect(w -> w.getPosition()),
+                        binaryWord.getOutgoingDependencyWordsWithType(dependencyTag).collect(w -> w.getPosition()));
+                Assertions.assertEquals(word.getIncomingDependencyWordsWithType(dependencyTag).collect(w -> w.getPosition()),
+                        binaryWord.getIncomingDependencyWordsWithType(dependencyTag).collect(w -> w.getPosition()));
+            }
+        }
+    }
+
+    @Test
+    void getSentencesTest() {
+        var sentence = binaryText.getSentences().get(41);
+        Assertions.assertAll(//
+                () -> Assertions.assertEquals(originalText.getSentences().size(), binaryText.getSentences().size()), //
+                () -> Assertions.assertEquals("The TeaStore is a test application.", sentence.getText()), //
+                () -> Assertions.assertEquals(7, sentence.getWords().size()), //
+                () -> Assertions.assertSame(binaryText.getWords().get(739), sentence.getWords().get(4)), //
+                () -> Assertions.assertSame(sentence, binaryText.getWords().get(739).getSentence()));
+    }
+
+    @Test
+    void getNormalizedTextTest() {
+        var words = binaryText.getWords().select(word -> word.getText().equals("TeaStore"));
+        var normalizedText = words.get(0).getNormalizedText();
+        Assertions.assertAll(//
+                () -> Assertions.assertTrue(words.size() > 1), //
+                () -> Assertions.assertEquals("teastore", normalizedText.getLowerCase()), //
+                () -> Assertions.assertEquals("Tea Store", normalizedText.getCaseSplit()), //
+                () -> Assertions.assertTrue(words.allSatisfy(word -> word.getNormalizedText() == normalizedText)));
+    }
+}
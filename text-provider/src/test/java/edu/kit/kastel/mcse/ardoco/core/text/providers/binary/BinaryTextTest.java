@@ -0,0 +1,12 @@
+/* Licensed under MIT 2022. */
+package edu.kit.kastel.mcse.ardoco.core.text.providers.binary;
+
+import edu.kit.kastel.mcse.ardoco.core.text.providers.ITextConnector;
+import edu.kit.kastel.mcse.ardoco.core.text.providers.base.TextTest;
+
+class BinaryTextTest extends TextTest {
+    @Override
+    protected ITextConnector getProvider() {
+        return BinaryTextConnectorTest.getBinaryTextConnector();
+    }
+}
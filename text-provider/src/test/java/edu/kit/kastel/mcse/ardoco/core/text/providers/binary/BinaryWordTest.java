@@ -0,0 +1,30 @@
+/* Licensed under MIT 2022. */
+package edu.kit.kastel.mcse.ardoco.core.text.providers.binary;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.DependencyTag;
+import edu.kit.kastel.mcse.ardoco.core.text.providers.ITextConnector;
+import edu.kit.kastel.mcse.ardoco.core.text.providers.base.WordTest;
+
+class BinaryWordTest extends WordTest {
+    @Override
+    protected ITextConnector getProvider() {
+        return BinaryTextConnectorTest.getBinaryTextConnector();
+    }
+
+    @Test
+    void canonicalWordsTest() {
+        var text = getProvider().getAnnotatedText();
+        var word = text.getWords().get(WORD_INDEX);
+        var sentence = word.getSentence();
+        Assertions.assertAll(//
+                () -> Assertions.assertSame(word, word.getNextWord().getPreWord()), //
+                () -> Assertions.assertSame(word.getNextWord(), text.getWords().get(WORD_INDEX + 1)), //
+                () -> Assertions.assertSame(word, word.getIncomingDependencyWordsWithType(DependencyTag.COMPOUND).get(0)
+                        .getOutgoingDependencyWordsWithType(DependencyTag.COMPOUND).get(0)), //
+                () -> Assertions.assertSame(sentence, text.getSentences().get(word.getSentenceNo())), //
+                () -> Assertions.assertSame(word, sentence.getWords().get(4)));
+    }
+}
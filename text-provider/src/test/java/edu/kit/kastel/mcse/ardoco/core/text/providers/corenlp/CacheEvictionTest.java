@@ -0,0 +1,50 @@
+/* Licensed under MIT 2022. */
+package edu.kit.kastel.mcse.ardoco.core.text.providers.corenlp;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CacheEvictionTest {
+    private static final String CACHE_FILE_ENDING = ".bin";
+
+    @TempDir
+    Path cacheDirectory;
+
+    @Test
+    void evictLeastRecentlyUsedTest() throws IOException {
+        var oldest = createCacheFile("oldest" + CACHE_FILE_ENDING, 1000);
+        var middle = createCacheFile("middle" + CACHE_FILE_ENDING, 2000);
+        var newest = createCacheFile("newest" + CACHE_FILE_ENDING, 3000);
+        var otherFile = createCacheFile("other.txt", 0);
+
+        CacheEviction.evict(cacheDirectory, CACHE_FILE_ENDING, 20);
+
+        Assertions.assertAll(//
+                () -> Assertions.assertFalse(Files.exists(oldest)), //
+                () -> Assertions.assertTrue(Files.exists(middle)), //
+                () -> Assertions.assertTrue(Files.exists(newest)), //
+                () -> Assertions.assertTrue(Files.exists(otherFile)));
+    }
+
+    @Test
+    void evictNothingWithinBoundTest() throws IOException {
+        var cacheFile = createCacheFile("entry" + CACHE_FILE_ENDING, 1000);
+        CacheEviction.evict(cacheDirectory, CACHE_FILE_ENDING, 10);
+        Assertions.assertTrue(Files.exists(cacheFile));
+
+        CacheEviction.evict(cacheDirectory, CACHE_FILE_ENDING, 1);
+        Assertions.assertFalse(Files.exists(cacheFile));
+    }
+
+    private Path createCacheFile(String name, long lastModified) throws IOException {
+        var file = Files.writeString(cacheDirectory.resolve(name), "0123456789");
+        Files.setLastModifiedTime(file, FileTime.fromMillis(lastModified));
+        return file;
+    }
+}
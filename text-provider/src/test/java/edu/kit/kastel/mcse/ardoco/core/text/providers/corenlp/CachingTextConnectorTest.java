@@ -0,0 +1,116 @@
+/* Licensed under MIT 2022. */
+package edu.kit.kastel.mcse.ardoco.core.text.providers.corenlp;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.set.ImmutableSet;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.AnnotationLayer;
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.IText;
+import edu.kit.kastel.mcse.ardoco.core.text.providers.ITextConnector;
+
+class CachingTextConnectorTest {
+    private static final String inputText = "src/test/resources/teastore.txt";
+
+    @TempDir
+    Path cacheDirectory;
+
+    @Test
+    void loadFromCacheTest() throws IOException {
+        var input = Files.readAllBytes(Path.of(inputText));
+        var annotatingConnector = new CountingTextConnector(input);
+        var annotatedText = createConnector(annotatingConnector, input, CoreNLPProvider.ALL_ANNOTATION_LAYERS).getAnnotatedText();
+        Assertions.assertEquals(1, annotatingConnector.getAnnotations());
+        Assertions.assertEquals(1, countCacheFiles());
+
+        var cachingConnector = new CountingTextConnector(input);
+        var cachedText = createConnector(cachingConnector, input, CoreNLPProvider.ALL_ANNOTATION_LAYERS).getAnnotatedText();
+        var word = annotatedText.getWords().get(739);
+        var cachedWord = cachedText.getWords().get(739);
+
+        Assertions.assertAll(//
+                () -> Assertions.assertEquals(0, cachingConnector.getAnnotations()), //
+                () -> Assertions.assertEquals(annotatedText.getSentences().size(), cachedText.getSentences().size()), //
+                () -> Assertions.assertEquals(annotatedText.getWords().size(), cachedText.getWords().size()), //
+                () -> Assertions.assertEquals(word.getText(), cachedWord.getText()), //
+                () -> Assertions.assertEquals(word.getLemma(), cachedWord.getLemma()), //
+                () -> Assertions.assertEquals(annotatedText.getSentences().get(41).getPhrases().collect(p -> p.getText()),
+                        cachedText.getSentences().get(41).getPhrases().collect(p -> p.getText())));
+    }
+
+    @Test
+    void changedInputTest() throws IOException {
+        var input = "The TeaStore is a test application.".getBytes(StandardCharsets.UTF_8);
+        createConnector(new CountingTextConnector(input), input, CoreNLPProvider.ALL_ANNOTATION_LAYERS).getAnnotatedText();
+
+        var changedInput = "The TeaStore is a small test application.".getBytes(StandardCharsets.UTF_8);
+        var changedConnector = new CountingTextConnector(changedInput);
+        var changedText = createConnector(changedConnector, changedInput, CoreNLPProvider.ALL_ANNOTATION_LAYERS).getAnnotatedText();
+        Assertions.assertEquals(1, changedConnector.getAnnotations());
+        Assertions.assertEquals("small", changedText.getWords().get(4).getText());
+
+        var layers = Sets.immutable.with(AnnotationLayer.POS_TAGS, AnnotationLayer.LEMMAS);
+        var otherLayersConnector = new CountingTextConnector(input, layers);
+        createConnector(otherLayersConnector, input, layers).getAnnotatedText();
+        Assertions.assertEquals(1, otherLayersConnector.getAnnotations());
+        Assertions.assertEquals(3, countCacheFiles());
+    }
+
+    @Test
+    void evictionTest() throws IOException {
+        var input = "The TeaStore is a test application.".getBytes(StandardCharsets.UTF_8);
+        new CachingTextConnector(new CountingTextConnector(input), input, cacheDirectory, 1, CoreNLPProvider.ALL_ANNOTATION_LAYERS, ParserTier.DEFAULT)
+                .getAnnotatedText();
+        Assertions.assertEquals(0, countCacheFiles());
+    }
+
+    private CachingTextConnector createConnector(ITextConnector textConnector, byte[] input, ImmutableSet<AnnotationLayer> annotationLayers) {
+        return new CachingTextConnector(textConnector, input, cacheDirectory, CachingTextConnector.DEFAULT_MAX_CACHE_SIZE, annotationLayers,
+                ParserTier.DEFAULT);
+    }
+
+    private long countCacheFiles() throws IOException {
+        try (var files = Files.list(cacheDirectory)) {
+            return files.count();
+        }
+    }
+
+    /**
+     * Annotates the text with the {@link CoreNLPProvider} and counts how often it is asked for the annotated text.
+     */
+    private static class CountingTextConnector implements ITextConnector {
+        private final CoreNLPProvider provider;
+        private int annotations = 0;
+
+        CountingTextConnector(byte[] input) {
+            this(input, CoreNLPProvider.ALL_ANNOTATION_LAYERS);
+        }
+
+        CountingTextConnector(byte[] input, ImmutableSet<AnnotationLayer> annotationLayers) {
+            provider = new CoreNLPProvider(new ByteArrayInputStream(input), 1, annotationLayers);
+        }
+
+        @Override
+        public IText getAnnotatedText(String textName) {
+            return getAnnotatedText();
+        }
+
+        @Override
+        public IText getAnnotatedText() {
+            annotations++;
+            return provider.getAnnotatedText();
+        }
+
+        int getAnnotations() {
+            return annotations;
+        }
+    }
+}
@@ -8,6 +8,6 @@ class CoreNLPPhraseTest extends PhraseTest {
 
     @Override
     protected ITextConnector getProvider() {
-        return CoreNLPProviderTest.getCoreNLPProvider();
+        return CoreNLPProviderTest.getCoreNLPTextConnector();
     }
 }
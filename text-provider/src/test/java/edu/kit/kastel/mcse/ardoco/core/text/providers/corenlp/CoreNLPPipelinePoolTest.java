@@ -0,0 +1,64 @@
+/* Licensed under MIT 2022. */
+package edu.kit.kastel.mcse.ardoco.core.text.providers.corenlp;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import edu.stanford.nlp.pipeline.StanfordCoreNLP;
+
+class CoreNLPPipelinePoolTest {
+
+    private static Properties createProperties(String annotators) {
+        var properties = new Properties();
+        properties.setProperty("annotators", annotators);
+        return properties;
+    }
+
+    @Test
+    void reuseReleasedPipelineTest() {
+        var properties = createProperties("tokenize,ssplit");
+        var pipeline = CoreNLPPipelinePool.borrow(properties);
+        CoreNLPPipelinePool.release(properties, pipeline);
+
+        var equalProperties = createProperties("tokenize,ssplit");
+        var reusedPipeline = CoreNLPPipelinePool.borrow(equalProperties);
+        CoreNLPPipelinePool.release(equalProperties, reusedPipeline);
+
+        Assertions.assertSame(pipeline, reusedPipeline);
+    }
+
+    @Test
+    void borrowedPipelineIsExclusiveTest() {
+        var properties = createProperties("tokenize");
+        var first = CoreNLPPipelinePool.borrow(properties);
+        var second = CoreNLPPipelinePool.borrow(properties);
+        CoreNLPPipelinePool.release(properties, first);
+        CoreNLPPipelinePool.release(properties, second);
+
+        Assertions.assertNotSame(first, second);
+    }
+
+    @Test
+    void idlePipelinesAreBoundedTest() {
+        var properties = createProperties("tokenize");
+        properties.setProperty("tokenize.language", "en");
+        List<StanfordCoreNLP> pipelines = new ArrayList<>();
+        for (int i = 0; i <= CoreNLPPipelinePool.MAX_IDLE_PIPELINES; i++) {
+            pipelines.add(CoreNLPPipelinePool.borrow(properties));
+        }
+        pipelines.forEach(pipeline -> CoreNLPPipelinePool.release(properties, pipeline));
+
+        List<StanfordCoreNLP> borrowed = new ArrayList<>();
+        for (int i = 0; i <= CoreNLPPipelinePool.MAX_IDLE_PIPELINES; i++) {
+            borrowed.add(CoreNLPPipelinePool.borrow(properties));
+        }
+        borrowed.forEach(pipeline -> CoreNLPPipelinePool.release(properties, pipeline));
+
+        var reused = borrowed.stream().filter(pipeline -> pipelines.stream().anyMatch(p -> p == pipeline)).count();
+        Assertions.assertEquals(CoreNLPPipelinePool.MAX_IDLE_PIPELINES, reused);
+    }
+}
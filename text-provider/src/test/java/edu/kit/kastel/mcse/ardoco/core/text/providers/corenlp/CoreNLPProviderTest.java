@@ -1,12 +1,22 @@
 /* Licensed under MIT 2022. */
 package edu.kit.kastel.mcse.ardoco.core.text.providers.corenlp;
 
+import java.io.ByteArrayInputStream;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
 
+import org.eclipse.collections.api.factory.Sets;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.AnnotationLayer;
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.DependencyTag;
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.IText;
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.PhraseType;
 import edu.kit.kastel.mcse.ardoco.core.text.providers.ITextConnector;
 import edu.kit.kastel.mcse.ardoco.core.text.providers.base.ProviderTest;
 
@@ -15,6 +25,7 @@ class CoreNLPProviderTest extends ProviderTest {
     protected static String inputText = "src/test/resources/teastore.txt";
 
     private static CoreNLPProvider coreNLPProvider = null;
+    private static ITextConnector coreNLPTextConnector = null;
 
     public synchronized static CoreNLPProvider getCoreNLPProvider() {
         if (coreNLPProvider == null) {
@@ -27,8 +38,162 @@ class CoreNLPProviderTest extends ProviderTest {
         return coreNLPProvider;
     }
 
+    /**
+     * Returns a connector for the text of the CoreNLP words, sentences, and phrases. The {@link CoreNLPProvider} returns
+     * the compact text instead, but these classes still back lazy phrases and the conversion to the compact text.
+     *
+     * @return the connector for the CoreNLP text
+     */
+    public synchronized static ITextConnector getCoreNLPTextConnector() {
+        if (coreNLPTextConnector == null) {
+            try {
+                var text = new Text(new CoreNLPProvider(new FileInputStream(inputText)).annotateDocument());
+                coreNLPTextConnector = new ITextConnector() {
+                    @Override
+                    public IText getAnnotatedText(String textName) {
+                        return text;
+                    }
+
+                    @Override
+                    public IText getAnnotatedText() {
+                        return text;
+                    }
+                };
+            } catch (FileNotFoundException e) {
+                throw new RuntimeException(e);
+            }
+        }
+        return coreNLPTextConnector;
+    }
+
     @Override
     protected ITextConnector getProvider() {
         return CoreNLPProviderTest.getCoreNLPProvider();
     }
+
+    @Test
+    void parallelAnnotationTest() throws FileNotFoundException {
+        var sequentialText = getCoreNLPProvider().getAnnotatedText();
+        var parallelText = new CoreNLPProvider(new FileInputStream(inputText), 4).getAnnotatedText();
+
+        Assertions.assertEquals(sequentialText.getLength(), parallelText.getLength());
+        Assertions.assertEquals(sequentialText.getSentences().size(), parallelText.getSentences().size());
+        for (int position = 0; position < sequentialText.getLength(); position++) {
+            var expected = sequentialText.getWords().get(position);
+            var actual = parallelText.getWords().get(position);
+            Assertions.assertAll(//
+                    () -> Assertions.assertEquals(expected.getText(), actual.getText()), //
+                    () -> Assertions.assertEquals(expected.getPosition(), actual.getPosition()), //
+                    () -> Assertions.assertEquals(expected.getSentenceNo(), actual.getSentenceNo()), //
+                    () -> Assertions.assertEquals(expected.getPosTag(), actual.getPosTag()), //
+                    () -> Assertions.assertEquals(expected.getLemma(), actual.getLemma()));
+            for (var dependencyTag : DependencyTag.values()) {
+                Assertions.assertEquals(expected.getOutgoingDependencyWordsWithType(dependencyTag).collect(w -> w.getPosition()),
+                        actual.getOutgoingDependencyWordsWithType(dependencyTag).collect(w -> w.getPosition()));
+            }
+        }
+        for (int sentenceNumber = 0; sentenceNumber < sequentialText.getSentences().size(); sentenceNumber++) {
+            var expectedPhrases = sequentialText.getSentences().get(sentenceNumber).getPhrases();
+            var actualPhrases = parallelText.getSentences().get(sentenceNumber).getPhrases();
+            Assertions.assertEquals(expectedPhrases.collect(p -> p.getText()), actualPhrases.collect(p -> p.getText()));
+        }
+    }
+
+    @Test
+    void getSentenceAnnotatorsTest() {
+        Assertions.assertAll(//
+                () -> Assertions.assertEquals("pos,parse,depparse,lemma", CoreNLPProvider.getSentenceAnnotators(Sets.immutable.with(AnnotationLayer.values()))), //
+                () -> Assertions.assertEquals("pos,depparse,lemma", CoreNLPProvider.getSentenceAnnotators(
+                        Sets.immutable.with(AnnotationLayer.POS_TAGS, AnnotationLayer.LEMMAS, AnnotationLayer.DEPENDENCIES))), //
+                () -> Assertions.assertEquals("pos", CoreNLPProvider.getSentenceAnnotators(Sets.immutable.empty())), //
+                () -> Assertions.assertEquals("pos,parse,depparse,lemma",
+                        CoreNLPProvider.getSentenceAnnotators(Sets.immutable.with(AnnotationLayer.values()), ParserTier.SHIFT_REDUCE)), //
+                () -> Assertions.assertEquals("pos,depparse,depphrases,lemma",
+                        CoreNLPProvider.getSentenceAnnotators(Sets.immutable.with(AnnotationLayer.values()), ParserTier.DEPENDENCIES_ONLY)), //
+                () -> Assertions.assertEquals("pos,depparse,depphrases",
+                        CoreNLPProvider.getSentenceAnnotators(Sets.immutable.with(AnnotationLayer.PHRASES), ParserTier.DEPENDENCIES_ONLY)));
+    }
+
+    @Test
+    void parserTierModelsTest() {
+        Assertions.assertDoesNotThrow(ParserTier.DEFAULT::checkModels);
+        Assertions.assertDoesNotThrow(ParserTier.DEPENDENCIES_ONLY::checkModels);
+        if (ParserTier.class.getClassLoader().getResource("edu/stanford/nlp/models/srparser/englishSR.ser.gz") == null) {
+            var exception = Assertions.assertThrows(IllegalStateException.class,
+                    () -> CoreNLPProvider.getStanfordProperties(new Properties(), CoreNLPProvider.ALL_ANNOTATION_LAYERS, ParserTier.SHIFT_REDUCE));
+            Assertions.assertTrue(exception.getMessage().contains("models-english"));
+        } else {
+            Assertions.assertDoesNotThrow(ParserTier.SHIFT_REDUCE::checkModels);
+        }
+    }
+
+    @Test
+    void dependencyPhrasesTest() {
+        var text = new CoreNLPProvider(new ByteArrayInputStream("The TeaStore is a test application.".getBytes(StandardCharsets.UTF_8)), 1,
+                Sets.immutable.with(AnnotationLayer.values()), ParserTier.DEPENDENCIES_ONLY).getAnnotatedText();
+        var phrases = text.getSentences().get(0).getPhrases();
+        Assertions.assertAll(//
+                () -> Assertions.assertEquals(PhraseType.ROOT, phrases.get(0).getPhraseType()), //
+                () -> Assertions.assertEquals(text.getLength(), phrases.get(0).getContainedWords().size()), //
+                () -> Assertions.assertEquals(PhraseType.S, phrases.get(1).getPhraseType()), //
+                () -> Assertions.assertTrue(phrases.anySatisfy(p -> p.getPhraseType() == PhraseType.NP && "The TeaStore".equals(p.getText()))), //
+                () -> Assertions.assertEquals("test", text.getWords().get(4).getLemma()));
+    }
+
+    @Test
+    void withoutPhrasesTest() {
+        var text = new CoreNLPProvider(new ByteArrayInputStream("The TeaStore is a test application.".getBytes(StandardCharsets.UTF_8)), 1,
+                Sets.immutable.with(AnnotationLayer.POS_TAGS, AnnotationLayer.LEMMAS, AnnotationLayer.DEPENDENCIES)).getAnnotatedText();
+        var word = text.getWords().get(4);
+        Assertions.assertAll(//
+                () -> Assertions.assertTrue(text.getSentences().get(0).getPhrases().isEmpty()), //
+                () -> Assertions.assertEquals("test", word.getLemma()), //
+                () -> Assertions.assertEquals("application", word.getIncomingDependencyWordsWithType(DependencyTag.COMPOUND).get(0).getText()));
+    }
+
+    @Test
+    void lazyPhrasesTest() {
+        var input = "The TeaStore is a test application. The WebUI shows the products. The Registry knows all services.";
+        var eagerText = new CoreNLPProvider(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8))).getAnnotatedText();
+        var lazyText = (Text) new CoreNLPProvider(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), 1,
+                CoreNLPProvider.ALL_ANNOTATION_LAYERS, ParserTier.DEFAULT, true).getAnnotatedText().freeze();
+        var phraseParser = lazyText.getPhraseParser();
+        var word = lazyText.getWords().get(4);
+
+        Assertions.assertAll(//
+                () -> Assertions.assertEquals(0, phraseParser.getParsedSentences()), //
+                () -> Assertions.assertEquals("application", word.getIncomingDependencyWordsWithType(DependencyTag.COMPOUND).get(0).getText()));
+
+        var expectedPhrases = eagerText.getSentences().get(1).getPhrases();
+        var actualPhrases = lazyText.getSentences().get(1).getPhrases();
+        Assertions.assertAll(//
+                () -> Assertions.assertEquals(1, phraseParser.getParsedSentences()), //
+                () -> Assertions.assertEquals(expectedPhrases.stream().map(p -> p.getText()).toList(), actualPhrases.stream().map(p -> p.getText()).toList()),
+                () -> Assertions.assertSame(actualPhrases, lazyText.getSentences().get(1).getPhrases()), //
+                () -> Assertions.assertEquals(1, phraseParser.getParsedSentences()));
+    }
+
+    @Test
+    void compactTextTest() {
+        var coreNLPText = getCoreNLPTextConnector().getAnnotatedText();
+        var compactText = getCoreNLPProvider().getAnnotatedText();
+
+        Assertions.assertEquals(coreNLPText.getLength(), compactText.getLength());
+        for (int sentenceNumber = 0; sentenceNumber < coreNLPText.getSentences().size(); sentenceNumber++) {
+            var expectedPhrases = coreNLPText.getSentences().get(sentenceNumber).getPhrases();
+            var actualPhrases = compactText.getSentences().get(sentenceNumber).getPhrases();
+            Assertions.assertEquals(expectedPhrases.size(), actualPhrases.size());
+            for (int i = 0; i < expectedPhrases.size(); i++) {
+                var expected = expectedPhrases.get(i);
+                var actual = actualPhrases.get(i);
+                Assertions.assertAll(//
+                        () -> Assertions.assertEquals(expected.getText(), actual.getText()), //
+                        () -> Assertions.assertEquals(expected.getPhraseType(), actual.getPhraseType()), //
+                        () -> Assertions.assertEquals(expected.getContainedWords().stream().map(w -> w.getPosition()).toList(),
+                                actual.getContainedWords().stream().map(w -> w.getPosition()).toList()), //
+                        () -> Assertions.assertEquals(expected.getSubPhrases().stream().map(p -> p.getText()).toList(),
+                                actual.getSubPhrases().stream().map(p -> p.getText()).toList()));
+            }
+        }
+    }
 }
@@ -1,12 +1,41 @@
 /* Licensed under MIT 2022. */
 package edu.kit.kastel.mcse.ardoco.core.text.providers.corenlp;
 
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
 import edu.kit.kastel.mcse.ardoco.core.text.providers.ITextConnector;
 import edu.kit.kastel.mcse.ardoco.core.text.providers.base.SentenceTest;
 
 class CoreNLPSentenceTest extends SentenceTest {
     @Override
     protected ITextConnector getProvider() {
-        return CoreNLPProviderTest.getCoreNLPProvider();
+        return CoreNLPProviderTest.getCoreNLPTextConnector();
+    }
+
+    @Test
+    void sentenceWordsCoverTextTest() {
+        var text = getProvider().getAnnotatedText();
+        var position = 0;
+        for (var sentence : text.getSentences()) {
+            for (var word : sentence.getWords()) {
+                Assertions.assertSame(text.getWords().get(position), word);
+                Assertions.assertEquals(sentence.getSentenceNumber(), word.getSentenceNo());
+                position++;
+            }
+        }
+        Assertions.assertEquals(text.getLength(), position);
+    }
+
+    @Test
+    void phraseWordsMatchPhraseTextTest() {
+        var text = getProvider().getAnnotatedText();
+        for (var phrase : text.getSentences().get(41).getPhrases()) {
+            var words = phrase.getContainedWords();
+            var phraseText = phrase.getText();
+            Assertions.assertAll(//
+                    () -> Assertions.assertTrue(phraseText.startsWith(words.get(0).getText())), //
+                    () -> Assertions.assertTrue(phraseText.endsWith(words.get(words.size() - 1).getText())));
+        }
     }
 }
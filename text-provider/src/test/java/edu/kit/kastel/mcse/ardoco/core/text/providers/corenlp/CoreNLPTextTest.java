@@ -7,6 +7,6 @@ import edu.kit.kastel.mcse.ardoco.core.text.providers.base.TextTest;
 class CoreNLPTextTest extends TextTest {
     @Override
     protected ITextConnector getProvider() {
-        return CoreNLPProviderTest.getCoreNLPProvider();
+        return CoreNLPProviderTest.getCoreNLPTextConnector();
     }
 }
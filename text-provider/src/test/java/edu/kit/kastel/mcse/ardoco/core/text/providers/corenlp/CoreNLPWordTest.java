@@ -1,12 +1,56 @@
 /* Licensed under MIT 2022. */
 package edu.kit.kastel.mcse.ardoco.core.text.providers.corenlp;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.DependencyTag;
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.POSTag;
 import edu.kit.kastel.mcse.ardoco.core.text.providers.ITextConnector;
 import edu.kit.kastel.mcse.ardoco.core.text.providers.base.WordTest;
 
 class CoreNLPWordTest extends WordTest {
     @Override
     protected ITextConnector getProvider() {
-        return CoreNLPProviderTest.getCoreNLPProvider();
+        return CoreNLPProviderTest.getCoreNLPTextConnector();
+    }
+
+    @Test
+    void canonicalWordsTest() {
+        var text = getProvider().getAnnotatedText();
+        var word = text.getWords().get(WORD_INDEX);
+        var sentence = word.getSentence();
+        Assertions.assertAll(//
+                () -> Assertions.assertSame(word, word.getNextWord().getPreWord()), //
+                () -> Assertions.assertSame(word.getNextWord(), text.getWords().get(WORD_INDEX + 1)), //
+                () -> Assertions.assertSame(word, word.getIncomingDependencyWordsWithType(DependencyTag.COMPOUND).get(0)
+                        .getOutgoingDependencyWordsWithType(DependencyTag.COMPOUND).get(0)), //
+                () -> Assertions.assertSame(sentence, text.getSentences().get(word.getSentenceNo())), //
+                () -> Assertions.assertSame(word, sentence.getWords().get(4)));
+    }
+
+    @Test
+    void firstWordsTest() {
+        var words = new Text(new CoreNLPProvider(new ByteArrayInputStream("The store sells books.".getBytes(StandardCharsets.UTF_8))).annotateDocument())
+                .getWords();
+        Assertions.assertAll(//
+                () -> Assertions.assertNull(words.get(0).getPreWord()), //
+                () -> Assertions.assertSame(words.get(0), words.get(1).getPreWord()), //
+                () -> Assertions.assertSame(words.get(1), words.get(0).getNextWord()));
+    }
+
+    @Test
+    void internedStringsTest() {
+        var text = new Text(new CoreNLPProvider(new ByteArrayInputStream("The store sells books. The books are cheap.".getBytes(StandardCharsets.UTF_8)))
+                .annotateDocument());
+        var words = text.getWords();
+        Assertions.assertAll(//
+                () -> Assertions.assertSame(words.get(0).getText(), words.get(5).getText()), //
+                () -> Assertions.assertSame(words.get(3).getText(), words.get(6).getText()), //
+                () -> Assertions.assertSame(words.get(3).getLemma(), words.get(6).getLemma()), //
+                () -> Assertions.assertSame(POSTag.NOUN_PLURAL, words.get(6).getPosTag()));
     }
 }
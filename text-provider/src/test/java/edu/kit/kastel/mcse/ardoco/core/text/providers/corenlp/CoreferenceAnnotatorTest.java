@@ -0,0 +1,33 @@
+/* Licensed under MIT 2022. */
+package edu.kit.kastel.mcse.ardoco.core.text.providers.corenlp;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.collections.impl.factory.primitive.IntLists;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class CoreferenceAnnotatorTest {
+    // The(0) registry(1) stores(2) all(3) services(4) .(5) The(6) services(7) register(8) themselves(9) at(10) the(11)
+    // registry(12) when(13) they(14) start(15) .(16)
+    private static final String TEXT = "The registry stores all services. The services register themselves at the registry when they start.";
+
+    @Test
+    void annotateTest() {
+        var result = new CoreferenceAnnotator(new ByteArrayInputStream(TEXT.getBytes(StandardCharsets.UTF_8)), 0).annotate();
+        Assertions.assertAll(//
+                () -> Assertions.assertEquals(17, result.wordCount()), //
+                () -> Assertions.assertTrue(result.chains().contains(new CoreferenceChain(4, IntLists.immutable.with(4, 7)))), //
+                () -> Assertions.assertTrue(result.chains().contains(new CoreferenceChain(9, IntLists.immutable.with(9, 14)))));
+    }
+
+    @Test
+    void wordOffsetTest() {
+        var result = new CoreferenceAnnotator(new ByteArrayInputStream(TEXT.getBytes(StandardCharsets.UTF_8)), 100).annotate();
+        Assertions.assertAll(//
+                () -> Assertions.assertEquals(17, result.wordCount()), //
+                () -> Assertions.assertTrue(result.chains().contains(new CoreferenceChain(104, IntLists.immutable.with(104, 107)))), //
+                () -> Assertions.assertTrue(result.chains().contains(new CoreferenceChain(109, IntLists.immutable.with(109, 114)))));
+    }
+}
@@ -0,0 +1,53 @@
+/* Licensed under MIT 2022. */
+package edu.kit.kastel.mcse.ardoco.core.text.providers.corenlp;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.DependencyTag;
+
+class ModelGuidedCoreNLPProviderTest {
+    private static final String TEXT = "The persistence stores the orders. The weather is nice today. Every Registry answers requests.";
+
+    @Test
+    void onlyCandidatesParsedTest() {
+        var provider = new ModelGuidedCoreNLPProvider(new ByteArrayInputStream(TEXT.getBytes(StandardCharsets.UTF_8)), List.of("Persistence", "registry"));
+        var text = provider.getAnnotatedText();
+        var sentences = text.getSentences();
+        var weather = text.getWords().detect(word -> word.getText().equals("weather"));
+
+        Assertions.assertAll(//
+                () -> Assertions.assertEquals(3, sentences.size()), //
+                () -> Assertions.assertFalse(sentences.get(0).getPhrases().isEmpty()), //
+                () -> Assertions.assertTrue(sentences.get(1).getPhrases().isEmpty()), //
+                () -> Assertions.assertFalse(sentences.get(2).getPhrases().isEmpty()), //
+                () -> Assertions.assertTrue(weather.getIncomingDependencyWordsWithType(DependencyTag.NSUBJ).isEmpty()), //
+                () -> Assertions.assertEquals("be", text.getWords().detect(word -> word.getText().equals("is")).getLemma()));
+    }
+
+    @Test
+    void partialMatchTest() {
+        var provider = new ModelGuidedCoreNLPProvider(new ByteArrayInputStream(TEXT.getBytes(StandardCharsets.UTF_8)), List.of("WeatherService"));
+        var sentences = provider.getAnnotatedText().getSentences();
+
+        Assertions.assertAll(//
+                () -> Assertions.assertTrue(sentences.get(0).getPhrases().isEmpty()), //
+                () -> Assertions.assertFalse(sentences.get(1).getPhrases().isEmpty()));
+    }
+
+    @Test
+    void similarMatchTest() {
+        // neither "registries" nor "persistance" equals or contains a word of the text, but both are similar to one
+        var provider = new ModelGuidedCoreNLPProvider(new ByteArrayInputStream(TEXT.getBytes(StandardCharsets.UTF_8)), List.of("Registries", "persistance"));
+        var sentences = provider.getAnnotatedText().getSentences();
+
+        Assertions.assertAll(//
+                () -> Assertions.assertFalse(sentences.get(0).getPhrases().isEmpty()), //
+                () -> Assertions.assertTrue(sentences.get(1).getPhrases().isEmpty()), //
+                () -> Assertions.assertFalse(sentences.get(2).getPhrases().isEmpty()));
+    }
+}
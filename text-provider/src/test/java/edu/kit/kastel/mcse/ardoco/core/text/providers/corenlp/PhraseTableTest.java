@@ -0,0 +1,53 @@
+/* Licensed under MIT 2022. */
+package edu.kit.kastel.mcse.ardoco.core.text.providers.corenlp;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.PhraseType;
+import edu.stanford.nlp.trees.Tree;
+
+class PhraseTableTest {
+    private static final int FIRST_WORD_POSITION = 10;
+
+    private final PhraseTable table = new PhraseTable(Tree.valueOf("(ROOT (S (NP (DT The) (NN parser)) (VP (VBZ builds) (NP (DT the) (NN table))) (. .)))"),
+            FIRST_WORD_POSITION);
+
+    @Test
+    void phrasesInPreOrderTest() {
+        Assertions.assertEquals(5, table.size());
+        Assertions.assertAll(//
+                () -> Assertions.assertEquals(PhraseType.ROOT, table.getType(0)), //
+                () -> Assertions.assertEquals(PhraseType.S, table.getType(1)), //
+                () -> Assertions.assertEquals(PhraseType.NP, table.getType(2)), //
+                () -> Assertions.assertEquals(PhraseType.VP, table.getType(3)), //
+                () -> Assertions.assertEquals(PhraseType.NP, table.getType(4)));
+    }
+
+    @Test
+    void spansTest() {
+        Assertions.assertAll(//
+                () -> Assertions.assertEquals(FIRST_WORD_POSITION, table.getStart(0)), //
+                () -> Assertions.assertEquals(FIRST_WORD_POSITION + 6, table.getEnd(0)), //
+                () -> Assertions.assertEquals(FIRST_WORD_POSITION + 2, table.getStart(3)), //
+                () -> Assertions.assertEquals(FIRST_WORD_POSITION + 5, table.getEnd(3)), //
+                () -> Assertions.assertEquals(FIRST_WORD_POSITION + 3, table.getStart(4)), //
+                () -> Assertions.assertEquals(FIRST_WORD_POSITION + 5, table.getEnd(4)));
+    }
+
+    @Test
+    void structureTest() {
+        Assertions.assertAll(//
+                () -> Assertions.assertTrue(table.getParent(0) < 0), //
+                () -> Assertions.assertEquals(1, table.getParent(2)), //
+                () -> Assertions.assertEquals(3, table.getParent(4)), //
+                () -> Assertions.assertArrayEquals(new int[] { 2, 3 }, table.getChildren(1)), //
+                () -> Assertions.assertArrayEquals(new int[0], table.getChildren(2)), //
+                () -> Assertions.assertEquals(5, table.getSubtreeEnd(1)), //
+                () -> Assertions.assertEquals(3, table.getSubtreeEnd(2)), //
+                () -> Assertions.assertTrue(table.contains(1, 4)), //
+                () -> Assertions.assertFalse(table.contains(2, 4)), //
+                () -> Assertions.assertFalse(table.contains(4, 4)), //
+                () -> Assertions.assertFalse(table.contains(4, 3)));
+    }
+}
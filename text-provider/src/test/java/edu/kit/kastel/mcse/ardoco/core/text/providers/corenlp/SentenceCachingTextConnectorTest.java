@@ -0,0 +1,109 @@
+/* Licensed under MIT 2022. */
+package edu.kit.kastel.mcse.ardoco.core.text.providers.corenlp;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.eclipse.collections.api.factory.Sets;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.AnnotationLayer;
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.DependencyTag;
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.IText;
+
+class SentenceCachingTextConnectorTest {
+    private static final String inputText = "src/test/resources/teastore.txt";
+
+    @TempDir
+    Path cacheDirectory;
+
+    @Test
+    void incrementalAnnotationTest() throws IOException {
+        var originalText = Files.readString(Path.of(inputText), StandardCharsets.UTF_8);
+        var changedText = originalText.replace("The TeaStore is a test application.", "The TeaStore is a small test application.");
+        Assertions.assertNotEquals(originalText, changedText);
+
+        new SentenceCachingTextConnector(toStream(originalText), cacheDirectory).getAnnotatedText();
+        var cachedSentences = countCacheFiles();
+        var incrementalText = new SentenceCachingTextConnector(toStream(changedText), cacheDirectory).getAnnotatedText();
+        Assertions.assertEquals(cachedSentences + 1, countCacheFiles());
+
+        assertSameAnnotations(new CoreNLPProvider(toStream(changedText)).getAnnotatedText(), incrementalText);
+    }
+
+    @Test
+    void parallelAnnotationTest() throws IOException {
+        var input = Files.readString(Path.of(inputText), StandardCharsets.UTF_8);
+        var cachedText = new SentenceCachingTextConnector(toStream(input), cacheDirectory, SentenceCachingTextConnector.DEFAULT_MAX_CACHE_SIZE, 4,
+                CoreNLPProvider.ALL_ANNOTATION_LAYERS, ParserTier.DEFAULT).getAnnotatedText();
+        assertSameAnnotations(new CoreNLPProvider(toStream(input)).getAnnotatedText(), cachedText);
+    }
+
+    @Test
+    void annotationLayersTest() throws IOException {
+        var input = "The TeaStore is a test application. The WebUI shows the products.";
+        new SentenceCachingTextConnector(toStream(input), cacheDirectory).getAnnotatedText();
+        Assertions.assertEquals(2, countCacheFiles());
+
+        var withoutPhrases = new SentenceCachingTextConnector(toStream(input), cacheDirectory, SentenceCachingTextConnector.DEFAULT_MAX_CACHE_SIZE, 1,
+                Sets.immutable.with(AnnotationLayer.POS_TAGS, AnnotationLayer.LEMMAS, AnnotationLayer.DEPENDENCIES), ParserTier.DEFAULT).getAnnotatedText();
+        Assertions.assertEquals(4, countCacheFiles());
+        Assertions.assertTrue(withoutPhrases.getSentences().allSatisfy(sentence -> sentence.getPhrases().isEmpty()));
+        Assertions.assertEquals("test", withoutPhrases.getWords().get(4).getLemma());
+    }
+
+    @Test
+    void reflowedSentencesTest() throws IOException {
+        var input = "The TeaStore is a test application. The WebUI shows the products.";
+        new SentenceCachingTextConnector(toStream(input), cacheDirectory).getAnnotatedText();
+        var cachedSentences = countCacheFiles();
+
+        // the first sentence is wrapped and indented differently, the second one is unchanged
+        var reflowedInput = "  The TeaStore is a\n    test application. The WebUI shows the products.\n";
+        var reflowedText = new SentenceCachingTextConnector(toStream(reflowedInput), cacheDirectory).getAnnotatedText();
+        Assertions.assertEquals(cachedSentences + 1, countCacheFiles());
+
+        var annotatedText = new CoreNLPProvider(toStream(reflowedInput)).getAnnotatedText();
+        Assertions.assertEquals("The TeaStore is a\n    test application.", reflowedText.getSentences().get(0).getText());
+        assertSameAnnotations(annotatedText, reflowedText);
+    }
+
+    private long countCacheFiles() throws IOException {
+        try (var files = Files.list(cacheDirectory)) {
+            return files.count();
+        }
+    }
+
+    private static ByteArrayInputStream toStream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void assertSameAnnotations(IText expectedText, IText actualText) {
+        Assertions.assertEquals(expectedText.getLength(), actualText.getLength());
+        Assertions.assertEquals(expectedText.getSentences().size(), actualText.getSentences().size());
+        for (int position = 0; position < expectedText.getLength(); position++) {
+            var expected = expectedText.getWords().get(position);
+            var actual = actualText.getWords().get(position);
+            Assertions.assertAll(//
+                    () -> Assertions.assertEquals(expected.getText(), actual.getText()), //
+                    () -> Assertions.assertEquals(expected.getSentenceNo(), actual.getSentenceNo()), //
+                    () -> Assertions.assertEquals(expected.getPosTag(), actual.getPosTag()), //
+                    () -> Assertions.assertEquals(expected.getLemma(), actual.getLemma()));
+            for (var dependencyTag : DependencyTag.values()) {
+                Assertions.assertEquals(expected.getIncomingDependencyWordsWithType(dependencyTag).collect(w -> w.getPosition()),
+                        actual.getIncomingDependencyWordsWithType(dependencyTag).collect(w -> w.getPosition()));
+            }
+        }
+        for (int sentenceNumber = 0; sentenceNumber < expectedText.getSentences().size(); sentenceNumber++) {
+            var expected = expectedText.getSentences().get(sentenceNumber);
+            var actual = actualText.getSentences().get(sentenceNumber);
+            Assertions.assertEquals(expected.getText(), actual.getText());
+            Assertions.assertEquals(expected.getPhrases().collect(p -> p.getText()), actual.getPhrases().collect(p -> p.getText()));
+        }
+    }
+}
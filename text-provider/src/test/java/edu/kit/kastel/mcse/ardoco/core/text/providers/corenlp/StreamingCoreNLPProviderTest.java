@@ -0,0 +1,68 @@
+/* Licensed under MIT 2022. */
+package edu.kit.kastel.mcse.ardoco.core.text.providers.corenlp;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.eclipse.collections.api.factory.Sets;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.AnnotationLayer;
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.DependencyTag;
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.PhraseType;
+
+class StreamingCoreNLPProviderTest {
+
+    @Test
+    void streamedChunksTest() throws IOException {
+        var inputText = Files.readString(Path.of(CoreNLPProviderTest.inputText), StandardCharsets.UTF_8);
+        var document = inputText + "\n\n" + inputText;
+        var streamedText = new StreamingCoreNLPProvider(new ByteArrayInputStream(document.getBytes(StandardCharsets.UTF_8)), 100).getAnnotatedText();
+        var originalText = CoreNLPProviderTest.getCoreNLPProvider().getAnnotatedText();
+
+        int length = originalText.getLength();
+        int sentenceCount = originalText.getSentences().size();
+        Assertions.assertEquals(2 * length, streamedText.getLength());
+        Assertions.assertEquals(2 * sentenceCount, streamedText.getSentences().size());
+        for (int position = 0; position < length; position++) {
+            var word = originalText.getWords().get(position);
+            var firstCopy = streamedText.getWords().get(position);
+            var secondCopy = streamedText.getWords().get(length + position);
+            int copyPosition = length + position;
+            Assertions.assertAll(//
+                    () -> Assertions.assertEquals(word.getText(), firstCopy.getText()), //
+                    () -> Assertions.assertEquals(word.getText(), secondCopy.getText()), //
+                    () -> Assertions.assertEquals(word.getPosTag(), secondCopy.getPosTag()), //
+                    () -> Assertions.assertEquals(word.getLemma(), secondCopy.getLemma()), //
+                    () -> Assertions.assertEquals(copyPosition, secondCopy.getPosition()), //
+                    () -> Assertions.assertEquals(sentenceCount + word.getSentenceNo(), secondCopy.getSentenceNo()));
+            for (var dependencyTag : DependencyTag.values()) {
+                Assertions.assertEquals(word.getOutgoingDependencyWordsWithType(dependencyTag).collect(w -> length + w.getPosition()),
+                        secondCopy.getOutgoingDependencyWordsWithType(dependencyTag).collect(w -> w.getPosition()));
+            }
+        }
+    }
+
+    @Test
+    void annotationLayersAndParserTierTest() {
+        var input = "The TeaStore is a test application.\n\nThe WebUI shows the products.";
+        var withoutPhrases = new StreamingCoreNLPProvider(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), 10,
+                Sets.immutable.with(AnnotationLayer.POS_TAGS, AnnotationLayer.LEMMAS, AnnotationLayer.DEPENDENCIES), ParserTier.DEFAULT).getAnnotatedText();
+        var dependencyPhrases = new StreamingCoreNLPProvider(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), 10,
+                CoreNLPProvider.ALL_ANNOTATION_LAYERS, ParserTier.DEPENDENCIES_ONLY).getAnnotatedText();
+
+        Assertions.assertAll(//
+                () -> Assertions.assertEquals(2, withoutPhrases.getSentences().size()), //
+                () -> Assertions.assertTrue(withoutPhrases.getSentences().allSatisfy(sentence -> sentence.getPhrases().isEmpty())), //
+                () -> Assertions.assertEquals("test", withoutPhrases.getWords().get(4).getLemma()), //
+                () -> Assertions.assertEquals(PhraseType.ROOT, dependencyPhrases.getSentences().get(1).getPhrases().get(0).getPhraseType()), //
+                () -> Assertions.assertTrue(dependencyPhrases.getSentences()
+                        .get(0)
+                        .getPhrases()
+                        .anySatisfy(p -> p.getPhraseType() == PhraseType.NP && "The TeaStore".equals(p.getText()))));
+    }
+}
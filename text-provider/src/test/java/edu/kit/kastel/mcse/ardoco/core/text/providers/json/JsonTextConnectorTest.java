@@ -0,0 +1,96 @@
+/* Licensed under MIT 2022. */
+package edu.kit.kastel.mcse.ardoco.core.text.providers.json;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import edu.kit.kastel.mcse.ardoco.core.api.data.text.DependencyTag;
+import edu.kit.kastel.mcse.ardoco.core.text.providers.ITextConnector;
+import edu.kit.kastel.mcse.ardoco.core.text.providers.base.ProviderTest;
+
+class JsonTextConnectorTest extends ProviderTest {
+    protected static String inputText = "../tests/src/test/resources/benchmark/teastore/teastore.txt.json";
+
+    private static JsonTextConnector jsonTextConnector = null;
+
+    public static synchronized JsonTextConnector getJsonTextConnector() {
+        if (jsonTextConnector == null) {
+            try {
+                jsonTextConnector = new JsonTextConnector(new File(inputText));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return jsonTextConnector;
+    }
+
+    @Override
+    protected ITextConnector getProvider() {
+        return JsonTextConnectorTest.getJsonTextConnector();
+    }
+
+    @Test
+    void getAnnotatedTextByNameTest() {
+        var connector = getJsonTextConnector();
+        Assertions.assertAll(//
+                () -> Assertions.assertSame(connector.getAnnotatedText(), connector.getAnnotatedText("TEASTORE")), //
+                () -> Assertions.assertSame(connector.getAnnotatedText(), connector.getAnnotatedText("teastore")), //
+                () -> Assertions.assertNull(connector.getAnnotatedText("mediastore")));
+    }
+
+    @Test
+    void writeAndReadTest() throws IOException {
+        var text = getJsonTextConnector().getAnnotatedText();
+        var outputStream = new ByteArrayOutputStream();
+        JsonTextConnector.write("TEASTORE", text, outputStream);
+
+        var readText = new JsonTextConnector(new ByteArrayInputStream(outputStream.toByteArray())).getAnnotatedText("TEASTORE");
+        Assertions.assertEquals(text.getWords().size(), readText.getWords().size());
+        Assertions.assertEquals(text.getSentences().size(), readText.getSentences().size());
+        for (int i = 0; i < text.getWords().size(); i++) {
+            var word = text.getWords().get(i);
+            var readWord = readText.getWords().get(i);
+            Assertions.assertEquals(word, readWord);
+            Assertions.assertEquals(word.getLemma(), readWord.getLemma());
+            Assertions.assertEquals(word.getSentenceNo(), readWord.getSentenceNo());
+            for (var dependencyTag : DependencyTag.values()) {
+                Assertions.assertEquals(word.getOutgoingDependencyWordsWithType(dependencyTag), readWord.getOutgoingDependencyWordsWithType(dependencyTag));
+                Assertions.assertEquals(word.getIncomingDependencyWordsWithType(dependencyTag), readWord.getIncomingDependencyWordsWithType(dependencyTag));
+            }
+        }
+    }
+
+    @Test
+    void malformedInputTest() {
+        var missingPosition = "{\"texts\":{\"t\":{\"words\":[{\"sentenceNo\":0,\"text\":\"Store\",\"posTag\":\"NOUN\",\"lemma\":\"store\"}]}}}";
+        var gapInPositions = "{\"texts\":{\"t\":{\"words\":[" + word(0, "") + "," + word(2, "") + "]}}}";
+        var dependencyOutsideText = "{\"texts\":{\"t\":{\"words\":[" + word(0, "\"NSUBJ\":[1]") + "]}}}";
+        for (var input : new String[] { missingPosition, gapInPositions, dependencyOutsideText }) {
+            var connector = new JsonTextConnector(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)));
+            var exception = Assertions.assertThrows(IllegalStateException.class, connector::getAnnotatedText);
+            Assertions.assertInstanceOf(IOException.class, exception.getCause());
+        }
+    }
+
+    @Test
+    void emptyDependenciesTest() {
+        var input = "{\"texts\":{\"t\":{\"words\":[" + word(0, "\"NSUBJ\":[]") + "]}}}";
+        var word = new JsonTextConnector(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8))).getAnnotatedText().getWords().get(0);
+        Assertions.assertAll(//
+                () -> Assertions.assertFalse(word.hasOutgoingDependencyWithType(DependencyTag.NSUBJ)), //
+                () -> Assertions.assertFalse(word.hasIncomingDependencyWithType(DependencyTag.NSUBJ)), //
+                () -> Assertions.assertTrue(word.getOutgoingDependencyWordsWithType(DependencyTag.NSUBJ).isEmpty()));
+    }
+
+    private static String word(int position, String outgoingDependencies) {
+        return "{\"sentenceNo\":0,\"text\":\"Store\",\"posTag\":\"NOUN\",\"position\":" + position + ",\"lemma\":\"store\",\"outgoingDependencyWords\":{"
+                + outgoingDependencies + "},\"incomingDependencyWords\":{\"NSUBJ\":[]}}";
+    }
+}